@@ -18,6 +18,7 @@ bukkit {
     main = "dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin"
     version = project.version as String
     apiVersion = "1.13"
+    foliaSupported = true
     softDepend = listOf("Vault", "PlaceholderAPI")
     description = project.description
     author = "jaqobb"
@@ -53,6 +54,9 @@ tasks {
         exclude("com/cryptomorin/xseries/reflection/**")
         relocate("com.cryptomorin.xseries", "dev.jaqobb.rewardable_activities.library.xseries")
     }
+    test {
+        useJUnitPlatform()
+    }
 }
 
 repositories {
@@ -68,4 +72,14 @@ dependencies {
     compileOnly("net.milkbowl.vault:VaultAPI:1.7")
     compileOnly("me.clip:placeholderapi:2.11.6")
     implementation("com.github.cryptomorin:XSeries:11.3.0")
+    testImplementation("org.spigotmc:spigot-api:1.21.3-R0.1-SNAPSHOT")
+    testImplementation("net.milkbowl.vault:VaultAPI:1.7") {
+        isTransitive = false
+    }
+    testImplementation("me.clip:placeholderapi:2.11.6") {
+        isTransitive = false
+    }
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -7,7 +7,6 @@ public final class RewardableActivitiesConstants {
     public static final String PREFIX = ChatColor.GRAY + "Rewardable Activities" + ChatColor.GOLD + ChatColor.BOLD + " > ";
     
     public static final String BLOCK_BROKEN_BY_PLAYER_KEY = "rewardableactivities:broken_by_player";
-    public static final String BLOCK_PLACED_BY_PLAYER_KEY = "rewardableactivities:placed_by_player";
     
     public static final String ENTITY_BRED_BY_PLAYER_KEY = "rewardableactivities:bred_by_player";
     public static final String ENTITY_SPAWNED_BY_SPAWNER_KEY = "rewardableactivities:spawned_by_spawner";
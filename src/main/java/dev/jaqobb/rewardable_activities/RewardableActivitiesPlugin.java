@@ -1,60 +1,182 @@
 package dev.jaqobb.rewardable_activities;
 
+import dev.jaqobb.rewardable_activities.antifarm.AntiFarmManager;
+import dev.jaqobb.rewardable_activities.audit.RewardAuditLog;
 import dev.jaqobb.rewardable_activities.command.RewardableActivitiesCommand;
 import dev.jaqobb.rewardable_activities.command.RewardableActivitiesCommandTabCompleter;
+import dev.jaqobb.rewardable_activities.config.ConfigSnapshot;
+import dev.jaqobb.rewardable_activities.config.ConfigWatcher;
+import dev.jaqobb.rewardable_activities.cooldown.CooldownStore;
+import dev.jaqobb.rewardable_activities.curve.RewardCurve;
+import dev.jaqobb.rewardable_activities.curve.RewardCurveManager;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import dev.jaqobb.rewardable_activities.data.EntityDamageLedger;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
+import dev.jaqobb.rewardable_activities.data.EntityStackResolver;
 import dev.jaqobb.rewardable_activities.data.RewardLimiterData;
+import dev.jaqobb.rewardable_activities.data.RewardableActivity;
 import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityType;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.io.IoExecutor;
+import dev.jaqobb.rewardable_activities.io.IoQueue;
+import dev.jaqobb.rewardable_activities.listener.ListenerRegistry;
 import dev.jaqobb.rewardable_activities.listener.block.BlockBreakListener;
 import dev.jaqobb.rewardable_activities.listener.block.BlockExplodeListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockFormListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockHarvestListener;
 import dev.jaqobb.rewardable_activities.listener.block.BlockPistonExtendListener;
 import dev.jaqobb.rewardable_activities.listener.block.BlockPistonRetractListener;
 import dev.jaqobb.rewardable_activities.listener.block.BlockPlaceListener;
 import dev.jaqobb.rewardable_activities.listener.entity.EntityBreedListener;
+import dev.jaqobb.rewardable_activities.listener.entity.EntityChangeBlockListener;
 import dev.jaqobb.rewardable_activities.listener.entity.EntityDamageByEntityListener;
+import dev.jaqobb.rewardable_activities.listener.entity.EntityDeathListener;
 import dev.jaqobb.rewardable_activities.listener.entity.EntityExplodeListener;
+import dev.jaqobb.rewardable_activities.listener.entity.EntityRemoveListener;
 import dev.jaqobb.rewardable_activities.listener.entity.SpawnerSpawnListener;
+import dev.jaqobb.rewardable_activities.listener.inventory.CraftItemListener;
+import dev.jaqobb.rewardable_activities.listener.inventory.EnchantItemListener;
+import dev.jaqobb.rewardable_activities.listener.inventory.FurnaceExtractListener;
+import dev.jaqobb.rewardable_activities.listener.inventory.TradeListener;
+import dev.jaqobb.rewardable_activities.listener.player.AsyncPlayerChatListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerAdvancementDoneListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerBucketEmptyListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerBucketFillListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerCommandPreprocessListener;
 import dev.jaqobb.rewardable_activities.listener.player.PlayerFishListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerInteractListener;
 import dev.jaqobb.rewardable_activities.listener.player.PlayerJoinListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerMoveListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerQuitListener;
 import dev.jaqobb.rewardable_activities.listener.plugin.PluginDisableListener;
 import dev.jaqobb.rewardable_activities.listener.plugin.PluginEnableListener;
+import dev.jaqobb.rewardable_activities.listener.world.EntitiesLoadListener;
+import dev.jaqobb.rewardable_activities.listener.world.EntitiesUnloadListener;
+import dev.jaqobb.rewardable_activities.listener.world.StructureGrowListener;
+import dev.jaqobb.rewardable_activities.listener.world.WorldUnloadListener;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierSchedule;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierTimeline;
+import dev.jaqobb.rewardable_activities.placeholder.PlaceholderCache;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import dev.jaqobb.rewardable_activities.scheduler.FoliaRewardableActivitiesScheduler;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import dev.jaqobb.rewardable_activities.statistics.StatisticsPlaceholderExpansion;
+import dev.jaqobb.rewardable_activities.statistics.StatisticsStore;
+import dev.jaqobb.rewardable_activities.threshold.ThresholdCounterStore;
+import dev.jaqobb.rewardable_activities.trace.RewardTracer;
 import dev.jaqobb.rewardable_activities.updater.Updater;
 import dev.jaqobb.rewardable_activities.util.TimeUtils;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.ChatColor;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.metadata.Metadatable;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import java.io.File;
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.logging.Level;
 
 public class RewardableActivitiesPlugin extends JavaPlugin {
     
-    private boolean rewardLimiterEnabled;
-    private int rewardLimiterLimit;
-    private String rewardLimiterLimitReachedMessage;
-    private Instant rewardLimiterCooldown;
+    private volatile boolean rewardLimiterEnabled;
+    private volatile int rewardLimiterLimit;
+    private volatile String rewardLimiterLimitReachedMessage;
+    private volatile Instant rewardLimiterCooldown;
     private Map<UUID, RewardLimiterData> rewardLimiterData;
-    private boolean blockBreakOwnershipCheckEnabled;
-    private boolean blockPlaceOwnershipCheckEnabled;
-    private boolean entityBreedOwnershipCheckEnabled;
-    private boolean entitySpawnerOwnershipCheckEnabled;
+    private volatile AntiFarmManager antiFarmManager;
+    private RewardCurveManager rewardCurveManager;
+    private boolean auditLogEnabled;
+    private int auditLogBufferSize;
+    private int auditLogSegmentSize;
+    private Instant auditLogRotation;
+    private volatile RewardAuditLog auditLog;
+    private boolean statisticsEnabled;
+    private Instant statisticsSaveInterval;
+    private int statisticsLeaderboardSize;
+    private volatile StatisticsStore statisticsStore;
+    private Instant thresholdSaveInterval;
+    private volatile ThresholdCounterStore thresholdCounterStore;
+    private boolean placeholderCacheEnabled;
+    private Instant placeholderCacheDefaultTtl;
+    private Map<String, Long> placeholderCacheTtls;
+    private Instant placeholderCachePreWarmInterval;
+    private volatile PlaceholderCache placeholderCache;
+    private boolean playtimeEnabled;
+    private Instant playtimeAfkTimeout;
+    private volatile PlaytimeTracker playtimeTracker;
+    private List<MultiplierSchedule> multiplierSchedules;
+    private ZoneId multiplierSchedulesTimezone;
+    private volatile MultiplierTimeline multiplierTimeline;
+    private boolean autoReloadEnabled;
+    private Instant autoReloadDebounce;
+    private ConfigWatcher configWatcher;
+    private boolean placeholderExpansionRegistered;
+    private volatile boolean blockBreakOwnershipCheckEnabled;
+    private volatile boolean blockPlaceOwnershipCheckEnabled;
+    private volatile boolean entityBreedOwnershipCheckEnabled;
+    private volatile boolean entitySpawnerOwnershipCheckEnabled;
+    private volatile boolean entityKillAssistsEnabled;
+    private volatile double entityKillAssistMinimumShare;
+    private volatile Instant entityKillAssistWindow;
+    private volatile EntityStackResolver entityStackResolver;
+    private volatile boolean entityStackingWholeStackEnabled;
+    private volatile boolean entityStackingMergeDeathsEnabled;
+    private EntityProvenanceStore entityProvenanceStore;
+    private EntityDamageLedger entityDamageLedger;
+    private BlockOwnershipStore blockOwnershipStore;
+    private CooldownStore cooldownStore;
+    private RewardTracer rewardTracer;
+    private ListenerRegistry listenerRegistry;
+    private IoExecutor ioExecutor;
     private RewardableActivityRepository repository;
-    private boolean placeholderApiPresent;
+    private RewardableActivitiesService service;
+    private volatile boolean placeholderApiPresent;
+    private RewardableActivitiesScheduler scheduler;
     private Updater updater;
-    private Economy economy;
+    private volatile Economy economy;
+    
+    public RewardableActivitiesPlugin() {
+    }
+    
+    RewardableActivitiesPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
     
     @Override
     public void onLoad() {
+        this.rewardLimiterData = new ConcurrentHashMap<>(16);
+        this.rewardCurveManager = new RewardCurveManager();
+        this.entityProvenanceStore = new EntityProvenanceStore();
+        this.entityDamageLedger = new EntityDamageLedger();
+        this.blockOwnershipStore = new BlockOwnershipStore();
+        this.cooldownStore = new CooldownStore(this);
+        this.rewardTracer = new RewardTracer(activityIndex -> this.repository.getActivityId(activityIndex));
+        this.service = new RewardableActivitiesService(this);
         this.saveDefaultConfig();
         this.loadConfig(false);
         PluginManager pluginManager = this.getServer().getPluginManager();
@@ -64,9 +186,20 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
     
     @Override
     public void onEnable() {
+        this.scheduler = RewardableActivitiesScheduler.create(this);
+        this.getLogger().log(Level.INFO, "Scheduler: " + this.scheduler.getName() + ".");
+        this.ioExecutor = new IoExecutor(this.getLogger());
         this.getLogger().log(Level.INFO, "Starting updater...");
         this.updater = new Updater(this, 86090);
-        this.getServer().getScheduler().runTaskTimerAsynchronously(this, this.updater, 0L, 20L * 60L * 60L);
+        IoQueue updaterQueue = this.ioExecutor.getQueue("updater", 1, 1);
+        this.scheduler.runAsyncTimer(() -> updaterQueue.offer(this.updater::run), 0L, 20L * 60L * 60L);
+        this.setupAuditLog();
+        this.setupStatisticsStore();
+        this.setupThresholdCounterStore();
+        this.setupPlaceholderCache();
+        this.setupPlaytimeTracker();
+        this.setupMultiplierTimeline();
+        this.setupConfigWatcher();
         this.economy = this.setupEconomy();
         if (this.economy != null) {
             this.getLogger().log(Level.INFO, "Economy has been successfully setup.");
@@ -77,24 +210,100 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
         this.getLogger().log(Level.INFO, "Registering command...");
         this.getCommand("rewardable-activities").setExecutor(new RewardableActivitiesCommand(this));
         this.getCommand("rewardable-activities").setTabCompleter(new RewardableActivitiesCommandTabCompleter());
+        this.getServer().getServicesManager().register(RewardableActivitiesService.class, this.service, this, ServicePriority.Normal);
         this.getLogger().log(Level.INFO, "Registering listeners...");
-        PluginManager pluginManager = this.getServer().getPluginManager();
-        pluginManager.registerEvents(new BlockBreakListener(this), this);
-        pluginManager.registerEvents(new BlockExplodeListener(this), this);
-        pluginManager.registerEvents(new BlockPistonExtendListener(this), this);
-        pluginManager.registerEvents(new BlockPistonRetractListener(this), this);
-        pluginManager.registerEvents(new BlockPlaceListener(this), this);
-        pluginManager.registerEvents(new EntityBreedListener(this), this);
-        pluginManager.registerEvents(new EntityDamageByEntityListener(this), this);
-        pluginManager.registerEvents(new EntityExplodeListener(this), this);
-        pluginManager.registerEvents(new SpawnerSpawnListener(this), this);
-        pluginManager.registerEvents(new PlayerFishListener(this), this);
-        pluginManager.registerEvents(new PlayerJoinListener(this), this);
-        pluginManager.registerEvents(new PluginDisableListener(this), this);
-        pluginManager.registerEvents(new PluginEnableListener(this), this);
+        this.listenerRegistry = new ListenerRegistry(this);
+        this.listenerRegistry
+            .add(new BlockBreakListener(this), () -> this.hasActivities(RewardableActivityTypes.BLOCK_BREAK) || (this.blockPlaceOwnershipCheckEnabled && this.hasActivities(RewardableActivityTypes.BLOCK_PLACE)))
+            .add(new BlockExplodeListener(this), this::isBlockOwnershipTracked)
+            .add(new BlockFormListener(this), this::isBlockOwnershipTracked)
+            .add(new BlockHarvestListener(this), () -> this.hasActivities(RewardableActivityTypes.BLOCK_HARVEST))
+            .add(new BlockPistonExtendListener(this), this::isBlockOwnershipTracked)
+            .add(new BlockPistonRetractListener(this), this::isBlockOwnershipTracked)
+            .add(new BlockPlaceListener(this), () -> this.hasActivities(RewardableActivityTypes.BLOCK_PLACE) || this.isBlockOwnershipTracked())
+            .add(new EntityBreedListener(this), () -> this.hasActivities(RewardableActivityTypes.ENTITY_BREED) || (this.entityBreedOwnershipCheckEnabled && this.hasActivities(RewardableActivityTypes.ENTITY_KILL)))
+            .add(new EntityChangeBlockListener(this), this::isBlockOwnershipTracked)
+            .add(new EntityDamageByEntityListener(this), () -> this.hasActivities(RewardableActivityTypes.ENTITY_KILL))
+            .add(new EntityDeathListener(this), () -> this.hasActivities(RewardableActivityTypes.ENTITY_KILL))
+            .add(new EntityExplodeListener(this), this::isBlockOwnershipTracked);
+        if (this.isClassPresent("org.bukkit.event.entity.EntityRemoveEvent")) {
+            this.listenerRegistry.add(new EntityRemoveListener(this), this::isEntityProvenanceTracked);
+        }
+        this.listenerRegistry
+            .add(new EntitiesLoadListener(this), this::isEntityProvenanceTracked, this::loadEntityProvenance)
+            .add(new EntitiesUnloadListener(this), this::isEntityProvenanceTracked)
+            .add(new StructureGrowListener(this), this::isBlockOwnershipTracked)
+            .add(new WorldUnloadListener(this), this::isBlockOwnershipTracked)
+            .add(new SpawnerSpawnListener(this), () -> this.entitySpawnerOwnershipCheckEnabled && this.hasActivities(RewardableActivityTypes.ENTITY_KILL))
+            .add(new CraftItemListener(this), () -> this.hasActivities(RewardableActivityTypes.ITEM_CRAFT))
+            .add(new EnchantItemListener(this), () -> this.hasActivities(RewardableActivityTypes.ITEM_ENCHANT))
+            .add(new FurnaceExtractListener(this), () -> this.hasActivities(RewardableActivityTypes.ITEM_SMELT))
+            .add(new TradeListener(this), () -> this.hasActivities(RewardableActivityTypes.ITEM_TRADE))
+            .add(new AsyncPlayerChatListener(this), () -> this.playtimeTracker != null)
+            .add(new PlayerAdvancementDoneListener(this), () -> this.hasActivities(RewardableActivityTypes.PLAYER_ADVANCEMENT))
+            .add(new PlayerBucketEmptyListener(this), this::isBlockOwnershipTracked)
+            .add(new PlayerBucketFillListener(this), this::isBlockOwnershipTracked)
+            .add(new PlayerCommandPreprocessListener(this), () -> this.playtimeTracker != null)
+            .add(new PlayerFishListener(this), () -> this.hasActivities(RewardableActivityTypes.ITEM_FISH))
+            .add(new PlayerInteractListener(this), () -> this.playtimeTracker != null)
+            .add(new PlayerJoinListener(this))
+            .add(new PlayerMoveListener(this), () -> this.playtimeTracker != null)
+            .add(new PlayerQuitListener(this))
+            .add(new PluginDisableListener(this))
+            .add(new PluginEnableListener(this));
+        this.updateListeners();
+        if (this.placeholderApiPresent) {
+            this.registerPlaceholderExpansion();
+        }
+    }
+    
+    @Override
+    public void onDisable() {
+        this.getServer().getServicesManager().unregisterAll(this);
+        if (this.scheduler != null) {
+            this.scheduler.cancelAllTasks();
+        }
+        if (this.auditLog != null) {
+            this.auditLog.stop();
+            this.auditLog = null;
+        }
+        if (this.statisticsStore != null) {
+            this.statisticsStore.stop();
+            this.statisticsStore = null;
+        }
+        if (this.thresholdCounterStore != null) {
+            this.thresholdCounterStore.stop();
+            this.thresholdCounterStore = null;
+        }
+        if (this.placeholderCache != null) {
+            this.placeholderCache.stop();
+            this.placeholderCache = null;
+        }
+        if (this.playtimeTracker != null) {
+            this.playtimeTracker.stop();
+            this.playtimeTracker = null;
+        }
+        if (this.multiplierTimeline != null) {
+            this.multiplierTimeline.stop();
+            this.multiplierTimeline = null;
+        }
+        if (this.configWatcher != null) {
+            this.configWatcher.stop();
+            this.configWatcher = null;
+        }
+        if (this.ioExecutor != null) {
+            if (!this.ioExecutor.shutdown(10000L)) {
+                this.getLogger().log(Level.WARNING, "Background I/O could not be finished in time.");
+            }
+            this.ioExecutor = null;
+        }
     }
     
     public void loadConfig(boolean reload) {
+        this.loadConfig(reload, null);
+    }
+    
+    public void loadConfig(boolean reload, ConfigSnapshot snapshot) {
         this.getLogger().log(Level.INFO, (reload ? "Rel" : "L") + "oading configuration...");
         this.rewardLimiterEnabled = this.getConfig().getBoolean("general.reward-limiter.enabled", false);
         this.rewardLimiterLimitReachedMessage = ChatColor.translateAlternateColorCodes('&', this.getConfig().getString("general.reward-limiter.limit-reached-message", "&cYou have reached the reward limit. You have to wait for a while before you can receive more rewards."));
@@ -110,22 +319,260 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
         if (this.rewardLimiterEnabled) {
             this.getLogger().log(Level.INFO, " * Limit: " + this.rewardLimiterLimit);
             this.getLogger().log(Level.INFO, " * Cooldown: " + this.rewardLimiterCooldown.toEpochMilli() + " ms (" + rewardLimiterCooldown + ")");
-            this.rewardLimiterData = new HashMap<>();
+        }
+        this.rewardLimiterData.clear();
+        String rewardCurveHalfLife = this.getConfig().getString("general.reward-curve.half-life", "10m");
+        Instant rewardCurveHalfLifeTime = TimeUtils.parse(rewardCurveHalfLife);
+        if (rewardCurveHalfLifeTime == null || rewardCurveHalfLifeTime.toEpochMilli() < 1L) {
+            this.getLogger().log(Level.WARNING, "Reward curve half-life was not properly configured. As such, it will be set to 10 minutes.");
+            rewardCurveHalfLifeTime = Instant.ofEpochMilli(10L * 60L * 1000L);
+        }
+        this.rewardCurveManager.setHalfLife(rewardCurveHalfLifeTime.toEpochMilli());
+        this.getLogger().log(Level.INFO, "Reward curve:");
+        this.getLogger().log(Level.INFO, " * Half-life: " + rewardCurveHalfLifeTime.toEpochMilli() + " ms (" + rewardCurveHalfLife + ")");
+        boolean antiFarmEnabled = this.getConfig().getBoolean("general.anti-farm.enabled", false);
+        int antiFarmWindow = this.getConfig().getInt("general.anti-farm.window", 64);
+        int antiFarmAreaSize = this.getConfig().getInt("general.anti-farm.area-size", 4);
+        int antiFarmThreshold = this.getConfig().getInt("general.anti-farm.threshold", 16);
+        double antiFarmFactor = this.getConfig().getDouble("general.anti-farm.factor", 0.9D);
+        double antiFarmMinimumMultiplier = this.getConfig().getDouble("general.anti-farm.minimum-multiplier", 0.0D);
+        if (antiFarmWindow < 1 || antiFarmWindow > 4096 || antiFarmAreaSize < 1 || antiFarmAreaSize > 1024 || antiFarmThreshold < 0 || antiFarmFactor < 0.0D || antiFarmFactor > 1.0D || antiFarmMinimumMultiplier < 0.0D || antiFarmMinimumMultiplier > 1.0D) {
+            this.getLogger().log(Level.WARNING, "Anti-farm was not properly configured. As such, it will be disabled.");
+            antiFarmEnabled = false;
+        }
+        this.antiFarmManager = antiFarmEnabled ? new AntiFarmManager(antiFarmWindow, antiFarmAreaSize, antiFarmThreshold, antiFarmFactor, antiFarmMinimumMultiplier) : null;
+        this.getLogger().log(Level.INFO, "Anti-farm:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (antiFarmEnabled ? "yes" : "no"));
+        if (antiFarmEnabled) {
+            this.getLogger().log(Level.INFO, " * Window: " + antiFarmWindow);
+            this.getLogger().log(Level.INFO, " * Area size: " + this.antiFarmManager.getAreaSize());
+            this.getLogger().log(Level.INFO, " * Threshold: " + antiFarmThreshold);
+            this.getLogger().log(Level.INFO, " * Factor: " + antiFarmFactor);
+            this.getLogger().log(Level.INFO, " * Minimum multiplier: " + antiFarmMinimumMultiplier);
+        }
+        this.auditLogEnabled = this.getConfig().getBoolean("general.audit-log.enabled", false);
+        this.auditLogBufferSize = this.getConfig().getInt("general.audit-log.buffer-size", 8192);
+        this.auditLogSegmentSize = this.getConfig().getInt("general.audit-log.segment-size", 16);
+        String auditLogRotation = this.getConfig().getString("general.audit-log.rotation", "1h");
+        this.auditLogRotation = TimeUtils.parse(auditLogRotation);
+        if (this.auditLogBufferSize < 1 || this.auditLogSegmentSize < 1 || this.auditLogSegmentSize > 1024 || this.auditLogRotation == null) {
+            this.getLogger().log(Level.WARNING, "Audit log was not properly configured. As such, it will be disabled.");
+            this.auditLogEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Audit log:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.auditLogEnabled ? "yes" : "no"));
+        if (this.auditLogEnabled) {
+            this.getLogger().log(Level.INFO, " * Buffer size: " + this.auditLogBufferSize);
+            this.getLogger().log(Level.INFO, " * Segment size: " + this.auditLogSegmentSize + " MB");
+            this.getLogger().log(Level.INFO, " * Rotation: " + this.auditLogRotation.toEpochMilli() + " ms (" + auditLogRotation + ")");
+        }
+        this.statisticsEnabled = this.getConfig().getBoolean("general.statistics.enabled", false);
+        String statisticsSaveInterval = this.getConfig().getString("general.statistics.save-interval", "5m");
+        this.statisticsSaveInterval = TimeUtils.parse(statisticsSaveInterval);
+        this.statisticsLeaderboardSize = this.getConfig().getInt("general.statistics.leaderboard-size", 10);
+        if (this.statisticsSaveInterval == null || this.statisticsSaveInterval.toEpochMilli() < 1000L || this.statisticsLeaderboardSize < 1) {
+            this.getLogger().log(Level.WARNING, "Statistics were not properly configured. As such, they will be disabled.");
+            this.statisticsEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Statistics:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.statisticsEnabled ? "yes" : "no"));
+        if (this.statisticsEnabled) {
+            this.getLogger().log(Level.INFO, " * Save interval: " + this.statisticsSaveInterval.toEpochMilli() + " ms (" + statisticsSaveInterval + ")");
+            this.getLogger().log(Level.INFO, " * Leaderboard size: " + this.statisticsLeaderboardSize);
+        }
+        String thresholdSaveInterval = this.getConfig().getString("general.thresholds.save-interval", "1m");
+        this.thresholdSaveInterval = TimeUtils.parse(thresholdSaveInterval);
+        if (this.thresholdSaveInterval == null || this.thresholdSaveInterval.toEpochMilli() < 1000L) {
+            this.getLogger().log(Level.WARNING, "Threshold counters were not properly configured. As such, they will be saved every minute.");
+            thresholdSaveInterval = "1m";
+            this.thresholdSaveInterval = Instant.ofEpochMilli(60000L);
+        }
+        this.getLogger().log(Level.INFO, "Threshold counters:");
+        this.getLogger().log(Level.INFO, " * Save interval: " + this.thresholdSaveInterval.toEpochMilli() + " ms (" + thresholdSaveInterval + ")");
+        this.placeholderCacheEnabled = this.getConfig().getBoolean("general.placeholder-cache.enabled", false);
+        String placeholderCacheDefaultTtl = this.getConfig().getString("general.placeholder-cache.default-ttl", "5s");
+        this.placeholderCacheDefaultTtl = TimeUtils.parse(placeholderCacheDefaultTtl);
+        this.placeholderCacheTtls = new HashMap<>(16);
+        ConfigurationSection placeholderCacheTtlsSection = this.getConfig().getConfigurationSection("general.placeholder-cache.ttls");
+        if (placeholderCacheTtlsSection != null) {
+            for (String placeholder : placeholderCacheTtlsSection.getKeys(false)) {
+                Instant placeholderCacheTtl = TimeUtils.parse(placeholderCacheTtlsSection.getString(placeholder, ""));
+                if (placeholderCacheTtl == null) {
+                    this.getLogger().log(Level.WARNING, "Placeholder cache TTL of " + placeholder + " was not properly configured. As such, the default TTL will be used.");
+                    continue;
+                }
+                this.placeholderCacheTtls.put(placeholder.toLowerCase(), placeholderCacheTtl.toEpochMilli());
+            }
+        }
+        boolean placeholderCachePreWarmEnabled = this.getConfig().getBoolean("general.placeholder-cache.pre-warm.enabled", false);
+        String placeholderCachePreWarmInterval = this.getConfig().getString("general.placeholder-cache.pre-warm.interval", "5s");
+        this.placeholderCachePreWarmInterval = placeholderCachePreWarmEnabled ? TimeUtils.parse(placeholderCachePreWarmInterval) : null;
+        if (this.placeholderCacheDefaultTtl == null || (placeholderCachePreWarmEnabled && (this.placeholderCachePreWarmInterval == null || this.placeholderCachePreWarmInterval.toEpochMilli() < 50L))) {
+            this.getLogger().log(Level.WARNING, "Placeholder cache was not properly configured. As such, it will be disabled.");
+            this.placeholderCacheEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Placeholder cache:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.placeholderCacheEnabled ? "yes" : "no"));
+        if (this.placeholderCacheEnabled) {
+            this.getLogger().log(Level.INFO, " * Default TTL: " + this.placeholderCacheDefaultTtl.toEpochMilli() + " ms (" + placeholderCacheDefaultTtl + ")");
+            this.getLogger().log(Level.INFO, " * TTLs: " + this.placeholderCacheTtls.size());
+            this.getLogger().log(Level.INFO, " * Pre-warm: " + (this.placeholderCachePreWarmInterval != null ? this.placeholderCachePreWarmInterval.toEpochMilli() + " ms (" + placeholderCachePreWarmInterval + ")" : "no"));
+        }
+        this.playtimeEnabled = this.getConfig().getBoolean("general.playtime.enabled", true);
+        String playtimeAfkTimeout = this.getConfig().getString("general.playtime.afk-timeout", "5m");
+        this.playtimeAfkTimeout = TimeUtils.parse(playtimeAfkTimeout);
+        if (this.playtimeAfkTimeout == null) {
+            this.getLogger().log(Level.WARNING, "Playtime was not properly configured. As such, it will be disabled.");
+            this.playtimeEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Playtime:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.playtimeEnabled ? "yes" : "no"));
+        if (this.playtimeEnabled) {
+            this.getLogger().log(Level.INFO, " * AFK timeout: " + (this.playtimeAfkTimeout.toEpochMilli() > 0L ? this.playtimeAfkTimeout.toEpochMilli() + " ms (" + playtimeAfkTimeout + ")" : "no"));
+        }
+        int tracingSampleRate = this.getConfig().getInt("general.tracing.sample-rate", 0);
+        int tracingBufferSize = this.getConfig().getInt("general.tracing.buffer-size", 256);
+        if (tracingSampleRate < 0 || tracingBufferSize < 16) {
+            this.getLogger().log(Level.WARNING, "Tracing was not properly configured. As such, sampling will be disabled and 256 steps will be kept per thread.");
+            tracingSampleRate = 0;
+            tracingBufferSize = 256;
+        }
+        this.rewardTracer.configure(tracingSampleRate, tracingBufferSize);
+        this.getLogger().log(Level.INFO, "Tracing:");
+        this.getLogger().log(Level.INFO, " * Sample rate: " + (tracingSampleRate > 0 ? "1 in " + tracingSampleRate : "no"));
+        this.getLogger().log(Level.INFO, " * Buffer size: " + tracingBufferSize);
+        this.autoReloadEnabled = this.getConfig().getBoolean("general.auto-reload.enabled", false);
+        String autoReloadDebounce = this.getConfig().getString("general.auto-reload.debounce", "1s");
+        this.autoReloadDebounce = TimeUtils.parse(autoReloadDebounce);
+        if (this.autoReloadDebounce == null) {
+            this.getLogger().log(Level.WARNING, "Auto reload was not properly configured. As such, it will be disabled.");
+            this.autoReloadEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Auto reload:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.autoReloadEnabled ? "yes" : "no"));
+        if (this.autoReloadEnabled) {
+            this.getLogger().log(Level.INFO, " * Debounce: " + this.autoReloadDebounce.toEpochMilli() + " ms (" + autoReloadDebounce + ")");
         }
         this.blockBreakOwnershipCheckEnabled = this.getConfig().getBoolean("block.ownership-check.break", this.getConfig().getBoolean("block.ownership-check.place", this.getConfig().getBoolean("block.ownership-check")));
         this.blockPlaceOwnershipCheckEnabled = this.getConfig().getBoolean("block.ownership-check.place", true);
         this.entityBreedOwnershipCheckEnabled = this.getConfig().getBoolean("entity.ownership-check.breed", this.getConfig().getBoolean("entity.ownership-check", true));
         this.entitySpawnerOwnershipCheckEnabled = this.getConfig().getBoolean("entity.ownership-check.spawner", true);
+        this.entityKillAssistsEnabled = this.getConfig().getBoolean("entity.kill-assists.enabled", false);
+        this.entityKillAssistMinimumShare = this.getConfig().getDouble("entity.kill-assists.minimum-share", 0.25D);
+        String entityKillAssistWindow = this.getConfig().getString("entity.kill-assists.window", "5s");
+        this.entityKillAssistWindow = TimeUtils.parse(entityKillAssistWindow);
+        if (this.entityKillAssistsEnabled && (this.entityKillAssistMinimumShare <= 0.0D || this.entityKillAssistMinimumShare > 1.0D || this.entityKillAssistWindow == null || this.entityKillAssistWindow.toEpochMilli() <= 0L)) {
+            this.getLogger().log(Level.WARNING, "Entity kill assists were not properly configured. As such, they will be disabled.");
+            this.entityKillAssistsEnabled = false;
+        }
+        this.getLogger().log(Level.INFO, "Entity kill assists:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (this.entityKillAssistsEnabled ? "yes" : "no"));
+        if (this.entityKillAssistsEnabled) {
+            this.getLogger().log(Level.INFO, " * Minimum share: " + this.entityKillAssistMinimumShare);
+            this.getLogger().log(Level.INFO, " * Window: " + this.entityKillAssistWindow.toEpochMilli() + " ms (" + entityKillAssistWindow + ")");
+        }
+        this.entityStackResolver = null;
+        this.entityStackingWholeStackEnabled = false;
+        this.entityStackingMergeDeathsEnabled = false;
+        boolean entityStackingEnabled = this.getConfig().getBoolean("entity.stacking.enabled", false);
+        if (entityStackingEnabled) {
+            List<NamespacedKey> entityStackingPersistentDataKeys = new ArrayList<>();
+            for (String key : this.getConfig().getStringList("entity.stacking.persistent-data-keys")) {
+                NamespacedKey namespacedKey = NamespacedKey.fromString(key);
+                if (namespacedKey == null) {
+                    this.getLogger().log(Level.WARNING, "Invalid entity stacking persistent data key: " + key + ".");
+                    continue;
+                }
+                entityStackingPersistentDataKeys.add(namespacedKey);
+            }
+            Pattern entityStackingNamePattern = null;
+            String entityStackingNamePatternString = this.getConfig().getString("entity.stacking.name-pattern", "");
+            if (entityStackingNamePatternString != null && !entityStackingNamePatternString.isEmpty()) {
+                try {
+                    entityStackingNamePattern = Pattern.compile(entityStackingNamePatternString);
+                    if (entityStackingNamePattern.matcher("").groupCount() < 1) {
+                        this.getLogger().log(Level.WARNING, "Entity stacking name pattern has no capturing group. As such, it will be ignored.");
+                        entityStackingNamePattern = null;
+                    }
+                } catch (PatternSyntaxException exception) {
+                    this.getLogger().log(Level.WARNING, "Invalid entity stacking name pattern: " + exception.getMessage());
+                }
+            }
+            int entityStackingMaximumSize = this.getConfig().getInt("entity.stacking.maximum-size", 10000);
+            if (entityStackingMaximumSize < 1) {
+                this.getLogger().log(Level.WARNING, "Entity stacking was not properly configured. As such, it will be disabled.");
+                entityStackingEnabled = false;
+            } else {
+                this.entityStackResolver = new EntityStackResolver(this.getConfig().getStringList("entity.stacking.metadata-keys"), entityStackingPersistentDataKeys, entityStackingNamePattern, entityStackingMaximumSize);
+                String entityStackingMode = this.getConfig().getString("entity.stacking.mode", "per-death");
+                if (!entityStackingMode.equalsIgnoreCase("per-death") && !entityStackingMode.equalsIgnoreCase("whole-stack")) {
+                    this.getLogger().log(Level.WARNING, "Entity stacking mode was not properly configured. As such, every death will count as a single mob.");
+                }
+                this.entityStackingWholeStackEnabled = entityStackingMode.equalsIgnoreCase("whole-stack");
+                this.entityStackingMergeDeathsEnabled = this.getConfig().getBoolean("entity.stacking.merge-deaths", true);
+            }
+        }
+        this.getLogger().log(Level.INFO, "Entity stacking:");
+        this.getLogger().log(Level.INFO, " * Enabled: " + (entityStackingEnabled ? "yes" : "no"));
+        if (entityStackingEnabled) {
+            this.getLogger().log(Level.INFO, " * Mode: " + (this.entityStackingWholeStackEnabled ? "whole-stack" : "per-death"));
+            this.getLogger().log(Level.INFO, " * Maximum size: " + this.entityStackResolver.getMaximumSize());
+            this.getLogger().log(Level.INFO, " * Merge deaths: " + (this.entityStackingMergeDeathsEnabled ? "yes" : "no"));
+        }
         if (this.repository == null) {
             this.repository = new RewardableActivityRepository(this);
         }
-        this.repository.loadAllActivities(reload);
+        ConfigSnapshot configSnapshot = snapshot != null ? snapshot : this.compileConfig(this.getConfig());
+        this.repository.apply(configSnapshot.activities());
         this.getLogger().log(Level.INFO, "Rewardable activities:");
-        this.getLogger().log(Level.INFO, " * Block break: " + this.repository.getBlockBreakActivities().size());
-        this.getLogger().log(Level.INFO, " * Block place: " + this.repository.getBlockPlaceActivities().size());
-        this.getLogger().log(Level.INFO, " * Entity kill: " + this.repository.getEntityKillActivities().size());
-        this.getLogger().log(Level.INFO, " * Entity breed: " + this.repository.getEntityBreedActivities().size());
-        this.getLogger().log(Level.INFO, " * Item fish: " + this.repository.getItemFishActivities().size());
+        for (RewardableActivityType<?> type : this.repository.getTypes()) {
+            this.getLogger().log(Level.INFO, " * " + type.getName() + ": " + this.repository.getActivities(type).size());
+        }
+        this.getLogger().log(Level.INFO, " * Regions: " + this.repository.getRegionIndex().getRegionCount());
+        this.multiplierSchedulesTimezone = configSnapshot.multiplierSchedulesTimezone();
+        this.multiplierSchedules = configSnapshot.multiplierSchedules();
+        this.getLogger().log(Level.INFO, "Scheduled multipliers:");
+        this.getLogger().log(Level.INFO, " * Schedules: " + this.multiplierSchedules.size());
+        this.getLogger().log(Level.INFO, " * Timezone: " + this.multiplierSchedulesTimezone.getId());
+        if (reload) {
+            this.setupAuditLog();
+            this.setupStatisticsStore();
+            this.setupThresholdCounterStore();
+            this.setupPlaceholderCache();
+            this.setupPlaytimeTracker();
+            this.setupMultiplierTimeline(configSnapshot.multiplierTimeline());
+            this.setupConfigWatcher();
+            this.updateListeners();
+        }
+    }
+    
+    public ConfigSnapshot compileConfig(ConfigurationSection config) {
+        RewardableActivityRepository.Snapshot activities = this.repository.compile(config);
+        String multiplierSchedulesTimezoneId = config.getString("general.scheduled-multipliers.timezone", "");
+        ZoneId multiplierSchedulesTimezone;
+        try {
+            multiplierSchedulesTimezone = multiplierSchedulesTimezoneId.isEmpty() ? ZoneId.systemDefault() : ZoneId.of(multiplierSchedulesTimezoneId);
+        } catch (DateTimeException exception) {
+            this.getLogger().log(Level.WARNING, "Timezone of scheduled multipliers was not properly configured. As such, the server timezone will be used.");
+            multiplierSchedulesTimezone = ZoneId.systemDefault();
+        }
+        List<MultiplierSchedule> multiplierSchedules = new ArrayList<>();
+        ConfigurationSection multiplierSchedulesSection = config.getConfigurationSection("general.scheduled-multipliers.schedules");
+        if (multiplierSchedulesSection != null) {
+            for (String name : multiplierSchedulesSection.getKeys(false)) {
+                try {
+                    multiplierSchedules.add(MultiplierSchedule.load(name, multiplierSchedulesSection.getConfigurationSection(name), this.repository));
+                } catch (IllegalArgumentException exception) {
+                    this.getLogger().log(Level.WARNING, "Scheduled multiplier " + name + " is not properly configured (" + exception.getMessage() + "). As such, it will be ignored.");
+                }
+            }
+        }
+        MultiplierTimeline multiplierTimeline = null;
+        if (!multiplierSchedules.isEmpty()) {
+            multiplierTimeline = new MultiplierTimeline(this, multiplierSchedules, multiplierSchedulesTimezone);
+            multiplierTimeline.update();
+        }
+        return new ConfigSnapshot(activities, multiplierSchedulesTimezone, multiplierSchedules, multiplierTimeline);
     }
     
     public boolean isRewardLimiterEnabled() {
@@ -152,10 +599,73 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
         return this.rewardLimiterData.get(uniqueId);
     }
     
+    public RewardLimiterData getOrCreateRewardLimiterData(UUID uniqueId) {
+        return this.rewardLimiterData.computeIfAbsent(uniqueId, key -> new RewardLimiterData());
+    }
+    
     public void setRewardLimiterData(UUID uniqueId, RewardLimiterData data) {
         this.rewardLimiterData.put(uniqueId, data);
     }
     
+    public AntiFarmManager getAntiFarmManager() {
+        return this.antiFarmManager;
+    }
+    
+    public RewardCurveManager getRewardCurveManager() {
+        return this.rewardCurveManager;
+    }
+    
+    public double getRewardMultiplier(Player player, RewardableActivity activity, World world, int x, int y, int z) {
+        if (!activity.isActiveIn(world)) {
+            return 0.0D;
+        }
+        double multiplier = this.repository.getRegionIndex().getMultiplier(activity.index(), world, x, y, z);
+        if (multiplier <= 0.0D) {
+            return 0.0D;
+        }
+        multiplier *= this.trackAntiFarm(player, world, x, y, z);
+        if (this.repository.isRewardCurvesPresent()) {
+            double score = this.rewardCurveManager.track(player);
+            RewardCurve curve = activity.curve();
+            if (curve != null) {
+                multiplier *= curve.getMultiplier(score);
+            }
+        }
+        return multiplier;
+    }
+    
+    public double trackAntiFarm(Player player, World world, int x, int y, int z) {
+        AntiFarmManager antiFarmManager = this.antiFarmManager;
+        if (antiFarmManager == null || player.hasPermission("rewardableactivities.antifarm.bypass")) {
+            return 1.0D;
+        }
+        return antiFarmManager.track(player, world, x, y, z);
+    }
+    
+    public RewardAuditLog getAuditLog() {
+        return this.auditLog;
+    }
+    
+    public StatisticsStore getStatisticsStore() {
+        return this.statisticsStore;
+    }
+    
+    public ThresholdCounterStore getThresholdCounterStore() {
+        return this.thresholdCounterStore;
+    }
+    
+    public PlaceholderCache getPlaceholderCache() {
+        return this.placeholderCache;
+    }
+    
+    public PlaytimeTracker getPlaytimeTracker() {
+        return this.playtimeTracker;
+    }
+    
+    public MultiplierTimeline getMultiplierTimeline() {
+        return this.multiplierTimeline;
+    }
+    
     public boolean isBlockBreakOwnershipCheckEnabled() {
         return this.blockBreakOwnershipCheckEnabled;
     }
@@ -172,6 +682,54 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
         return this.entitySpawnerOwnershipCheckEnabled;
     }
     
+    public EntityProvenanceStore getEntityProvenanceStore() {
+        return this.entityProvenanceStore;
+    }
+    
+    public boolean isEntityKillAssistsEnabled() {
+        return this.entityKillAssistsEnabled;
+    }
+    
+    public double getEntityKillAssistMinimumShare() {
+        return this.entityKillAssistMinimumShare;
+    }
+    
+    public Instant getEntityKillAssistWindow() {
+        return this.entityKillAssistWindow;
+    }
+    
+    public EntityStackResolver getEntityStackResolver() {
+        return this.entityStackResolver;
+    }
+    
+    public boolean isEntityStackingWholeStackEnabled() {
+        return this.entityStackingWholeStackEnabled;
+    }
+    
+    public boolean isEntityStackingMergeDeathsEnabled() {
+        return this.entityStackingMergeDeathsEnabled;
+    }
+    
+    public EntityDamageLedger getEntityDamageLedger() {
+        return this.entityDamageLedger;
+    }
+    
+    public BlockOwnershipStore getBlockOwnershipStore() {
+        return this.blockOwnershipStore;
+    }
+    
+    public CooldownStore getCooldownStore() {
+        return this.cooldownStore;
+    }
+    
+    public RewardTracer getRewardTracer() {
+        return this.rewardTracer;
+    }
+    
+    public RewardableActivitiesService getService() {
+        return this.service;
+    }
+    
     public RewardableActivityRepository getRepository() {
         return this.repository;
     }
@@ -184,6 +742,14 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
         this.placeholderApiPresent = present;
     }
     
+    public void setPlaceholderExpansionRegistered(boolean registered) {
+        this.placeholderExpansionRegistered = registered;
+    }
+    
+    public RewardableActivitiesScheduler getScheduler() {
+        return this.scheduler;
+    }
+    
     public Updater getUpdater() {
         return this.updater;
     }
@@ -209,23 +775,248 @@ public class RewardableActivitiesPlugin extends JavaPlugin {
     }
     
     public void updatePistonBlocks(BlockFace direction, List<Block> blocks) {
-        List<Block> blocksPlacedByPlayer = new ArrayList<>(blocks.size());
-        List<Block> blocksSoonToBePlacedByPlayer = new ArrayList<>(blocks.size());
+        if (blocks.isEmpty()) {
+            return;
+        }
+        int firstBlockPlacedByPlayer = 0;
+        while (firstBlockPlacedByPlayer < blocks.size() && !this.blockOwnershipStore.isOwned(blocks.get(firstBlockPlacedByPlayer))) {
+            firstBlockPlacedByPlayer++;
+        }
+        if (firstBlockPlacedByPlayer == blocks.size()) {
+            return;
+        }
+        boolean[] blocksPlacedByPlayer = new boolean[blocks.size()];
+        blocksPlacedByPlayer[firstBlockPlacedByPlayer] = true;
+        for (int index = firstBlockPlacedByPlayer + 1; index < blocksPlacedByPlayer.length; index++) {
+            blocksPlacedByPlayer[index] = this.blockOwnershipStore.isOwned(blocks.get(index));
+        }
+        BlockOwnershipStore.Batch batch = this.blockOwnershipStore.batch(blocks.get(0).getWorld(), blocks.size() * 2);
         for (Block block : blocks) {
-            if (!blocksPlacedByPlayer.contains(block) && this.hasMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY)) {
-                blocksPlacedByPlayer.add(block);
+            batch.add(block, false);
+        }
+        for (int index = 0; index < blocksPlacedByPlayer.length; index++) {
+            Block block = blocks.get(index);
+            batch.add(block.getX() + direction.getModX(), block.getY() + direction.getModY(), block.getZ() + direction.getModZ(), blocksPlacedByPlayer[index]);
+        }
+        batch.apply();
+    }
+    
+    private void setupAuditLog() {
+        if (this.auditLog != null) {
+            this.auditLog.stop();
+            this.auditLog = null;
+        }
+        if (!this.auditLogEnabled) {
+            return;
+        }
+        RewardAuditLog auditLog = new RewardAuditLog(this, this.getDataFolder().toPath().resolve("audit"), this.auditLogBufferSize, this.auditLogSegmentSize * 1024 * 1024, this.auditLogRotation.toEpochMilli());
+        auditLog.start();
+        this.auditLog = auditLog;
+    }
+    
+    private void setupStatisticsStore() {
+        if (this.statisticsStore != null) {
+            this.statisticsStore.stop();
+            this.statisticsStore = null;
+        }
+        if (!this.statisticsEnabled) {
+            return;
+        }
+        StatisticsStore statisticsStore = new StatisticsStore(this, this.getDataFolder().toPath().resolve("statistics"), this.statisticsLeaderboardSize);
+        this.statisticsStore = statisticsStore;
+        statisticsStore.start(Math.max(1L, this.statisticsSaveInterval.toEpochMilli() / 50L));
+    }
+    
+    private void setupThresholdCounterStore() {
+        if (!this.hasThresholdActivities()) {
+            if (this.thresholdCounterStore != null) {
+                this.thresholdCounterStore.stop();
+                this.thresholdCounterStore = null;
             }
+            return;
         }
-        for (Block block : blocks) {
-            if (blocksPlacedByPlayer.contains(block)) {
-                if (!blocksSoonToBePlacedByPlayer.contains(block)) {
-                    this.unsetMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY);
+        if (this.thresholdCounterStore != null) {
+            this.thresholdCounterStore.setSaveInterval(Math.max(1L, this.thresholdSaveInterval.toEpochMilli() / 50L));
+            return;
+        }
+        ThresholdCounterStore thresholdCounterStore = new ThresholdCounterStore(this, this.getDataFolder().toPath().resolve("thresholds"));
+        this.thresholdCounterStore = thresholdCounterStore;
+        thresholdCounterStore.start(Math.max(1L, this.thresholdSaveInterval.toEpochMilli() / 50L));
+    }
+    
+    private boolean hasThresholdActivities() {
+        for (RewardableActivityType<?> type : this.repository.getTypes()) {
+            for (RewardableActivity activity : this.repository.getActivities(type)) {
+                if (activity.threshold() > 1) {
+                    return true;
                 }
-                Block blockSoonToBePlacedByPlayer = block.getRelative(direction);
-                blocksSoonToBePlacedByPlayer.add(blockSoonToBePlacedByPlayer);
-                this.setMetadata(blockSoonToBePlacedByPlayer, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY, true);
             }
         }
+        return false;
+    }
+    
+    private void setupPlaceholderCache() {
+        if (this.placeholderCache != null) {
+            this.placeholderCache.stop();
+            this.placeholderCache = null;
+        }
+        if (!this.placeholderCacheEnabled) {
+            return;
+        }
+        PlaceholderCache placeholderCache = new PlaceholderCache(this, this.placeholderCacheDefaultTtl.toEpochMilli(), this.placeholderCacheTtls);
+        this.placeholderCache = placeholderCache;
+        placeholderCache.start(this.placeholderCachePreWarmInterval != null ? Math.max(1L, this.placeholderCachePreWarmInterval.toEpochMilli() / 50L) : 0L);
+    }
+    
+    private void setupPlaytimeTracker() {
+        if (!this.playtimeEnabled || this.repository.getActivities(RewardableActivityTypes.PLAYER_PLAYTIME).isEmpty()) {
+            if (this.playtimeTracker != null) {
+                this.playtimeTracker.stop();
+                this.playtimeTracker = null;
+            }
+            return;
+        }
+        if (this.playtimeTracker != null) {
+            this.playtimeTracker.setAfkTimeout(this.playtimeAfkTimeout.toEpochMilli());
+            this.playtimeTracker.refresh();
+            return;
+        }
+        PlaytimeTracker playtimeTracker = new PlaytimeTracker(this, this.playtimeAfkTimeout.toEpochMilli());
+        this.playtimeTracker = playtimeTracker;
+        playtimeTracker.start();
+    }
+    
+    private void setupMultiplierTimeline() {
+        this.setupMultiplierTimeline(this.multiplierSchedules.isEmpty() ? null : new MultiplierTimeline(this, this.multiplierSchedules, this.multiplierSchedulesTimezone));
+    }
+    
+    private void setupMultiplierTimeline(MultiplierTimeline multiplierTimeline) {
+        if (this.multiplierTimeline != null) {
+            this.multiplierTimeline.stop();
+            this.multiplierTimeline = null;
+        }
+        if (multiplierTimeline == null) {
+            return;
+        }
+        multiplierTimeline.start();
+        this.multiplierTimeline = multiplierTimeline;
+    }
+    
+    private void setupConfigWatcher() {
+        if (this.configWatcher != null) {
+            if (this.autoReloadEnabled && this.configWatcher.getDebounce() == this.autoReloadDebounce.toEpochMilli()) {
+                return;
+            }
+            this.configWatcher.stop();
+            this.configWatcher = null;
+        }
+        if (!this.autoReloadEnabled) {
+            return;
+        }
+        ConfigWatcher configWatcher = new ConfigWatcher(this, this.autoReloadDebounce.toEpochMilli());
+        try {
+            configWatcher.start();
+        } catch (IOException exception) {
+            this.getLogger().log(Level.WARNING, "Could not watch the configuration file. As such, it will not be reloaded automatically.", exception);
+            return;
+        }
+        this.configWatcher = configWatcher;
+    }
+    
+    public void registerPlaceholderExpansion() {
+        if (this.placeholderExpansionRegistered) {
+            return;
+        }
+        this.placeholderExpansionRegistered = new StatisticsPlaceholderExpansion(this).register();
+        if (this.placeholderExpansionRegistered) {
+            this.getLogger().log(Level.INFO, "PlaceholderAPI expansion has been registered.");
+        }
+    }
+    
+    public IoExecutor getIoExecutor() {
+        return this.ioExecutor;
+    }
+    
+    public ListenerRegistry getListenerRegistry() {
+        return this.listenerRegistry;
+    }
+    
+    public List<MemoryFootprint> getMemoryFootprints() {
+        List<MemoryFootprint> footprints = new ArrayList<>(16);
+        footprints.add(new MemoryFootprint("activities", this.repository.getActivityCount(), this.repository.getEstimatedBytes()));
+        int rewardLimiters = this.rewardLimiterData.size();
+        footprints.add(new MemoryFootprint("reward-limiters", rewardLimiters, MemoryFootprint.map(rewardLimiters, MemoryFootprint.UUID_BYTES + MemoryFootprint.object(MemoryFootprint.REFERENCE_BYTES + 5L) + MemoryFootprint.object(12L))));
+        footprints.add(new MemoryFootprint("block-ownership", this.blockOwnershipStore.getBlockCount(), this.blockOwnershipStore.getEstimatedBytes()));
+        footprints.add(new MemoryFootprint("entity-provenance", this.entityProvenanceStore.size(), this.entityProvenanceStore.getEstimatedBytes()));
+        footprints.add(new MemoryFootprint("entity-damage", this.entityDamageLedger.size(), this.entityDamageLedger.getEstimatedBytes()));
+        footprints.add(new MemoryFootprint("cooldowns", this.cooldownStore.getSlotCount(), this.cooldownStore.getEstimatedBytes()));
+        footprints.add(new MemoryFootprint("reward-curves", this.rewardCurveManager.getTrackedPlayers(), this.rewardCurveManager.getEstimatedBytes()));
+        AntiFarmManager antiFarmManager = this.antiFarmManager;
+        if (antiFarmManager != null) {
+            footprints.add(new MemoryFootprint("anti-farm", antiFarmManager.getTrackedPlayers(), antiFarmManager.getEstimatedBytes()));
+        }
+        StatisticsStore statisticsStore = this.statisticsStore;
+        if (statisticsStore != null) {
+            footprints.add(new MemoryFootprint("statistics", statisticsStore.getLoadedStatisticsCount(), statisticsStore.getEstimatedBytes()));
+        }
+        ThresholdCounterStore thresholdCounterStore = this.thresholdCounterStore;
+        if (thresholdCounterStore != null) {
+            footprints.add(new MemoryFootprint("threshold-counters", thresholdCounterStore.getLoadedCountersCount(), thresholdCounterStore.getEstimatedBytes()));
+        }
+        PlaceholderCache placeholderCache = this.placeholderCache;
+        if (placeholderCache != null) {
+            footprints.add(new MemoryFootprint("placeholders", placeholderCache.getEntryCount(), placeholderCache.getEstimatedBytes()));
+        }
+        PlaytimeTracker playtimeTracker = this.playtimeTracker;
+        if (playtimeTracker != null) {
+            footprints.add(new MemoryFootprint("playtime", playtimeTracker.getSessionCount(), playtimeTracker.getEstimatedBytes()));
+        }
+        RewardAuditLog auditLog = this.auditLog;
+        if (auditLog != null) {
+            footprints.add(new MemoryFootprint("audit", auditLog.getPendingRecords(), auditLog.getEstimatedBytes()));
+        }
+        footprints.add(new MemoryFootprint("traces", this.rewardTracer.getRecordCount(), this.rewardTracer.getEstimatedBytes()));
+        return footprints;
+    }
+    
+    private void updateListeners() {
+        if (this.listenerRegistry == null) {
+            return;
+        }
+        this.listenerRegistry.update();
+        this.getLogger().log(Level.INFO, "Listeners: " + this.listenerRegistry.getRegisteredListeners().size() + " of " + this.listenerRegistry.getListenerCount() + " registered.");
+    }
+    
+    private boolean hasActivities(RewardableActivityType<?> type) {
+        return !this.repository.getActivities(type).isEmpty();
+    }
+    
+    private boolean isBlockOwnershipTracked() {
+        return this.blockBreakOwnershipCheckEnabled && this.hasActivities(RewardableActivityTypes.BLOCK_BREAK);
+    }
+    
+    private boolean isEntityProvenanceTracked() {
+        return this.hasActivities(RewardableActivityTypes.ENTITY_KILL) || this.isBlockOwnershipTracked();
+    }
+    
+    private void loadEntityProvenance() {
+        if (FoliaRewardableActivitiesScheduler.isSupported()) {
+            return;
+        }
+        for (World world : this.getServer().getWorlds()) {
+            for (LivingEntity entity : world.getLivingEntities()) {
+                this.entityProvenanceStore.load(entity);
+            }
+        }
+    }
+    
+    private boolean isClassPresent(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
     }
     
     private Economy setupEconomy() {
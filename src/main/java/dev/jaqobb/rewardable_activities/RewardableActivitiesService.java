@@ -0,0 +1,183 @@
+package dev.jaqobb.rewardable_activities;
+
+import dev.jaqobb.rewardable_activities.condition.RewardContext;
+import dev.jaqobb.rewardable_activities.data.RewardableActivity;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityType;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierTimeline;
+import dev.jaqobb.rewardable_activities.threshold.ThresholdCounterStore;
+import dev.jaqobb.rewardable_activities.trace.RewardTrace;
+import dev.jaqobb.rewardable_activities.trace.RewardTracer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
+public class RewardableActivitiesService {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public RewardableActivitiesService(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    public void registerActivityType(Plugin owner, RewardableActivityType<?> type) {
+        this.plugin.getRepository().registerType(owner, type, true);
+        this.plugin.getLogger().log(Level.INFO, "Registered activity type " + type.getId() + " of " + owner.getName() + " (" + this.plugin.getRepository().getActivities(type).size() + " activities).");
+    }
+    
+    public void unregisterActivityType(RewardableActivityType<?> type) {
+        this.plugin.getRepository().unregisterType(type);
+    }
+    
+    public void unregisterActivityTypes(Plugin owner) {
+        this.plugin.getRepository().unregisterTypes(owner);
+    }
+    
+    public List<RewardableActivityType<?>> getActivityTypes() {
+        return this.plugin.getRepository().getTypes();
+    }
+    
+    public RewardableActivityType<?> getActivityType(String id) {
+        return this.plugin.getRepository().getType(id);
+    }
+    
+    public <K> boolean isRewardable(RewardableActivityType<K> type, K key, World world) {
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        return repository.isWorldActive(world) && repository.getActivity(type, key) != null;
+    }
+    
+    public <K> boolean reward(RewardableActivityType<K> type, K key, Player player, Location location) {
+        return this.reward(type, key, player, location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), 1);
+    }
+    
+    public <K> boolean reward(RewardableActivityType<K> type, K key, Player player, World world, int x, int y, int z) {
+        return this.reward(type, key, player, world, x, y, z, 1);
+    }
+    
+    public <K> boolean reward(RewardableActivityType<K> type, K key, Player player, World world, int x, int y, int z, int count) {
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        if (!repository.isWorldActive(world)) {
+            RewardTracer tracer = this.plugin.getRewardTracer();
+            if (tracer.isEnabled()) {
+                tracer.record(player, type.getId() + ":" + key, "world", "no activity is rewarded in " + world.getName());
+            }
+            return false;
+        }
+        RewardableActivity activity = repository.getActivity(type, key);
+        if (activity == null) {
+            RewardTracer tracer = this.plugin.getRewardTracer();
+            if (tracer.isEnabled()) {
+                tracer.record(player, type.getId() + ":" + key, "activity", "not configured");
+            }
+            return false;
+        }
+        return this.reward(activity, player, world, x, y, z, 1.0D, count);
+    }
+    
+    public boolean reward(RewardableActivity activity, Player player, World world, int x, int y, int z, double share, int count) {
+        RewardTracer tracer = this.plugin.getRewardTracer();
+        RewardTrace trace = tracer.begin(player, activity.index());
+        if (trace == null) {
+            return this.reward(activity, player, world, x, y, z, share, count, null);
+        }
+        try {
+            trace.step("start", "count " + count + ", share " + share + ", at " + world.getName() + " " + x + " " + y + " " + z);
+            boolean rewarded = this.reward(activity, player, world, x, y, z, share, count, trace);
+            trace.step("result", rewarded ? "rewarded" : "not rewarded");
+            return rewarded;
+        } finally {
+            tracer.end(trace);
+        }
+    }
+    
+    private boolean reward(RewardableActivity activity, Player player, World world, int x, int y, int z, double share, int count, RewardTrace trace) {
+        if (count < 1) {
+            return false;
+        }
+        long cooldown = activity.cooldown();
+        long now = 0L;
+        if (cooldown > 0L) {
+            now = System.currentTimeMillis();
+            if (this.plugin.getCooldownStore().isCoolingDown(player, activity.index(), now)) {
+                if (trace != null) {
+                    trace.step("cooldown", "still cooling down");
+                }
+                return false;
+            }
+        }
+        double multiplier = this.plugin.getRewardMultiplier(player, activity, world, x, y, z) * share;
+        if (trace != null) {
+            trace.step("multiplier", multiplier <= 0.0D ? "0 (disabled by world, region or anti-farm)" : String.format("%.3f (region, anti-farm, curve and share)", multiplier));
+        }
+        if (activity.threshold() > 1) {
+            ThresholdCounterStore thresholdCounterStore = this.plugin.getThresholdCounterStore();
+            if (thresholdCounterStore == null) {
+                return false;
+            }
+            count = thresholdCounterStore.add(player, activity.index(), count, activity.threshold());
+            if (trace != null) {
+                trace.step("threshold", count < 1 ? "not reached yet" : "reached " + count + " time(s)");
+            }
+            if (count < 1) {
+                return false;
+            }
+        }
+        if (cooldown > 0L) {
+            count = 1;
+        }
+        RewardContext context = RewardContext.get(player, world, x, y, z);
+        List<RewardableActivityReward> rewards = activity.getRewards(player);
+        double chanceMultiplier = multiplier;
+        MultiplierTimeline multiplierTimeline = this.plugin.getMultiplierTimeline();
+        if (multiplierTimeline != null && !rewards.isEmpty()) {
+            chanceMultiplier *= multiplierTimeline.getCurrent().getChance(activity.index(), rewards.get(0).group());
+        }
+        if (trace != null) {
+            trace.step("group", (rewards.isEmpty() ? "none" : rewards.get(0).group()) + " with " + rewards.size() + " reward(s), chance multiplier " + String.format("%.3f", chanceMultiplier));
+        }
+        if (count == 1) {
+            RewardableActivityReward reward = trace == null ? activity.getReward(rewards, chanceMultiplier, context) : this.getTracedReward(rewards, chanceMultiplier, context, trace);
+            if (reward == null) {
+                return false;
+            }
+            if (cooldown > 0L) {
+                this.plugin.getCooldownStore().start(player, activity.index(), cooldown, now);
+            }
+            reward.reward(this.plugin, player, multiplier);
+            return true;
+        }
+        int[] counts = activity.getRewardCounts(rewards, count, chanceMultiplier, context);
+        if (trace != null) {
+            trace.step("chance", "rolled " + count + " time(s), rewards per reward " + Arrays.toString(counts));
+        }
+        boolean rewarded = false;
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] > 0) {
+                rewards.get(index).reward(this.plugin, player, multiplier, counts[index]);
+                rewarded = true;
+            }
+        }
+        return rewarded;
+    }
+    
+    private RewardableActivityReward getTracedReward(List<RewardableActivityReward> rewards, double multiplier, RewardContext context, RewardTrace trace) {
+        for (int index = 0; index < rewards.size(); index++) {
+            RewardableActivityReward reward = rewards.get(index);
+            if (!reward.testCondition(context)) {
+                trace.step("condition", "reward #" + (index + 1) + " conditions not met");
+                continue;
+            }
+            boolean passed = reward.testChance(multiplier);
+            trace.step("chance", "reward #" + (index + 1) + " with chance " + reward.chance() + "% x " + String.format("%.3f", multiplier) + " " + (passed ? "passed" : "failed"));
+            if (passed) {
+                return reward;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.bukkit.entity.Player;
+
+public record ExperienceRewardAction(int amount, boolean levels) implements RewardAction {
+    
+    @Override
+    public void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count) {
+        int amount = (int) Math.min(Integer.MAX_VALUE, (long) this.amount * count);
+        if (this.levels) {
+            player.giveExpLevels(amount);
+        } else {
+            player.giveExp(amount);
+        }
+    }
+    
+    @Override
+    public String describe(int count) {
+        return "[experience] " + (long) this.amount * count + (this.levels ? " levels" : " points");
+    }
+}
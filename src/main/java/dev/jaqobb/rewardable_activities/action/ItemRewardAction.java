@@ -0,0 +1,38 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import java.util.Map;
+
+public record ItemRewardAction(ItemStack item, int amount) implements RewardAction {
+    
+    public static final int MAXIMUM_STACKS = 36;
+    
+    @Override
+    public void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count) {
+        int maximumStackSize = this.item.getMaxStackSize();
+        int amount = this.getAmount(count);
+        ItemStack[] items = new ItemStack[(amount + maximumStackSize - 1) / maximumStackSize];
+        for (int index = 0; index < items.length; index++) {
+            ItemStack item = this.item.clone();
+            item.setAmount(Math.min(amount, maximumStackSize));
+            amount -= item.getAmount();
+            items[index] = item;
+        }
+        Map<Integer, ItemStack> leftovers = player.getInventory().addItem(items);
+        for (ItemStack leftover : leftovers.values()) {
+            player.getWorld().dropItem(player.getLocation(), leftover);
+        }
+    }
+    
+    @Override
+    public String describe(int count) {
+        return "[item] " + this.item.getType().getKey() + " x" + this.getAmount(count);
+    }
+    
+    private int getAmount(int count) {
+        return (int) Math.min((long) this.amount * count, (long) MAXIMUM_STACKS * this.item.getMaxStackSize());
+    }
+}
@@ -0,0 +1,31 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.placeholder.PlaceholderCache;
+import org.bukkit.entity.Player;
+
+public record MessageRewardAction(String message, boolean replaced, boolean placeholders) implements RewardAction {
+    
+    public MessageRewardAction(String message) {
+        this(message, message.indexOf('{') != -1, message.indexOf('%') != -1);
+    }
+    
+    @Override
+    public void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count) {
+        String message = this.message;
+        if (this.replaced) {
+            message = message.replace("{player}", player.getName()).replace("{group}", reward.group()).replace("{count}", String.valueOf((long) count * reward.threshold()));
+        }
+        if (this.placeholders && plugin.isPlaceholderApiPresent()) {
+            PlaceholderCache placeholderCache = plugin.getPlaceholderCache();
+            message = placeholderCache != null ? placeholderCache.setPlaceholders(player, message) : me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, message);
+        }
+        player.sendMessage(message);
+    }
+    
+    @Override
+    public String describe(int count) {
+        return "[message] " + this.message;
+    }
+}
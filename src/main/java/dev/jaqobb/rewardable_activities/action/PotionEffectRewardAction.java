@@ -0,0 +1,19 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+
+public record PotionEffectRewardAction(PotionEffect effect) implements RewardAction {
+    
+    @Override
+    public void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count) {
+        player.addPotionEffect(this.effect);
+    }
+    
+    @Override
+    public String describe(int count) {
+        return "[effect] " + this.effect.getType().getKey() + " " + (this.effect.getAmplifier() + 1) + " " + this.effect.getDuration() + "t";
+    }
+}
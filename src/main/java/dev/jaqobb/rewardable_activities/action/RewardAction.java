@@ -0,0 +1,12 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.bukkit.entity.Player;
+
+public interface RewardAction {
+    
+    void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count);
+    
+    String describe(int count);
+}
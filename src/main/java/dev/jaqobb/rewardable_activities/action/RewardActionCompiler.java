@@ -0,0 +1,174 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.util.TimeUtils;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class RewardActionCompiler {
+    
+    private RewardActionCompiler() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static List<RewardAction> compile(List<?> actions) {
+        if (actions == null || actions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<RewardAction> compiledActions = new ArrayList<>(actions.size());
+        for (Object action : actions) {
+            if (!(action instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("Action has to be a section");
+            }
+            compiledActions.add(compile(map));
+        }
+        return Collections.unmodifiableList(compiledActions);
+    }
+    
+    public static RewardAction compile(Map<?, ?> action) {
+        String type = getString(action, "type", null);
+        if (type == null) {
+            throw new IllegalArgumentException("Action type is not set");
+        }
+        switch (type.toLowerCase(Locale.ROOT)) {
+            case "item" -> {
+                String name = getString(action, "item", null);
+                Material material = name == null ? null : Material.matchMaterial(name);
+                if (material == null || !material.isItem() || material.isAir()) {
+                    throw new IllegalArgumentException("Unknown item: " + name);
+                }
+                int amount = getInt(action, "amount", 1);
+                if (amount < 1) {
+                    throw new IllegalArgumentException("Item amount has to be at least 1");
+                }
+                ItemStack item = new ItemStack(material, 1);
+                String displayName = getString(action, "name", null);
+                List<String> lore = getStrings(action, "lore");
+                if (displayName != null || !lore.isEmpty()) {
+                    ItemMeta meta = item.getItemMeta();
+                    if (meta != null) {
+                        if (displayName != null) {
+                            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', displayName));
+                        }
+                        if (!lore.isEmpty()) {
+                            List<String> translatedLore = new ArrayList<>(lore.size());
+                            for (String line : lore) {
+                                translatedLore.add(ChatColor.translateAlternateColorCodes('&', line));
+                            }
+                            meta.setLore(translatedLore);
+                        }
+                        item.setItemMeta(meta);
+                    }
+                }
+                return new ItemRewardAction(item, amount);
+            }
+            case "experience" -> {
+                int amount = getInt(action, "amount", 0);
+                if (amount < 1) {
+                    throw new IllegalArgumentException("Experience amount has to be at least 1");
+                }
+                return new ExperienceRewardAction(amount, getBoolean(action, "levels"));
+            }
+            case "effect" -> {
+                String name = getString(action, "effect", "").toLowerCase(Locale.ROOT);
+                NamespacedKey key = name.contains(":") ? NamespacedKey.fromString(name) : NamespacedKey.minecraft(name);
+                PotionEffectType effectType = key == null ? null : Registry.EFFECT.get(key);
+                if (effectType == null) {
+                    throw new IllegalArgumentException("Unknown effect: " + name);
+                }
+                String durationString = getString(action, "duration", "10s");
+                Instant duration = TimeUtils.parse(durationString);
+                if (duration == null || duration.toEpochMilli() < 50L) {
+                    throw new IllegalArgumentException("Invalid effect duration: " + durationString);
+                }
+                int amplifier = getInt(action, "amplifier", 0);
+                if (amplifier < 0 || amplifier > 255) {
+                    throw new IllegalArgumentException("Effect amplifier has to be between 0 and 255");
+                }
+                return new PotionEffectRewardAction(new PotionEffect(effectType, (int) Math.min(Integer.MAX_VALUE, duration.toEpochMilli() / 50L), amplifier, getBoolean(action, "ambient"), !action.containsKey("particles") || getBoolean(action, "particles")));
+            }
+            case "message" -> {
+                String message = getString(action, "message", null);
+                if (message == null) {
+                    throw new IllegalArgumentException("Message is not set");
+                }
+                return new MessageRewardAction(ChatColor.translateAlternateColorCodes('&', message));
+            }
+            case "sound" -> {
+                String name = getString(action, "sound", "").toLowerCase(Locale.ROOT);
+                NamespacedKey key = name.contains(":") ? NamespacedKey.fromString(name) : NamespacedKey.minecraft(name);
+                if (key == null) {
+                    throw new IllegalArgumentException("Invalid sound: " + name);
+                }
+                float volume = (float) getDouble(action, "volume", 1.0D);
+                float pitch = (float) getDouble(action, "pitch", 1.0D);
+                if (volume < 0.0F || pitch < 0.5F || pitch > 2.0F) {
+                    throw new IllegalArgumentException("Sound volume has to be at least 0 and pitch has to be between 0.5 and 2");
+                }
+                return new SoundRewardAction(key.toString(), volume, pitch);
+            }
+            default -> throw new IllegalArgumentException("Unknown action type: " + type);
+        }
+    }
+    
+    private static String getString(Map<?, ?> action, String key, String defaultValue) {
+        Object value = action.get(key);
+        return value == null ? defaultValue : String.valueOf(value);
+    }
+    
+    private static List<String> getStrings(Map<?, ?> action, String key) {
+        Object value = action.get(key);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<String> strings = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                strings.add(String.valueOf(element));
+            }
+            return strings;
+        }
+        return List.of(String.valueOf(value));
+    }
+    
+    private static boolean getBoolean(Map<?, ?> action, String key) {
+        Object value = action.get(key);
+        return value instanceof Boolean bool ? bool : value != null && Boolean.parseBoolean(String.valueOf(value));
+    }
+    
+    private static int getInt(Map<?, ?> action, String key, int defaultValue) {
+        Object value = action.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+    
+    private static double getDouble(Map<?, ?> action, String key, double defaultValue) {
+        Object value = action.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(String.valueOf(value).trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid " + key + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.jaqobb.rewardable_activities.action;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.bukkit.entity.Player;
+
+public record SoundRewardAction(String sound, float volume, float pitch) implements RewardAction {
+    
+    @Override
+    public void apply(RewardableActivitiesPlugin plugin, Player player, RewardableActivityReward reward, int count) {
+        player.playSound(player.getLocation(), this.sound, this.volume, this.pitch);
+    }
+    
+    @Override
+    public String describe(int count) {
+        return "[sound] " + this.sound;
+    }
+}
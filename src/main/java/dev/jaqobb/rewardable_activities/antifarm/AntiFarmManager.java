@@ -0,0 +1,59 @@
+package dev.jaqobb.rewardable_activities.antifarm;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AntiFarmManager {
+    
+    private final int windowSize;
+    private final int areaShift;
+    private final double[] multipliers;
+    private final Map<UUID, AntiFarmTracker> trackers;
+    
+    public AntiFarmManager(int windowSize, int areaSize, int threshold, double factor, double minimumMultiplier) {
+        this.windowSize = windowSize;
+        this.areaShift = 32 - Integer.numberOfLeadingZeros(Math.max(1, areaSize) - 1);
+        this.multipliers = new double[windowSize + 1];
+        for (int count = 0; count <= windowSize; count++) {
+            this.multipliers[count] = count <= threshold ? 1.0D : Math.max(minimumMultiplier, Math.pow(factor, count - threshold));
+        }
+        this.trackers = new ConcurrentHashMap<>(16);
+    }
+    
+    public static long getAreaKey(World world, int x, int y, int z, int shift) {
+        long key = ((long) (x >> shift) & 0x3FFFFFFL) << 38 | ((long) (z >> shift) & 0x3FFFFFFL) << 12 | ((long) (y >> shift) & 0xFFFL);
+        return key ^ ((long) world.getUID().hashCode() * 0x9E3779B97F4A7C15L);
+    }
+    
+    public int getAreaSize() {
+        return 1 << this.areaShift;
+    }
+    
+    public int getTrackedPlayers() {
+        return this.trackers.size();
+    }
+    
+    public long getEstimatedBytes() {
+        long bytes = MemoryFootprint.map(this.trackers.size(), MemoryFootprint.UUID_BYTES);
+        for (AntiFarmTracker tracker : this.trackers.values()) {
+            bytes += tracker.getEstimatedBytes();
+        }
+        return bytes;
+    }
+    
+    public double track(Player player, World world, int x, int y, int z) {
+        AntiFarmTracker tracker = this.trackers.get(player.getUniqueId());
+        if (tracker == null) {
+            tracker = this.trackers.computeIfAbsent(player.getUniqueId(), key -> new AntiFarmTracker(this.windowSize));
+        }
+        return this.multipliers[tracker.track(getAreaKey(world, x, y, z, this.areaShift))];
+    }
+    
+    public void remove(UUID uniqueId) {
+        this.trackers.remove(uniqueId);
+    }
+}
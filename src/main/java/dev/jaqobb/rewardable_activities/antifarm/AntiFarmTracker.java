@@ -0,0 +1,53 @@
+package dev.jaqobb.rewardable_activities.antifarm;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.util.LongSlotMap;
+
+public class AntiFarmTracker {
+    
+    private final long[] window;
+    private final LongSlotMap keys;
+    private final int[] counts;
+    private int head;
+    private int size;
+    
+    public AntiFarmTracker(int windowSize) {
+        this.window = new long[windowSize];
+        this.keys = new LongSlotMap(windowSize);
+        this.counts = new int[this.keys.capacity()];
+    }
+    
+    public synchronized long getEstimatedBytes() {
+        return MemoryFootprint.object(3L * MemoryFootprint.REFERENCE_BYTES + 8L) + MemoryFootprint.array(this.window.length, 8L) + this.keys.getEstimatedBytes() + MemoryFootprint.array(this.counts.length, 4L);
+    }
+    
+    public synchronized int track(long key) {
+        if (this.size == this.window.length) {
+            this.decrement(this.window[this.head]);
+        } else {
+            this.size++;
+        }
+        this.window[this.head] = key;
+        this.head = this.head + 1 == this.window.length ? 0 : this.head + 1;
+        return this.increment(key);
+    }
+    
+    public synchronized int getCount(long key) {
+        int slot = this.keys.get(key);
+        return slot == -1 ? 0 : this.counts[slot];
+    }
+    
+    private int increment(long key) {
+        return ++this.counts[this.keys.put(key)];
+    }
+    
+    private void decrement(long key) {
+        int slot = this.keys.get(key);
+        if (slot == -1 || --this.counts[slot] != 0) {
+            return;
+        }
+        slot = this.keys.remove(key);
+        this.counts[slot] = this.counts[this.keys.size()];
+        this.counts[this.keys.size()] = 0;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+public class RewardAuditLog {
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Path directory;
+    private final RewardAuditRingBuffer ringBuffer;
+    private final RewardAuditSegmentWriter writer;
+    private final AtomicLong droppedRecords;
+    private final Thread thread;
+    private volatile boolean running;
+    private long writtenRecords;
+    
+    public RewardAuditLog(RewardableActivitiesPlugin plugin, Path directory, int bufferSize, int segmentSize, long rotationMillis) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.ringBuffer = new RewardAuditRingBuffer(bufferSize);
+        this.writer = new RewardAuditSegmentWriter(directory, segmentSize, rotationMillis);
+        this.droppedRecords = new AtomicLong();
+        this.thread = plugin.getIoExecutor().newThread("RewardableActivities Audit Log Writer", this::run);
+    }
+    
+    public Path getDirectory() {
+        return this.directory;
+    }
+    
+    public int getPendingRecords() {
+        return this.ringBuffer.size();
+    }
+    
+    public long getEstimatedBytes() {
+        long recordBytes = MemoryFootprint.object(7L * MemoryFootprint.REFERENCE_BYTES + 16L) + MemoryFootprint.STRING_BYTES * 2L;
+        return MemoryFootprint.array(this.ringBuffer.getCapacity(), MemoryFootprint.REFERENCE_BYTES) + this.ringBuffer.size() * recordBytes;
+    }
+    
+    public long getDroppedRecords() {
+        return this.droppedRecords.get();
+    }
+    
+    public void start() {
+        this.running = true;
+        this.thread.start();
+    }
+    
+    public void stop() {
+        this.running = false;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join(TimeUnit.SECONDS.toMillis(5L));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        long dropped = this.droppedRecords.get();
+        if (dropped > 0L) {
+            this.plugin.getLogger().log(Level.WARNING, "Audit log dropped " + dropped + " record(s) because the buffer was full.");
+        }
+    }
+    
+    public void log(UUID playerUniqueId, String playerName, String activityId, String group, double economy, List<String> commands) {
+        RewardAuditRecord record = new RewardAuditRecord(System.currentTimeMillis(), playerUniqueId, playerName, activityId, group, economy, commands);
+        if (!this.ringBuffer.offer(record)) {
+            this.droppedRecords.incrementAndGet();
+        }
+    }
+    
+    private void run() {
+        long lastFlush = System.currentTimeMillis();
+        try {
+            while (this.running || this.ringBuffer.size() > 0) {
+                RewardAuditRecord record = this.ringBuffer.poll();
+                long now = System.currentTimeMillis();
+                if (record != null) {
+                    if (this.writer.write(record)) {
+                        this.writtenRecords++;
+                    } else {
+                        this.droppedRecords.incrementAndGet();
+                    }
+                    continue;
+                }
+                if (now - lastFlush >= FLUSH_INTERVAL_MILLIS) {
+                    this.writer.flush();
+                    this.writer.rotateIfDue(now);
+                    lastFlush = now;
+                }
+                if (this.running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else if (this.ringBuffer.size() > 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        } catch (IOException exception) {
+            this.plugin.getLogger().log(Level.SEVERE, "Could not write to the audit log, further rewards will not be recorded.", exception);
+            this.running = false;
+        } finally {
+            try {
+                this.writer.close();
+            } catch (IOException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Could not close the audit log segment.", exception);
+            }
+            this.plugin.getLogger().log(Level.INFO, "Audit log writer stopped after writing " + this.writtenRecords + " record(s).");
+        }
+    }
+}
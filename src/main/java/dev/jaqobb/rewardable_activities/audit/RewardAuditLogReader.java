@@ -0,0 +1,93 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public final class RewardAuditLogReader {
+    
+    private RewardAuditLogReader() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static List<Path> getSegments(Path directory, long from, long to) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> getSegmentCreatedAt(file) >= 0L)
+                .sorted((first, second) -> Long.compare(getSegmentCreatedAt(first), getSegmentCreatedAt(second)))
+                .forEach(segments::add);
+        }
+        List<Path> matchingSegments = new ArrayList<>(segments.size());
+        for (int index = 0; index < segments.size(); index++) {
+            long createdAt = getSegmentCreatedAt(segments.get(index));
+            long nextCreatedAt = index + 1 < segments.size() ? getSegmentCreatedAt(segments.get(index + 1)) : Long.MAX_VALUE;
+            if (createdAt <= to && nextCreatedAt >= from) {
+                matchingSegments.add(segments.get(index));
+            }
+        }
+        return matchingSegments;
+    }
+    
+    public static long getSegmentCreatedAt(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(RewardAuditSegment.FILE_PREFIX) || !name.endsWith(RewardAuditSegment.FILE_SUFFIX)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(name.substring(RewardAuditSegment.FILE_PREFIX.length(), name.length() - RewardAuditSegment.FILE_SUFFIX.length()));
+        } catch (NumberFormatException exception) {
+            return -1L;
+        }
+    }
+    
+    public static void scan(Path segment, UUID playerUniqueId, long from, long to, Predicate<RewardAuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            RewardAuditSegment.readHeader(buffer);
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt(buffer.position());
+                if (length <= 0 || length > buffer.remaining() - 4) {
+                    return;
+                }
+                if (RewardAuditSegment.skip(buffer, playerUniqueId, from, to)) {
+                    continue;
+                }
+                RewardAuditRecord record = RewardAuditSegment.read(buffer);
+                if (record == null || !consumer.test(record)) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    public static void main(String[] arguments) throws IOException {
+        if (arguments.length == 0) {
+            System.out.println("Usage: <segment file or audit directory> [player UUID or *] [from ISO-8601 instant or *] [to ISO-8601 instant or *]");
+            return;
+        }
+        Path path = Paths.get(arguments[0]);
+        UUID playerUniqueId = arguments.length > 1 && !arguments[1].equals("*") ? UUID.fromString(arguments[1]) : null;
+        long from = arguments.length > 2 && !arguments[2].equals("*") ? Instant.parse(arguments[2]).toEpochMilli() : Long.MIN_VALUE;
+        long to = arguments.length > 3 && !arguments[3].equals("*") ? Instant.parse(arguments[3]).toEpochMilli() : Long.MAX_VALUE;
+        List<Path> segments = Files.isDirectory(path) ? getSegments(path, from, to) : List.of(path);
+        for (Path segment : segments) {
+            scan(segment, playerUniqueId, from, to, record -> {
+                System.out.println(Instant.ofEpochMilli(record.timestamp()) + " " + record.playerName() + " (" + record.playerUniqueId() + ") " + record.activityId() + " [" + record.group() + "] economy=" + record.economy() + " commands=" + record.commands());
+                return true;
+            });
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public record RewardAuditRecord(long timestamp, UUID playerUniqueId, String playerName, String activityId, String group, double economy, List<String> commands) {
+    
+    public RewardAuditRecord {
+        commands = Collections.unmodifiableList(commands);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RewardAuditRingBuffer {
+    
+    private final AtomicReferenceArray<RewardAuditRecord> slots;
+    private final int mask;
+    private final AtomicLong producerSequence;
+    private final AtomicLong consumerSequence;
+    
+    public RewardAuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.producerSequence = new AtomicLong();
+        this.consumerSequence = new AtomicLong();
+    }
+    
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+    
+    public int size() {
+        return (int) Math.max(0L, this.producerSequence.get() - this.consumerSequence.get());
+    }
+    
+    public boolean offer(RewardAuditRecord record) {
+        while (true) {
+            long sequence = this.producerSequence.get();
+            if (sequence - this.consumerSequence.get() > this.mask) {
+                return false;
+            }
+            if (this.producerSequence.compareAndSet(sequence, sequence + 1L)) {
+                this.slots.lazySet((int) sequence & this.mask, record);
+                return true;
+            }
+        }
+    }
+    
+    public RewardAuditRecord poll() {
+        long sequence = this.consumerSequence.get();
+        int index = (int) sequence & this.mask;
+        RewardAuditRecord record = this.slots.get(index);
+        if (record == null) {
+            return null;
+        }
+        this.slots.lazySet(index, null);
+        this.consumerSequence.lazySet(sequence + 1L);
+        return record;
+    }
+}
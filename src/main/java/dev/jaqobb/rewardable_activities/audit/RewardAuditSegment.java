@@ -0,0 +1,126 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class RewardAuditSegment {
+    
+    public static final int MAGIC = 0x5241414C;
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final String FILE_PREFIX = "segment-";
+    public static final String FILE_SUFFIX = ".bin";
+    
+    private RewardAuditSegment() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static String getFileName(long createdAt) {
+        return FILE_PREFIX + createdAt + FILE_SUFFIX;
+    }
+    
+    public static void writeHeader(ByteBuffer buffer, long createdAt) {
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(createdAt);
+    }
+    
+    public static long readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not an audit log segment");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported audit log segment version: " + version);
+        }
+        buffer.getShort();
+        return buffer.getLong();
+    }
+    
+    public static int getMaximumEncodedSize(RewardAuditRecord record) {
+        int size = 4 + 8 + 16 + 8 + 2;
+        size += getMaximumEncodedLength(record.playerName());
+        size += getMaximumEncodedLength(record.activityId());
+        size += getMaximumEncodedLength(record.group());
+        for (String command : record.commands()) {
+            size += getMaximumEncodedLength(command);
+        }
+        return size;
+    }
+    
+    public static void write(ByteBuffer buffer, RewardAuditRecord record) {
+        int start = buffer.position();
+        buffer.putInt(0);
+        buffer.putLong(record.timestamp());
+        buffer.putLong(record.playerUniqueId().getMostSignificantBits());
+        buffer.putLong(record.playerUniqueId().getLeastSignificantBits());
+        buffer.putDouble(record.economy());
+        writeString(buffer, record.playerName());
+        writeString(buffer, record.activityId());
+        writeString(buffer, record.group());
+        buffer.putShort((short) record.commands().size());
+        for (String command : record.commands()) {
+            writeString(buffer, command);
+        }
+        buffer.putInt(start, buffer.position() - start - 4);
+    }
+    
+    public static RewardAuditRecord read(ByteBuffer buffer) {
+        if (buffer.remaining() < 4) {
+            return null;
+        }
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            return null;
+        }
+        long timestamp = buffer.getLong();
+        UUID playerUniqueId = new UUID(buffer.getLong(), buffer.getLong());
+        double economy = buffer.getDouble();
+        String playerName = readString(buffer);
+        String activityId = readString(buffer);
+        String group = readString(buffer);
+        int commandCount = Short.toUnsignedInt(buffer.getShort());
+        List<String> commands = new ArrayList<>(commandCount);
+        for (int index = 0; index < commandCount; index++) {
+            commands.add(readString(buffer));
+        }
+        return new RewardAuditRecord(timestamp, playerUniqueId, playerName, activityId, group, economy, commands);
+    }
+    
+    public static boolean skip(ByteBuffer buffer, UUID playerUniqueId, long from, long to) {
+        int start = buffer.position();
+        int length = buffer.getInt(start);
+        long timestamp = buffer.getLong(start + 4);
+        if (timestamp < from || timestamp > to) {
+            buffer.position(start + 4 + length);
+            return true;
+        }
+        if (playerUniqueId != null && (buffer.getLong(start + 12) != playerUniqueId.getMostSignificantBits() || buffer.getLong(start + 20) != playerUniqueId.getLeastSignificantBits())) {
+            buffer.position(start + 4 + length);
+            return true;
+        }
+        return false;
+    }
+    
+    private static int getMaximumEncodedLength(String string) {
+        return 2 + Math.min(string.length() * 3, 0xFFFF);
+    }
+    
+    private static void writeString(ByteBuffer buffer, String string) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 0xFFFF);
+        buffer.putShort((short) length);
+        buffer.put(bytes, 0, length);
+    }
+    
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.jaqobb.rewardable_activities.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class RewardAuditSegmentWriter implements AutoCloseable {
+    
+    private final Path directory;
+    private final int segmentSize;
+    private final long rotationMillis;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long segmentCreatedAt;
+    private boolean dirty;
+    
+    public RewardAuditSegmentWriter(Path directory, int segmentSize, long rotationMillis) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.rotationMillis = rotationMillis;
+    }
+    
+    public boolean write(RewardAuditRecord record) throws IOException {
+        int maximumSize = RewardAuditSegment.getMaximumEncodedSize(record);
+        if (maximumSize > this.segmentSize - RewardAuditSegment.HEADER_SIZE - 4) {
+            return false;
+        }
+        if (this.buffer == null || this.buffer.remaining() < maximumSize + 4 || this.isRotationDue(record.timestamp())) {
+            this.rotate(record.timestamp());
+        }
+        RewardAuditSegment.write(this.buffer, record);
+        this.dirty = true;
+        return true;
+    }
+    
+    public void rotateIfDue(long now) throws IOException {
+        if (this.buffer != null && this.isRotationDue(now)) {
+            this.closeSegment();
+        }
+    }
+    
+    public void flush() {
+        if (this.buffer != null && this.dirty) {
+            this.buffer.force();
+            this.dirty = false;
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        this.closeSegment();
+    }
+    
+    private boolean isRotationDue(long now) {
+        return this.rotationMillis > 0L && now - this.segmentCreatedAt >= this.rotationMillis;
+    }
+    
+    private void rotate(long now) throws IOException {
+        this.closeSegment();
+        Files.createDirectories(this.directory);
+        long createdAt = now;
+        Path file = this.directory.resolve(RewardAuditSegment.getFileName(createdAt));
+        while (Files.exists(file)) {
+            createdAt++;
+            file = this.directory.resolve(RewardAuditSegment.getFileName(createdAt));
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0L, this.segmentSize);
+        this.segmentCreatedAt = now;
+        RewardAuditSegment.writeHeader(this.buffer, createdAt);
+        this.dirty = true;
+    }
+    
+    private void closeSegment() throws IOException {
+        if (this.buffer != null) {
+            this.flush();
+            this.buffer = null;
+        }
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+}
@@ -2,18 +2,58 @@ package dev.jaqobb.rewardable_activities.command;
 
 import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.audit.RewardAuditLog;
+import dev.jaqobb.rewardable_activities.audit.RewardAuditLogReader;
+import dev.jaqobb.rewardable_activities.audit.RewardAuditRecord;
+import dev.jaqobb.rewardable_activities.data.RewardableActivity;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityType;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierSchedule;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierTimeline;
+import dev.jaqobb.rewardable_activities.placeholder.PlaceholderCache;
+import dev.jaqobb.rewardable_activities.projection.EconomyProjection;
+import dev.jaqobb.rewardable_activities.trace.RewardTracer;
+import dev.jaqobb.rewardable_activities.trace.TraceRecord;
+import dev.jaqobb.rewardable_activities.util.TimeUtils;
 import net.md_5.bungee.api.ChatColor;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
 
 public class RewardableActivitiesCommand implements CommandExecutor {
     
+    private static final int AUDIT_RECORDS_SHOWN = 10;
+    private static final int AUDIT_QUEUE_CAPACITY = 4;
+    private static final int TRACE_RECORDS_SHOWN = 30;
+    private static final int PROJECTION_HOURS = 10000;
+    private static final int PROJECTION_MAXIMUM_RATE = 1000000;
+    private static final DateTimeFormatter MULTIPLIER_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm z");
+    private static final DateTimeFormatter TRACE_TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    
     private final RewardableActivitiesPlugin plugin;
+    private final AtomicBoolean projectionRunning;
     
     public RewardableActivitiesCommand(RewardableActivitiesPlugin plugin) {
         this.plugin = plugin;
+        this.projectionRunning = new AtomicBoolean();
     }
     
     @Override
@@ -25,6 +65,14 @@ public class RewardableActivitiesCommand implements CommandExecutor {
         if (arguments.length == 0) {
             sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Available commands:");
             sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities reload" + ChatColor.WHITE + " - Reloads plugin.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities audit <player> [time]" + ChatColor.WHITE + " - Shows the latest audited rewards of a player.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities placeholders" + ChatColor.WHITE + " - Shows placeholder cache metrics.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities multipliers" + ChatColor.WHITE + " - Shows currently active scheduled multipliers.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace <player> [on|off]" + ChatColor.WHITE + " - Shows the latest traced reward decisions of a player or toggles tracing them.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace activity <type:key> <on|off>" + ChatColor.WHITE + " - Toggles tracing an activity.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace sample <n>" + ChatColor.WHITE + " - Traces 1 in n reward decisions, 0 disables sampling.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities memory" + ChatColor.WHITE + " - Shows entry counts and estimated memory of plugin data.");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities project <group[,group]> <type:key>=<per hour>..." + ChatColor.WHITE + " - Simulates economy payout per hour of an activity mix.");
             return true;
         }
         if (arguments[0].equalsIgnoreCase("reload")) {
@@ -37,8 +85,306 @@ public class RewardableActivitiesCommand implements CommandExecutor {
             sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Plugin has been reloaded.");
             return true;
         }
+        if (arguments[0].equalsIgnoreCase("audit")) {
+            if (arguments.length != 2 && arguments.length != 3) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " audit <player> [time]" + ChatColor.WHITE + ".");
+                return true;
+            }
+            RewardAuditLog auditLog = this.plugin.getAuditLog();
+            if (auditLog == null) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Audit log is not enabled.");
+                return true;
+            }
+            Instant time = arguments.length == 3 ? TimeUtils.parse(arguments[2]) : null;
+            if (arguments.length == 3 && time == null) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Invalid time: " + ChatColor.WHITE + arguments[2] + ChatColor.RED + ".");
+                return true;
+            }
+            long to = System.currentTimeMillis();
+            long from = time != null ? to - time.toEpochMilli() : Long.MIN_VALUE;
+            String playerName = arguments[1];
+            if (!this.plugin.getIoExecutor().getQueue("audit-reader", AUDIT_QUEUE_CAPACITY, 1).offer(() -> this.showAudit(sender, auditLog, playerName, from, to))) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Too many audit lookups are running, try again later.");
+            }
+            return true;
+        }
+        if (arguments[0].equalsIgnoreCase("placeholders")) {
+            if (arguments.length != 1) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " placeholders" + ChatColor.WHITE + ".");
+                return true;
+            }
+            PlaceholderCache placeholderCache = this.plugin.getPlaceholderCache();
+            if (placeholderCache == null) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Placeholder cache is not enabled.");
+                return true;
+            }
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Placeholder cache:");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Players: " + ChatColor.GRAY + placeholderCache.getPlayerCount() + ChatColor.WHITE + ", entries: " + ChatColor.GRAY + placeholderCache.getEntryCount());
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Hits: " + ChatColor.GRAY + placeholderCache.getHits() + ChatColor.WHITE + ", misses: " + ChatColor.GRAY + placeholderCache.getMisses() + ChatColor.WHITE + ", hit rate: " + ChatColor.GRAY + String.format("%.1f%%", placeholderCache.getHitRate() * 100.0D));
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Uncached: " + ChatColor.GRAY + placeholderCache.getBypasses() + ChatColor.WHITE + ", pre-warmed: " + ChatColor.GRAY + placeholderCache.getPreWarms());
+            return true;
+        }
+        if (arguments[0].equalsIgnoreCase("multipliers")) {
+            if (arguments.length != 1) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " multipliers" + ChatColor.WHITE + ".");
+                return true;
+            }
+            MultiplierTimeline multiplierTimeline = this.plugin.getMultiplierTimeline();
+            if (multiplierTimeline == null) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "There are no scheduled multipliers.");
+                return true;
+            }
+            List<MultiplierSchedule> activeSchedules = multiplierTimeline.getActiveSchedules();
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Scheduled multipliers: " + ChatColor.GRAY + multiplierTimeline.getSchedules().size() + ChatColor.WHITE + ", active: " + ChatColor.GRAY + activeSchedules.size());
+            for (MultiplierSchedule schedule : activeSchedules) {
+                String scope = (schedule.isGlobal() ? "all activities" : schedule.activityIndexes().length + " activities") + (schedule.groups() == null ? "" : ", groups " + String.join(", ", schedule.groups()));
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + schedule.name() + ChatColor.WHITE + ": chance " + ChatColor.GRAY + "x" + schedule.chance() + ChatColor.WHITE + ", economy " + ChatColor.GRAY + "x" + schedule.economy() + ChatColor.WHITE + " (" + scope + ")");
+            }
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Next update: " + ChatColor.GRAY + MULTIPLIER_TIME_FORMATTER.format(Instant.ofEpochMilli(multiplierTimeline.getNextBoundary()).atZone(multiplierTimeline.getZone())));
+            return true;
+        }
+        if (arguments[0].equalsIgnoreCase("trace")) {
+            RewardTracer tracer = this.plugin.getRewardTracer();
+            if (arguments.length == 3 && arguments[1].equalsIgnoreCase("sample")) {
+                int sampleRate;
+                try {
+                    sampleRate = Integer.parseInt(arguments[2]);
+                } catch (NumberFormatException exception) {
+                    sampleRate = -1;
+                }
+                if (sampleRate < 0) {
+                    sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Invalid sample rate: " + ChatColor.WHITE + arguments[2] + ChatColor.RED + ".");
+                    return true;
+                }
+                tracer.setSampleRate(sampleRate);
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + (sampleRate == 0 ? "Sampled tracing has been disabled." : "Tracing 1 in " + ChatColor.GRAY + sampleRate + ChatColor.WHITE + " reward decisions."));
+                return true;
+            }
+            if (arguments.length == 4 && arguments[1].equalsIgnoreCase("activity")) {
+                Boolean traced = this.parseToggle(arguments[3]);
+                RewardableActivity activity = this.findActivity(arguments[2]);
+                if (traced == null || activity == null) {
+                    sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Unknown activity or toggle, the activity has to be written as 'type:key' and the toggle as 'on' or 'off'.");
+                    return true;
+                }
+                String activityId = this.plugin.getRepository().getActivityId(activity.index());
+                tracer.setActivityTraced(activityId, activity.index(), traced);
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Tracing of " + ChatColor.GRAY + activityId + ChatColor.WHITE + " has been " + (traced ? "enabled" : "disabled") + ".");
+                return true;
+            }
+            if (arguments.length != 2 && arguments.length != 3) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " trace <player> [on|off]" + ChatColor.WHITE + ", " + ChatColor.GRAY + "/" + label + " trace activity <type:key> <on|off>" + ChatColor.WHITE + " or " + ChatColor.GRAY + "/" + label + " trace sample <n>" + ChatColor.WHITE + ".");
+                return true;
+            }
+            String playerName = arguments[1];
+            UUID playerUniqueId = this.getPlayerUniqueId(playerName);
+            if (playerUniqueId == null) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Could not find player " + ChatColor.WHITE + playerName + ChatColor.RED + ".");
+                return true;
+            }
+            if (arguments.length == 3) {
+                Boolean traced = this.parseToggle(arguments[2]);
+                if (traced == null) {
+                    sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Invalid toggle: " + ChatColor.WHITE + arguments[2] + ChatColor.RED + ", it has to be 'on' or 'off'.");
+                    return true;
+                }
+                tracer.setPlayerTraced(playerUniqueId, traced);
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Tracing of " + ChatColor.GRAY + playerName + ChatColor.WHITE + " has been " + (traced ? "enabled" : "disabled") + ".");
+                return true;
+            }
+            List<TraceRecord> records = tracer.getRecords(playerUniqueId, TRACE_RECORDS_SHOWN);
+            if (records.isEmpty()) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "No traced reward decisions found for " + ChatColor.GRAY + playerName + ChatColor.WHITE + (tracer.isEnabled() ? "." : ", tracing is not enabled."));
+                return true;
+            }
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Latest traced reward decisions of " + ChatColor.GRAY + playerName + ChatColor.WHITE + ":");
+            for (TraceRecord record : records) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + TRACE_TIME_FORMATTER.format(Instant.ofEpochMilli(record.time()).atZone(ZoneId.systemDefault())) + " #" + record.traceId() + ChatColor.WHITE + " " + record.activityId() + " " + ChatColor.GRAY + record.step() + ChatColor.WHITE + ": " + record.detail());
+            }
+            return true;
+        }
+        if (arguments[0].equalsIgnoreCase("project")) {
+            if (arguments.length < 3) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " project <group[,group]> <type:key>=<per hour>..." + ChatColor.WHITE + ".");
+                return true;
+            }
+            List<RewardableActivity> activities = new ArrayList<>(arguments.length - 2);
+            int[] rates = new int[arguments.length - 2];
+            for (int index = 2; index < arguments.length; index++) {
+                int separator = arguments[index].lastIndexOf('=');
+                RewardableActivity activity = separator == -1 ? null : this.findActivity(arguments[index].substring(0, separator));
+                if (activity == null) {
+                    sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Unknown activity: " + ChatColor.WHITE + arguments[index] + ChatColor.RED + ".");
+                    return true;
+                }
+                int rate;
+                try {
+                    rate = Integer.parseInt(arguments[index].substring(separator + 1));
+                } catch (NumberFormatException exception) {
+                    rate = -1;
+                }
+                if (rate < 1 || rate > PROJECTION_MAXIMUM_RATE) {
+                    sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Invalid rate: " + ChatColor.WHITE + arguments[index] + ChatColor.RED + ".");
+                    return true;
+                }
+                activities.add(activity);
+                rates[index - 2] = rate;
+            }
+            if (!this.projectionRunning.compareAndSet(false, true)) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "A projection is already running.");
+                return true;
+            }
+            String[] groups = arguments[1].split(",");
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Simulating " + ChatColor.GRAY + PROJECTION_HOURS + ChatColor.WHITE + " hours...");
+            this.plugin.getScheduler().runAsync(() -> {
+                try {
+                    this.showProjection(sender, groups, activities, rates);
+                } finally {
+                    this.projectionRunning.set(false);
+                }
+            });
+            return true;
+        }
+        if (arguments[0].equalsIgnoreCase("memory")) {
+            if (arguments.length != 1) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Correct usage: " + ChatColor.GRAY + "/" + label + " memory" + ChatColor.WHITE + ".");
+                return true;
+            }
+            List<MemoryFootprint> footprints = this.plugin.getMemoryFootprints();
+            long totalBytes = 0L;
+            for (MemoryFootprint footprint : footprints) {
+                totalBytes += footprint.bytes();
+            }
+            Runtime runtime = Runtime.getRuntime();
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Estimated memory: " + ChatColor.GRAY + this.formatBytes(totalBytes) + ChatColor.WHITE + ", used heap: " + ChatColor.GRAY + this.formatBytes(runtime.totalMemory() - runtime.freeMemory()));
+            for (MemoryFootprint footprint : footprints) {
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + footprint.name() + ChatColor.WHITE + ": " + ChatColor.GRAY + footprint.entries() + ChatColor.WHITE + " entries, " + ChatColor.GRAY + this.formatBytes(footprint.bytes()));
+            }
+            return true;
+        }
         sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Available commands:");
         sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities reload" + ChatColor.WHITE + " - Reloads plugin.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities audit <player> [time]" + ChatColor.WHITE + " - Shows the latest audited rewards of a player.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities placeholders" + ChatColor.WHITE + " - Shows placeholder cache metrics.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities multipliers" + ChatColor.WHITE + " - Shows currently active scheduled multipliers.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace <player> [on|off]" + ChatColor.WHITE + " - Shows the latest traced reward decisions of a player or toggles tracing them.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace activity <type:key> <on|off>" + ChatColor.WHITE + " - Toggles tracing an activity.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities trace sample <n>" + ChatColor.WHITE + " - Traces 1 in n reward decisions, 0 disables sampling.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities memory" + ChatColor.WHITE + " - Shows entry counts and estimated memory of plugin data.");
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + "/rewardable-activities project <group[,group]> <type:key>=<per hour>..." + ChatColor.WHITE + " - Simulates economy payout per hour of an activity mix.");
         return true;
     }
+    
+    private void showProjection(CommandSender sender, String[] groups, List<RewardableActivity> activities, int[] rates) {
+        int parallelism = Runtime.getRuntime().availableProcessors() - 1;
+        for (String group : groups) {
+            List<EconomyProjection.Entry> entries = new ArrayList<>(activities.size());
+            for (int index = 0; index < activities.size(); index++) {
+                RewardableActivity activity = activities.get(index);
+                List<RewardableActivityReward> rewards = activity.rewards().get(group);
+                if (rewards == null) {
+                    rewards = activity.rewards().getOrDefault("default", List.of());
+                }
+                entries.add(new EconomyProjection.Entry(activity.id(), rewards, rates[index], activity.threshold()));
+            }
+            EconomyProjection projection = new EconomyProjection(entries, PROJECTION_HOURS, ThreadLocalRandom.current().nextLong());
+            long start = System.nanoTime();
+            List<EconomyProjection.Result> results = projection.run(parallelism);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Group " + ChatColor.GRAY + group + ChatColor.WHITE + " (" + ChatColor.GRAY + projection.getDraws() + ChatColor.WHITE + " draws in " + ChatColor.GRAY + elapsed + " ms" + ChatColor.WHITE + "), economy per hour:");
+            for (EconomyProjection.Result result : results) {
+                String name = result.isTotal() ? "Total" : result.name();
+                sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + name + ChatColor.WHITE + ": mean " + ChatColor.GRAY + String.format("%.2f", result.mean()) + ChatColor.WHITE + ", p50 " + ChatColor.GRAY + String.format("%.2f", result.median()) + ChatColor.WHITE + ", p90 " + ChatColor.GRAY + String.format("%.2f", result.percentile90()) + ChatColor.WHITE + ", p99 " + ChatColor.GRAY + String.format("%.2f", result.percentile99()));
+            }
+        }
+    }
+    
+    private String formatBytes(long bytes) {
+        if (bytes < 1024L) {
+            return bytes + " B";
+        }
+        if (bytes < 1024L * 1024L) {
+            return String.format("%.1f KiB", bytes / 1024.0D);
+        }
+        return String.format("%.1f MiB", bytes / (1024.0D * 1024.0D));
+    }
+    
+    private void showAudit(CommandSender sender, RewardAuditLog auditLog, String playerName, long from, long to) {
+        UUID playerUniqueId = this.getPlayerUniqueId(playerName);
+        if (playerUniqueId == null) {
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Could not find player " + ChatColor.WHITE + playerName + ChatColor.RED + ".");
+            return;
+        }
+        Deque<RewardAuditRecord> records = new ArrayDeque<>(AUDIT_RECORDS_SHOWN);
+        try {
+            for (Path segment : RewardAuditLogReader.getSegments(auditLog.getDirectory(), from, to)) {
+                RewardAuditLogReader.scan(segment, playerUniqueId, from, to, record -> {
+                    if (records.size() == AUDIT_RECORDS_SHOWN) {
+                        records.removeFirst();
+                    }
+                    records.addLast(record);
+                    return true;
+                });
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Could not read the audit log.", exception);
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.RED + "Could not read the audit log, check the console for details.");
+            return;
+        }
+        if (records.isEmpty()) {
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "No audited rewards found for " + ChatColor.GRAY + playerName + ChatColor.WHITE + ".");
+            return;
+        }
+        sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.WHITE + "Latest audited rewards of " + ChatColor.GRAY + playerName + ChatColor.WHITE + ":");
+        for (RewardAuditRecord record : records) {
+            sender.sendMessage(RewardableActivitiesConstants.PREFIX + ChatColor.GRAY + Instant.ofEpochMilli(record.timestamp()) + ChatColor.WHITE + " " + record.activityId() + " (" + record.group() + "), economy: " + ChatColor.GRAY + record.economy() + ChatColor.WHITE + ", commands: " + ChatColor.GRAY + record.commands().size());
+        }
+    }
+    
+    private Boolean parseToggle(String toggle) {
+        if (toggle.equalsIgnoreCase("on")) {
+            return true;
+        }
+        if (toggle.equalsIgnoreCase("off")) {
+            return false;
+        }
+        return null;
+    }
+    
+    private RewardableActivity findActivity(String activityId) {
+        int separator = activityId.lastIndexOf(':');
+        if (separator == -1) {
+            return null;
+        }
+        RewardableActivityType<?> type = this.plugin.getRepository().getType(activityId.substring(0, separator));
+        if (type == null) {
+            return null;
+        }
+        return this.findActivity(type, activityId.substring(separator + 1));
+    }
+    
+    private <K> RewardableActivity findActivity(RewardableActivityType<K> type, String key) {
+        try {
+            return this.plugin.getRepository().getActivity(type, type.parseKey(key));
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+    
+    private UUID getPlayerUniqueId(String playerName) {
+        try {
+            return UUID.fromString(playerName);
+        } catch (IllegalArgumentException ignored) {
+        }
+        Player player = this.plugin.getServer().getPlayerExact(playerName);
+        if (player != null) {
+            return player.getUniqueId();
+        }
+        for (OfflinePlayer offlinePlayer : this.plugin.getServer().getOfflinePlayers()) {
+            if (playerName.equalsIgnoreCase(offlinePlayer.getName())) {
+                return offlinePlayer.getUniqueId();
+            }
+        }
+        return null;
+    }
 }
@@ -22,6 +22,24 @@ public class RewardableActivitiesCommandTabCompleter implements TabCompleter {
         if ("reload".startsWith(argument)) {
             completions.add("reload");
         }
+        if ("audit".startsWith(argument)) {
+            completions.add("audit");
+        }
+        if ("placeholders".startsWith(argument)) {
+            completions.add("placeholders");
+        }
+        if ("multipliers".startsWith(argument)) {
+            completions.add("multipliers");
+        }
+        if ("trace".startsWith(argument)) {
+            completions.add("trace");
+        }
+        if ("memory".startsWith(argument)) {
+            completions.add("memory");
+        }
+        if ("project".startsWith(argument)) {
+            completions.add("project");
+        }
         return completions;
     }
 }
@@ -0,0 +1,73 @@
+package dev.jaqobb.rewardable_activities.condition;
+
+import org.bukkit.block.Biome;
+import org.bukkit.enchantments.Enchantment;
+
+public final class RewardCondition {
+    
+    private final long[] materials;
+    private final int toolTypes;
+    private final Enchantment[] enchantments;
+    private final int[] minimumEnchantmentLevels;
+    private final int[] maximumEnchantmentLevels;
+    private final int minimumY;
+    private final int maximumY;
+    private final Biome[] biomes;
+    private final long minimumTime;
+    private final long maximumTime;
+    
+    public RewardCondition(long[] materials, int toolTypes, Enchantment[] enchantments, int[] minimumEnchantmentLevels, int[] maximumEnchantmentLevels, int minimumY, int maximumY, Biome[] biomes, long minimumTime, long maximumTime) {
+        this.materials = materials;
+        this.toolTypes = toolTypes;
+        this.enchantments = enchantments;
+        this.minimumEnchantmentLevels = minimumEnchantmentLevels;
+        this.maximumEnchantmentLevels = maximumEnchantmentLevels;
+        this.minimumY = minimumY;
+        this.maximumY = maximumY;
+        this.biomes = biomes;
+        this.minimumTime = minimumTime;
+        this.maximumTime = maximumTime;
+    }
+    
+    public boolean test(RewardContext context) {
+        int y = context.getY();
+        if (y < this.minimumY || y > this.maximumY) {
+            return false;
+        }
+        if (this.materials != null || this.toolTypes != 0) {
+            int materialOrdinal = context.getMaterialOrdinal();
+            if (this.materials != null && (materialOrdinal >>> 6 >= this.materials.length || (this.materials[materialOrdinal >>> 6] & 1L << materialOrdinal) == 0L)) {
+                return false;
+            }
+            if (this.toolTypes != 0 && (this.toolTypes & 1 << ToolType.getOrdinal(materialOrdinal)) == 0) {
+                return false;
+            }
+        }
+        for (int index = 0; index < this.enchantments.length; index++) {
+            int level = context.getEnchantmentLevel(this.enchantments[index]);
+            if (level < this.minimumEnchantmentLevels[index] || level > this.maximumEnchantmentLevels[index]) {
+                return false;
+            }
+        }
+        if (this.biomes != null) {
+            Biome biome = context.getBiome();
+            boolean found = false;
+            for (Biome allowedBiome : this.biomes) {
+                if (allowedBiome.equals(biome)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        if (this.minimumTime > 0L || this.maximumTime < 24000L) {
+            long time = context.getTime() % 24000L;
+            if (this.minimumTime <= this.maximumTime ? time < this.minimumTime || time > this.maximumTime : time < this.minimumTime && time > this.maximumTime) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
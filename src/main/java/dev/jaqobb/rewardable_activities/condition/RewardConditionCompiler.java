@@ -0,0 +1,136 @@
+package dev.jaqobb.rewardable_activities.condition;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.block.Biome;
+import org.bukkit.enchantments.Enchantment;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public final class RewardConditionCompiler {
+    
+    private static final Set<String> KEYS = Set.of("items", "tools", "enchantments", "y", "biomes", "time");
+    
+    private RewardConditionCompiler() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static RewardCondition compile(Map<?, ?> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return null;
+        }
+        for (Object key : conditions.keySet()) {
+            if (!KEYS.contains(String.valueOf(key))) {
+                throw new IllegalArgumentException("Unknown condition: " + key);
+            }
+        }
+        long[] materials = null;
+        List<String> items = getStrings(conditions, "items");
+        if (!items.isEmpty()) {
+            materials = new long[(Material.values().length + 63) >>> 6];
+            for (String item : items) {
+                Material material = Material.matchMaterial(item);
+                if (material == null) {
+                    throw new IllegalArgumentException("Unknown item: " + item);
+                }
+                materials[material.ordinal() >>> 6] |= 1L << material.ordinal();
+            }
+        }
+        int toolTypes = 0;
+        for (String tool : getStrings(conditions, "tools")) {
+            ToolType toolType = ToolType.getByName(tool);
+            if (toolType == null) {
+                throw new IllegalArgumentException("Unknown tool: " + tool);
+            }
+            toolTypes |= 1 << toolType.ordinal();
+        }
+        List<String> enchantmentEntries = getStrings(conditions, "enchantments");
+        Enchantment[] enchantments = new Enchantment[enchantmentEntries.size()];
+        int[] minimumEnchantmentLevels = new int[enchantments.length];
+        int[] maximumEnchantmentLevels = new int[enchantments.length];
+        for (int index = 0; index < enchantments.length; index++) {
+            String entry = enchantmentEntries.get(index).toLowerCase(Locale.ROOT);
+            boolean negated = entry.startsWith("!");
+            if (negated) {
+                entry = entry.substring(1);
+            }
+            int minimumLevel = 1;
+            int separator = entry.lastIndexOf(':');
+            if (separator != -1 && separator < entry.length() - 1 && Character.isDigit(entry.charAt(separator + 1))) {
+                minimumLevel = parseInt(entry.substring(separator + 1), "enchantment level");
+                entry = entry.substring(0, separator);
+            }
+            NamespacedKey key = entry.contains(":") ? NamespacedKey.fromString(entry) : NamespacedKey.minecraft(entry);
+            Enchantment enchantment = key == null ? null : Registry.ENCHANTMENT.get(key);
+            if (enchantment == null) {
+                throw new IllegalArgumentException("Unknown enchantment: " + entry);
+            }
+            enchantments[index] = enchantment;
+            minimumEnchantmentLevels[index] = negated ? 0 : minimumLevel;
+            maximumEnchantmentLevels[index] = negated ? 0 : Integer.MAX_VALUE;
+        }
+        int[] y = getRange(conditions, "y", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (y[0] > y[1]) {
+            throw new IllegalArgumentException("Minimum y cannot be above maximum y");
+        }
+        Biome[] biomes = null;
+        List<String> biomeNames = getStrings(conditions, "biomes");
+        if (!biomeNames.isEmpty()) {
+            biomes = new Biome[biomeNames.size()];
+            for (int index = 0; index < biomes.length; index++) {
+                String name = biomeNames.get(index).toLowerCase(Locale.ROOT);
+                NamespacedKey key = name.contains(":") ? NamespacedKey.fromString(name) : NamespacedKey.minecraft(name);
+                Biome biome = key == null ? null : Registry.BIOME.get(key);
+                if (biome == null) {
+                    throw new IllegalArgumentException("Unknown biome: " + name);
+                }
+                biomes[index] = biome;
+            }
+        }
+        int[] time = getRange(conditions, "time", 0, 24000);
+        if (time[0] < 0 || time[1] > 24000) {
+            throw new IllegalArgumentException("Time has to be between 0 and 24000");
+        }
+        return new RewardCondition(materials, toolTypes, enchantments, minimumEnchantmentLevels, maximumEnchantmentLevels, y[0], y[1], biomes, time[0], time[1]);
+    }
+    
+    private static List<String> getStrings(Map<?, ?> conditions, String key) {
+        Object value = conditions.get(key);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<String> strings = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                strings.add(String.valueOf(element));
+            }
+            return strings;
+        }
+        return List.of(String.valueOf(value));
+    }
+    
+    private static int[] getRange(Map<?, ?> conditions, String key, int minimum, int maximum) {
+        Object value = conditions.get(key);
+        if (value == null) {
+            return new int[] {minimum, maximum};
+        }
+        if (!(value instanceof List<?> list) || list.size() != 2) {
+            throw new IllegalArgumentException("Condition " + key + " has to be written as [minimum, maximum]");
+        }
+        return new int[] {parseInt(String.valueOf(list.get(0)), key), parseInt(String.valueOf(list.get(1)), key)};
+    }
+    
+    private static int parseInt(String value, String name) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package dev.jaqobb.rewardable_activities.condition;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+public final class RewardContext {
+    
+    private static final ThreadLocal<RewardContext> CONTEXTS = ThreadLocal.withInitial(RewardContext::new);
+    
+    private Player player;
+    private World world;
+    private int x;
+    private int y;
+    private int z;
+    private boolean itemLoaded;
+    private ItemStack item;
+    private int materialOrdinal;
+    private boolean biomeLoaded;
+    private Biome biome;
+    private boolean timeLoaded;
+    private long time;
+    
+    private RewardContext() {
+    }
+    
+    public static RewardContext get(Player player, World world, int x, int y, int z) {
+        RewardContext context = CONTEXTS.get();
+        context.player = player;
+        context.world = world;
+        context.x = x;
+        context.y = y;
+        context.z = z;
+        context.itemLoaded = false;
+        context.item = null;
+        context.biomeLoaded = false;
+        context.biome = null;
+        context.timeLoaded = false;
+        return context;
+    }
+    
+    public Player getPlayer() {
+        return this.player;
+    }
+    
+    public int getY() {
+        return this.y;
+    }
+    
+    public int getMaterialOrdinal() {
+        this.loadItem();
+        return this.materialOrdinal;
+    }
+    
+    public int getEnchantmentLevel(Enchantment enchantment) {
+        this.loadItem();
+        return this.item == null ? 0 : this.item.getEnchantmentLevel(enchantment);
+    }
+    
+    public Biome getBiome() {
+        if (!this.biomeLoaded) {
+            this.biome = this.world.getBiome(this.x, this.y, this.z);
+            this.biomeLoaded = true;
+        }
+        return this.biome;
+    }
+    
+    public long getTime() {
+        if (!this.timeLoaded) {
+            this.time = this.world.getTime();
+            this.timeLoaded = true;
+        }
+        return this.time;
+    }
+    
+    private void loadItem() {
+        if (this.itemLoaded) {
+            return;
+        }
+        ItemStack item = this.player.getInventory().getItemInMainHand();
+        if (item == null || item.getType() == Material.AIR) {
+            this.item = null;
+            this.materialOrdinal = Material.AIR.ordinal();
+        } else {
+            this.item = item;
+            this.materialOrdinal = item.getType().ordinal();
+        }
+        this.itemLoaded = true;
+    }
+}
@@ -0,0 +1,71 @@
+package dev.jaqobb.rewardable_activities.condition;
+
+import org.bukkit.Material;
+
+public enum ToolType {
+    
+    NONE,
+    PICKAXE,
+    AXE,
+    SHOVEL,
+    HOE,
+    SWORD,
+    SHEARS,
+    FISHING_ROD,
+    BOW,
+    CROSSBOW,
+    TRIDENT,
+    MACE,
+    OTHER;
+    
+    private static final ToolType[] VALUES = values();
+    private static final byte[] MATERIAL_TOOL_TYPES;
+    
+    static {
+        Material[] materials = Material.values();
+        MATERIAL_TOOL_TYPES = new byte[materials.length];
+        for (Material material : materials) {
+            MATERIAL_TOOL_TYPES[material.ordinal()] = (byte) getToolType(material.name()).ordinal();
+        }
+    }
+    
+    public static ToolType getByName(String name) {
+        for (ToolType toolType : VALUES) {
+            if (toolType.name().equalsIgnoreCase(name.replace('-', '_'))) {
+                return toolType;
+            }
+        }
+        return null;
+    }
+    
+    public static int getOrdinal(int materialOrdinal) {
+        return MATERIAL_TOOL_TYPES[materialOrdinal];
+    }
+    
+    private static ToolType getToolType(String materialName) {
+        if (materialName.equals("AIR")) {
+            return NONE;
+        }
+        if (materialName.endsWith("_PICKAXE")) {
+            return PICKAXE;
+        }
+        if (materialName.endsWith("_AXE")) {
+            return AXE;
+        }
+        if (materialName.endsWith("_SHOVEL")) {
+            return SHOVEL;
+        }
+        if (materialName.endsWith("_HOE")) {
+            return HOE;
+        }
+        if (materialName.endsWith("_SWORD")) {
+            return SWORD;
+        }
+        for (ToolType toolType : VALUES) {
+            if (toolType.name().equals(materialName)) {
+                return toolType;
+            }
+        }
+        return OTHER;
+    }
+}
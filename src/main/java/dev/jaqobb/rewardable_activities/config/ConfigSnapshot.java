@@ -0,0 +1,10 @@
+package dev.jaqobb.rewardable_activities.config;
+
+import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierSchedule;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierTimeline;
+import java.time.ZoneId;
+import java.util.List;
+
+public record ConfigSnapshot(RewardableActivityRepository.Snapshot activities, ZoneId multiplierSchedulesTimezone, List<MultiplierSchedule> multiplierSchedules, MultiplierTimeline multiplierTimeline) {
+}
@@ -0,0 +1,177 @@
+package dev.jaqobb.rewardable_activities.config;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class ConfigWatcher {
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Path directory;
+    private final Path file;
+    private final long debounce;
+    private final Thread thread;
+    private WatchService watchService;
+    private volatile String contents;
+    private volatile boolean running;
+    
+    public ConfigWatcher(RewardableActivitiesPlugin plugin, long debounce) {
+        this.plugin = plugin;
+        this.directory = plugin.getDataFolder().toPath();
+        this.file = this.directory.resolve("config.yml");
+        this.debounce = debounce;
+        this.thread = plugin.getIoExecutor().newThread("RewardableActivities Config Watcher", this::run);
+    }
+    
+    public void start() throws IOException {
+        this.watchService = this.directory.getFileSystem().newWatchService();
+        try {
+            this.directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException exception) {
+            this.watchService.close();
+            throw exception;
+        }
+        this.running = true;
+        this.thread.start();
+    }
+    
+    public void stop() {
+        this.running = false;
+        try {
+            this.watchService.close();
+        } catch (IOException ignored) {
+        }
+        this.thread.interrupt();
+    }
+    
+    public long getDebounce() {
+        return this.debounce;
+    }
+    
+    private void run() {
+        try {
+            this.contents = Files.readString(this.file);
+        } catch (IOException ignored) {
+        }
+        long debounce = TimeUnit.MILLISECONDS.toNanos(this.debounce);
+        try {
+            while (this.running) {
+                if (!this.isChanged(this.watchService.take())) {
+                    continue;
+                }
+                long deadline = System.nanoTime() + debounce;
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0L) {
+                    WatchKey key = this.watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key != null && this.isChanged(key)) {
+                        deadline = System.nanoTime() + debounce;
+                    }
+                }
+                if (this.running) {
+                    this.compile();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+    
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        if (!key.reset() && this.running) {
+            this.plugin.getLogger().log(Level.WARNING, "Plugin folder can no longer be watched. As such, the configuration will not be reloaded automatically anymore.");
+            this.running = false;
+        }
+        return changed;
+    }
+    
+    private void compile() {
+        String contents;
+        try {
+            contents = Files.readString(this.file);
+        } catch (IOException exception) {
+            this.reject(List.of("Could not read the configuration file (" + exception.getMessage() + ")"));
+            return;
+        }
+        if (contents.equals(this.contents)) {
+            return;
+        }
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(contents);
+        } catch (InvalidConfigurationException exception) {
+            this.reject(List.of(exception.getMessage()));
+            return;
+        }
+        List<String> problems = this.plugin.getRepository().validate(config);
+        if (!problems.isEmpty()) {
+            this.reject(problems);
+            return;
+        }
+        ConfigSnapshot snapshot;
+        try {
+            snapshot = this.plugin.compileConfig(config);
+        } catch (RuntimeException exception) {
+            this.reject(List.of("Could not compile the configuration (" + exception.getMessage() + ")"));
+            return;
+        }
+        this.plugin.getScheduler().runGlobal(() -> this.publish(contents, snapshot));
+    }
+    
+    private void reject(List<String> problems) {
+        this.plugin.getLogger().log(Level.WARNING, "Configuration was not properly configured. As such, the changes will not be applied:");
+        for (String problem : problems) {
+            this.plugin.getLogger().log(Level.WARNING, " * " + problem);
+        }
+        this.plugin.getScheduler().runGlobal(() -> this.notifyAdministrators(ChatColor.RED + "Configuration changes were rejected (" + problems.size() + " problem" + (problems.size() == 1 ? "" : "s") + "), see the console for details."));
+    }
+    
+    private void publish(String contents, ConfigSnapshot snapshot) {
+        if (!this.running) {
+            return;
+        }
+        YamlConfiguration config = (YamlConfiguration) this.plugin.getConfig();
+        String previousContents = config.saveToString();
+        try {
+            config.loadFromString(contents);
+            this.plugin.loadConfig(true, snapshot);
+        } catch (InvalidConfigurationException | RuntimeException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Configuration changes could not be applied. As such, the previous configuration will be restored.", exception);
+            try {
+                config.loadFromString(previousContents);
+            } catch (InvalidConfigurationException ignored) {
+            }
+            this.plugin.loadConfig(true);
+            this.notifyAdministrators(ChatColor.RED + "Configuration changes could not be applied, see the console for details.");
+            return;
+        }
+        this.contents = contents;
+        this.notifyAdministrators(ChatColor.WHITE + "Configuration changes have been applied.");
+    }
+    
+    private void notifyAdministrators(String message) {
+        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
+            if (player.hasPermission("rewardableactivities.command.rewardableactivities")) {
+                player.sendMessage(RewardableActivitiesConstants.PREFIX + message);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package dev.jaqobb.rewardable_activities.cooldown;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import org.bukkit.entity.Player;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CooldownStore {
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Map<UUID, long[]> deadlines;
+    private final AtomicLong slots;
+    
+    public CooldownStore(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+        this.deadlines = new ConcurrentHashMap<>(16);
+        this.slots = new AtomicLong();
+    }
+    
+    public boolean isCoolingDown(Player player, int activityIndex, long now) {
+        long[] deadlines = this.deadlines.get(player.getUniqueId());
+        return deadlines != null && activityIndex < deadlines.length && deadlines[activityIndex] > now;
+    }
+    
+    public void start(Player player, int activityIndex, long cooldown, long now) {
+        long[] deadlines = this.deadlines.get(player.getUniqueId());
+        if (deadlines == null || activityIndex >= deadlines.length) {
+            int size = Math.max(activityIndex + 1, this.plugin.getRepository().getActivityIndexCount());
+            deadlines = this.deadlines.compute(player.getUniqueId(), (uniqueId, currentDeadlines) -> {
+                if (currentDeadlines == null) {
+                    this.slots.addAndGet(size);
+                    return new long[size];
+                }
+                if (currentDeadlines.length > activityIndex) {
+                    return currentDeadlines;
+                }
+                this.slots.addAndGet(size - currentDeadlines.length);
+                return Arrays.copyOf(currentDeadlines, size);
+            });
+        }
+        deadlines[activityIndex] = now + cooldown;
+    }
+    
+    public void remove(UUID uniqueId) {
+        long[] deadlines = this.deadlines.remove(uniqueId);
+        if (deadlines != null) {
+            this.slots.addAndGet(-deadlines.length);
+        }
+    }
+    
+    public int getPlayerCount() {
+        return this.deadlines.size();
+    }
+    
+    public long getSlotCount() {
+        return this.slots.get();
+    }
+    
+    public long getEstimatedBytes() {
+        int players = this.deadlines.size();
+        return MemoryFootprint.map(players, MemoryFootprint.UUID_BYTES + MemoryFootprint.ARRAY_HEADER_BYTES) + this.slots.get() * 8L;
+    }
+}
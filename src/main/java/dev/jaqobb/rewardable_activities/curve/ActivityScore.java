@@ -0,0 +1,22 @@
+package dev.jaqobb.rewardable_activities.curve;
+
+public class ActivityScore {
+    
+    private double score;
+    private long lastUpdate;
+    
+    public synchronized double increment(long now, double decayPerMillisecond) {
+        if (this.lastUpdate != 0L && now > this.lastUpdate) {
+            this.score *= Math.exp(-decayPerMillisecond * (now - this.lastUpdate));
+        }
+        this.lastUpdate = now;
+        return ++this.score;
+    }
+    
+    public synchronized double get(long now, double decayPerMillisecond) {
+        if (this.lastUpdate == 0L || now <= this.lastUpdate) {
+            return this.score;
+        }
+        return this.score * Math.exp(-decayPerMillisecond * (now - this.lastUpdate));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.jaqobb.rewardable_activities.curve;
+
+public record ExponentialRewardCurve(double start, double rate, double minimum) implements RewardCurve {
+    
+    @Override
+    public double getMultiplier(double score) {
+        if (score <= this.start) {
+            return 1.0D;
+        }
+        return Math.max(this.minimum, Math.exp(-this.rate * (score - this.start)));
+    }
+}
@@ -0,0 +1,6 @@
+package dev.jaqobb.rewardable_activities.curve;
+
+public interface RewardCurve {
+    
+    double getMultiplier(double score);
+}
@@ -0,0 +1,46 @@
+package dev.jaqobb.rewardable_activities.curve;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import org.bukkit.entity.Player;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class RewardCurveManager {
+    
+    private final Map<UUID, ActivityScore> scores;
+    private volatile double decayPerMillisecond;
+    
+    public RewardCurveManager() {
+        this.scores = new ConcurrentHashMap<>(16);
+    }
+    
+    public void setHalfLife(long halfLifeMillis) {
+        this.decayPerMillisecond = Math.log(2.0D) / halfLifeMillis;
+    }
+    
+    public int getTrackedPlayers() {
+        return this.scores.size();
+    }
+    
+    public long getEstimatedBytes() {
+        return MemoryFootprint.map(this.scores.size(), MemoryFootprint.UUID_BYTES + MemoryFootprint.object(16L));
+    }
+    
+    public double track(Player player) {
+        ActivityScore score = this.scores.get(player.getUniqueId());
+        if (score == null) {
+            score = this.scores.computeIfAbsent(player.getUniqueId(), key -> new ActivityScore());
+        }
+        return score.increment(System.currentTimeMillis(), this.decayPerMillisecond);
+    }
+    
+    public double getScore(UUID uniqueId) {
+        ActivityScore score = this.scores.get(uniqueId);
+        return score != null ? score.get(System.currentTimeMillis(), this.decayPerMillisecond) : 0.0D;
+    }
+    
+    public void remove(UUID uniqueId) {
+        this.scores.remove(uniqueId);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.jaqobb.rewardable_activities.curve;
+
+import java.util.Map;
+import java.util.NavigableMap;
+
+public class StepwiseRewardCurve implements RewardCurve {
+    
+    public static final int MAXIMUM_STEP = 65535;
+    
+    private final double[] multipliers;
+    
+    public StepwiseRewardCurve(NavigableMap<Integer, Double> steps) {
+        int lastStep = steps.isEmpty() ? 0 : steps.lastKey();
+        if (lastStep < 0 || lastStep > MAXIMUM_STEP) {
+            throw new IllegalArgumentException("Steps have to be between 0 and " + MAXIMUM_STEP);
+        }
+        this.multipliers = new double[lastStep + 1];
+        for (int score = 0; score <= lastStep; score++) {
+            Map.Entry<Integer, Double> step = steps.floorEntry(score);
+            this.multipliers[score] = step != null ? step.getValue() : 1.0D;
+        }
+    }
+    
+    @Override
+    public double getMultiplier(double score) {
+        int index = (int) score;
+        if (index < 0) {
+            return this.multipliers[0];
+        }
+        if (index >= this.multipliers.length) {
+            return this.multipliers[this.multipliers.length - 1];
+        }
+        return this.multipliers[index];
+    }
+}
@@ -0,0 +1,320 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.util.IntSlotMap;
+import dev.jaqobb.rewardable_activities.util.LongSlotMap;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BlockOwnershipStore {
+    
+    private static final int STRIPE_BITS = 4;
+    
+    private final Map<UUID, WorldOwnership> worlds;
+    
+    public BlockOwnershipStore() {
+        this.worlds = new ConcurrentHashMap<>(4);
+    }
+    
+    public boolean isOwned(Block block) {
+        return this.isOwned(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+    
+    public boolean isOwned(World world, int x, int y, int z) {
+        WorldOwnership ownership = this.worlds.get(world.getUID());
+        return ownership != null && ownership.contains(x, y, z);
+    }
+    
+    public boolean hasOwnedBlocks(World world) {
+        WorldOwnership ownership = this.worlds.get(world.getUID());
+        return ownership != null && ownership.getBlockCount() > 0;
+    }
+    
+    public void setOwned(Block block, boolean owned) {
+        this.setOwned(block.getWorld(), block.getX(), block.getY(), block.getZ(), owned);
+    }
+    
+    public void setOwned(World world, int x, int y, int z, boolean owned) {
+        WorldOwnership ownership = owned ? this.worlds.computeIfAbsent(world.getUID(), uniqueId -> new WorldOwnership()) : this.worlds.get(world.getUID());
+        if (ownership != null) {
+            ownership.set(x, y, z, owned);
+        }
+    }
+    
+    public Batch batch(World world, int expectedSize) {
+        return new Batch(world, expectedSize);
+    }
+    
+    public void unloadWorld(World world) {
+        this.worlds.remove(world.getUID());
+    }
+    
+    public int getChunkCount() {
+        int chunks = 0;
+        for (WorldOwnership ownership : this.worlds.values()) {
+            chunks += ownership.getChunkCount();
+        }
+        return chunks;
+    }
+    
+    public int getBlockCount() {
+        int blocks = 0;
+        for (WorldOwnership ownership : this.worlds.values()) {
+            blocks += ownership.getBlockCount();
+        }
+        return blocks;
+    }
+    
+    public long getEstimatedBytes() {
+        long bytes = MemoryFootprint.map(this.worlds.size(), MemoryFootprint.UUID_BYTES);
+        for (WorldOwnership ownership : this.worlds.values()) {
+            bytes += ownership.getEstimatedBytes();
+        }
+        return bytes;
+    }
+    
+    private static long toChunkKey(int x, int z) {
+        return ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+    }
+    
+    private static int toLocalKey(int x, int y, int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+    
+    public final class Batch {
+        
+        private final World world;
+        private int[] positions;
+        private boolean[] owned;
+        private int size;
+        
+        private Batch(World world, int expectedSize) {
+            this.world = world;
+            this.positions = new int[Math.max(1, expectedSize) * 3];
+            this.owned = new boolean[Math.max(1, expectedSize)];
+        }
+        
+        public Batch add(Block block, boolean owned) {
+            return this.add(block.getX(), block.getY(), block.getZ(), owned);
+        }
+        
+        public Batch add(int x, int y, int z, boolean owned) {
+            if (this.size == this.owned.length) {
+                this.positions = Arrays.copyOf(this.positions, this.positions.length * 2);
+                this.owned = Arrays.copyOf(this.owned, this.owned.length * 2);
+            }
+            int index = this.size * 3;
+            this.positions[index] = x;
+            this.positions[index + 1] = y;
+            this.positions[index + 2] = z;
+            this.owned[this.size] = owned;
+            this.size++;
+            return this;
+        }
+        
+        public void apply() {
+            if (this.size == 0) {
+                return;
+            }
+            boolean anyOwned = false;
+            for (int index = 0; index < this.size; index++) {
+                if (this.owned[index]) {
+                    anyOwned = true;
+                    break;
+                }
+            }
+            UUID worldId = this.world.getUID();
+            WorldOwnership ownership = anyOwned ? BlockOwnershipStore.this.worlds.computeIfAbsent(worldId, uniqueId -> new WorldOwnership()) : BlockOwnershipStore.this.worlds.get(worldId);
+            if (ownership != null) {
+                ownership.apply(this.positions, this.owned, this.size);
+            }
+            this.size = 0;
+        }
+    }
+    
+    private static final class WorldOwnership {
+        
+        private final Stripe[] stripes;
+        
+        private WorldOwnership() {
+            this.stripes = new Stripe[1 << STRIPE_BITS];
+            for (int index = 0; index < this.stripes.length; index++) {
+                this.stripes[index] = new Stripe();
+            }
+        }
+        
+        private boolean contains(int x, int y, int z) {
+            long chunkKey = toChunkKey(x, z);
+            return this.getStripe(chunkKey).contains(chunkKey, toLocalKey(x, y, z));
+        }
+        
+        private void set(int x, int y, int z, boolean owned) {
+            long chunkKey = toChunkKey(x, z);
+            this.getStripe(chunkKey).set(chunkKey, toLocalKey(x, y, z), owned);
+        }
+        
+        private void apply(int[] positions, boolean[] owned, int count) {
+            int from = 0;
+            while (from < count) {
+                long chunkKey = toChunkKey(positions[from * 3], positions[from * 3 + 2]);
+                int to = from + 1;
+                while (to < count && toChunkKey(positions[to * 3], positions[to * 3 + 2]) == chunkKey) {
+                    to++;
+                }
+                this.getStripe(chunkKey).apply(chunkKey, positions, owned, from, to);
+                from = to;
+            }
+        }
+        
+        private int getChunkCount() {
+            int chunks = 0;
+            for (Stripe stripe : this.stripes) {
+                chunks += stripe.getChunkCount();
+            }
+            return chunks;
+        }
+        
+        private int getBlockCount() {
+            int blocks = 0;
+            for (Stripe stripe : this.stripes) {
+                blocks += stripe.blocks;
+            }
+            return blocks;
+        }
+        
+        private long getEstimatedBytes() {
+            long bytes = MemoryFootprint.object(MemoryFootprint.REFERENCE_BYTES) + MemoryFootprint.array(this.stripes.length, MemoryFootprint.REFERENCE_BYTES);
+            for (Stripe stripe : this.stripes) {
+                bytes += stripe.getEstimatedBytes();
+            }
+            return bytes;
+        }
+        
+        private Stripe getStripe(long chunkKey) {
+            return this.stripes[(int) ((chunkKey * 0x9E3779B97F4A7C15L) >>> (64 - STRIPE_BITS))];
+        }
+    }
+    
+    private static final class Stripe {
+        
+        private final LongSlotMap chunkKeys;
+        private ChunkOwnership[] chunks;
+        private volatile int blocks;
+        
+        private Stripe() {
+            this.chunkKeys = new LongSlotMap();
+            this.chunks = new ChunkOwnership[this.chunkKeys.capacity()];
+        }
+        
+        private synchronized boolean contains(long chunkKey, int position) {
+            ChunkOwnership chunk = this.getChunk(chunkKey);
+            return chunk != null && chunk.positions.get(position) != -1;
+        }
+        
+        private synchronized void set(long chunkKey, int position, boolean owned) {
+            ChunkOwnership chunk = owned ? this.getOrCreateChunk(chunkKey) : this.getChunk(chunkKey);
+            if (chunk == null) {
+                return;
+            }
+            if (owned) {
+                this.add(chunk, position);
+            } else if (this.remove(chunk, position) && chunk.positions.size() == 0) {
+                this.removeChunk(chunkKey);
+            }
+        }
+        
+        private synchronized void apply(long chunkKey, int[] positions, boolean[] owned, int from, int to) {
+            ChunkOwnership chunk = this.getChunk(chunkKey);
+            for (int index = from; index < to; index++) {
+                if (chunk == null) {
+                    if (!owned[index]) {
+                        continue;
+                    }
+                    chunk = this.getOrCreateChunk(chunkKey);
+                }
+                int position = toLocalKey(positions[index * 3], positions[index * 3 + 1], positions[index * 3 + 2]);
+                if (owned[index]) {
+                    this.add(chunk, position);
+                } else {
+                    this.remove(chunk, position);
+                }
+            }
+            if (chunk != null && chunk.positions.size() == 0) {
+                this.removeChunk(chunkKey);
+            }
+        }
+        
+        private synchronized int getChunkCount() {
+            return this.chunkKeys.size();
+        }
+        
+        private synchronized long getEstimatedBytes() {
+            long bytes = MemoryFootprint.object(2L * MemoryFootprint.REFERENCE_BYTES + 4L) + this.chunkKeys.getEstimatedBytes() + MemoryFootprint.array(this.chunks.length, MemoryFootprint.REFERENCE_BYTES);
+            for (int slot = 0; slot < this.chunkKeys.size(); slot++) {
+                bytes += MemoryFootprint.object(MemoryFootprint.REFERENCE_BYTES) + this.chunks[slot].positions.getEstimatedBytes();
+            }
+            return bytes;
+        }
+        
+        private void add(ChunkOwnership chunk, int position) {
+            int size = chunk.positions.size();
+            chunk.positions.put(position);
+            if (chunk.positions.size() != size) {
+                this.blocks++;
+            }
+        }
+        
+        private boolean remove(ChunkOwnership chunk, int position) {
+            if (chunk.positions.remove(position) == -1) {
+                return false;
+            }
+            this.blocks--;
+            return true;
+        }
+        
+        private ChunkOwnership getChunk(long chunkKey) {
+            int slot = this.chunkKeys.get(chunkKey);
+            return slot == -1 ? null : this.chunks[slot];
+        }
+        
+        private ChunkOwnership getOrCreateChunk(long chunkKey) {
+            int slot = this.chunkKeys.put(chunkKey);
+            if (slot == this.chunks.length) {
+                this.chunks = Arrays.copyOf(this.chunks, this.chunkKeys.capacity());
+            }
+            ChunkOwnership chunk = this.chunks[slot];
+            if (chunk == null) {
+                chunk = new ChunkOwnership();
+                this.chunks[slot] = chunk;
+            }
+            return chunk;
+        }
+        
+        private void removeChunk(long chunkKey) {
+            int slot = this.chunkKeys.remove(chunkKey);
+            if (slot == -1) {
+                return;
+            }
+            int last = this.chunkKeys.size();
+            this.blocks -= this.chunks[slot].positions.size();
+            this.chunks[slot] = this.chunks[last];
+            this.chunks[last] = null;
+            if (this.chunks.length != this.chunkKeys.capacity()) {
+                this.chunks = Arrays.copyOf(this.chunks, this.chunkKeys.capacity());
+            }
+        }
+    }
+    
+    private static final class ChunkOwnership {
+        
+        private final IntSlotMap positions;
+        
+        private ChunkOwnership() {
+            this.positions = new IntSlotMap();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.util.IntSlotMap;
+import java.util.Arrays;
+import java.util.UUID;
+
+public class EntityDamageLedger {
+    
+    public static final int MAXIMUM_ATTACKERS = 4;
+    
+    private static final int STRIPE_BITS = 4;
+    
+    private final Stripe[] stripes;
+    
+    public EntityDamageLedger() {
+        this.stripes = new Stripe[1 << STRIPE_BITS];
+        for (int index = 0; index < this.stripes.length; index++) {
+            this.stripes[index] = new Stripe();
+        }
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+    
+    public int capacity() {
+        int capacity = 0;
+        for (Stripe stripe : this.stripes) {
+            capacity += stripe.capacity();
+        }
+        return capacity;
+    }
+    
+    public long getEstimatedBytes() {
+        long bytes = MemoryFootprint.array(this.stripes.length, MemoryFootprint.REFERENCE_BYTES);
+        for (Stripe stripe : this.stripes) {
+            bytes += stripe.getEstimatedBytes();
+        }
+        return bytes;
+    }
+    
+    public void record(int entityId, UUID attacker, double damage, long time) {
+        if (damage <= 0.0D) {
+            return;
+        }
+        this.getStripe(entityId).record(entityId, attacker, damage, time);
+    }
+    
+    public Entry remove(int entityId) {
+        return this.getStripe(entityId).remove(entityId);
+    }
+    
+    public void clear() {
+        for (Stripe stripe : this.stripes) {
+            stripe.clear();
+        }
+    }
+    
+    private Stripe getStripe(int entityId) {
+        return this.stripes[(entityId * 0x9E3779B9) >>> (32 - STRIPE_BITS)];
+    }
+    
+    private static final class Stripe {
+        
+        private final IntSlotMap entityIds;
+        private Entry[] entries;
+        
+        private Stripe() {
+            this.entityIds = new IntSlotMap();
+            this.entries = new Entry[this.entityIds.capacity()];
+        }
+        
+        private synchronized int size() {
+            return this.entityIds.size();
+        }
+        
+        private synchronized int capacity() {
+            return this.entityIds.capacity();
+        }
+        
+        private synchronized long getEstimatedBytes() {
+            long entryBytes = MemoryFootprint.object(4L * MemoryFootprint.REFERENCE_BYTES + 12L) + 4L * MemoryFootprint.array(MAXIMUM_ATTACKERS, 8L);
+            return MemoryFootprint.object(2L * MemoryFootprint.REFERENCE_BYTES) + this.entityIds.getEstimatedBytes() + MemoryFootprint.array(this.entries.length, MemoryFootprint.REFERENCE_BYTES) + this.entityIds.size() * entryBytes;
+        }
+        
+        private synchronized void record(int entityId, UUID attacker, double damage, long time) {
+            int slot = this.entityIds.put(entityId);
+            if (slot == this.entries.length) {
+                this.entries = Arrays.copyOf(this.entries, this.entityIds.capacity());
+            }
+            Entry entry = this.entries[slot];
+            if (entry == null) {
+                entry = new Entry();
+                this.entries[slot] = entry;
+            }
+            entry.record(attacker.getMostSignificantBits(), attacker.getLeastSignificantBits(), damage, time);
+        }
+        
+        private synchronized Entry remove(int entityId) {
+            int slot = this.entityIds.remove(entityId);
+            if (slot == -1) {
+                return null;
+            }
+            int last = this.entityIds.size();
+            Entry entry = this.entries[slot];
+            this.entries[slot] = this.entries[last];
+            this.entries[last] = null;
+            if (this.entries.length != this.entityIds.capacity()) {
+                this.entries = Arrays.copyOf(this.entries, this.entityIds.capacity());
+            }
+            return entry;
+        }
+        
+        private synchronized void clear() {
+            this.entityIds.clear();
+            this.entries = new Entry[this.entityIds.capacity()];
+        }
+    }
+    
+    public static final class Entry {
+        
+        private final long[] attackerMostBits = new long[MAXIMUM_ATTACKERS];
+        private final long[] attackerLeastBits = new long[MAXIMUM_ATTACKERS];
+        private final double[] damage = new double[MAXIMUM_ATTACKERS];
+        private final long[] lastHits = new long[MAXIMUM_ATTACKERS];
+        private int attackers;
+        private double totalDamage;
+        
+        private Entry() {
+        }
+        
+        private void record(long mostBits, long leastBits, double damage, long time) {
+            this.totalDamage += damage;
+            int weakest = 0;
+            for (int index = 0; index < this.attackers; index++) {
+                if (this.attackerMostBits[index] == mostBits && this.attackerLeastBits[index] == leastBits) {
+                    this.damage[index] += damage;
+                    this.lastHits[index] = time;
+                    return;
+                }
+                if (this.damage[index] < this.damage[weakest]) {
+                    weakest = index;
+                }
+            }
+            if (this.attackers < MAXIMUM_ATTACKERS) {
+                weakest = this.attackers++;
+            } else if (this.damage[weakest] >= damage) {
+                return;
+            }
+            this.attackerMostBits[weakest] = mostBits;
+            this.attackerLeastBits[weakest] = leastBits;
+            this.damage[weakest] = damage;
+            this.lastHits[weakest] = time;
+        }
+        
+        public int getAttackers() {
+            return this.attackers;
+        }
+        
+        public UUID getAttacker(int index) {
+            return new UUID(this.attackerMostBits[index], this.attackerLeastBits[index]);
+        }
+        
+        public boolean isAttacker(int index, UUID attacker) {
+            return this.attackerMostBits[index] == attacker.getMostSignificantBits() && this.attackerLeastBits[index] == attacker.getLeastSignificantBits();
+        }
+        
+        public double getDamage(int index) {
+            return this.damage[index];
+        }
+        
+        public long getLastHit(int index) {
+            return this.lastHits[index];
+        }
+        
+        public double getTotalDamage() {
+            return this.totalDamage;
+        }
+        
+        public double getDamageShare(int index) {
+            return this.totalDamage <= 0.0D ? 0.0D : this.damage[index] / this.totalDamage;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.util.IntSlotMap;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import java.util.Arrays;
+
+public class EntityProvenanceStore {
+    
+    public static final byte BRED_BY_PLAYER = 1;
+    public static final byte SPAWNED_BY_SPAWNER = 2;
+    public static final byte FALLING_FROM_PLACED_BLOCK = 4;
+    
+    private static final byte PERSISTENT_FLAGS = BRED_BY_PLAYER | SPAWNED_BY_SPAWNER;
+    private static final byte PERSISTENT_FLAGS_LOADED = 8;
+    
+    private static final int STRIPE_BITS = 4;
+    
+    private final NamespacedKey bredByPlayerKey;
+    private final NamespacedKey spawnedBySpawnerKey;
+    private final Stripe[] stripes;
+    
+    public EntityProvenanceStore() {
+        this.bredByPlayerKey = NamespacedKey.fromString(RewardableActivitiesConstants.ENTITY_BRED_BY_PLAYER_KEY);
+        this.spawnedBySpawnerKey = NamespacedKey.fromString(RewardableActivitiesConstants.ENTITY_SPAWNED_BY_SPAWNER_KEY);
+        this.stripes = new Stripe[1 << STRIPE_BITS];
+        for (int index = 0; index < this.stripes.length; index++) {
+            this.stripes[index] = new Stripe();
+        }
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+    
+    public int capacity() {
+        int capacity = 0;
+        for (Stripe stripe : this.stripes) {
+            capacity += stripe.capacity();
+        }
+        return capacity;
+    }
+    
+    public long getEstimatedBytes() {
+        long bytes = MemoryFootprint.array(this.stripes.length, MemoryFootprint.REFERENCE_BYTES);
+        for (Stripe stripe : this.stripes) {
+            bytes += stripe.getEstimatedBytes();
+        }
+        return bytes;
+    }
+    
+    public void mark(Entity entity, byte flag) {
+        PersistentDataContainer container = entity.getPersistentDataContainer();
+        container.set(flag == BRED_BY_PLAYER ? this.bredByPlayerKey : this.spawnedBySpawnerKey, PersistentDataType.BYTE, (byte) 1);
+        this.add(entity.getEntityId(), flag);
+    }
+    
+    public boolean has(Entity entity, byte flag) {
+        byte flags = this.getFlags(entity.getEntityId());
+        if ((flags & flag) != 0) {
+            return true;
+        }
+        if ((flag & PERSISTENT_FLAGS) == 0 || (flags & PERSISTENT_FLAGS_LOADED) != 0) {
+            return false;
+        }
+        flags = this.read(entity);
+        this.add(entity.getEntityId(), (byte) (flags | PERSISTENT_FLAGS_LOADED));
+        return (flags & flag) != 0;
+    }
+    
+    public void load(Entity entity) {
+        byte flags = this.read(entity);
+        if (flags != 0) {
+            this.add(entity.getEntityId(), (byte) (flags | PERSISTENT_FLAGS_LOADED));
+        }
+    }
+    
+    public void unload(Entity entity) {
+        this.remove(entity.getEntityId());
+    }
+    
+    public byte getFlags(int entityId) {
+        return this.getStripe(entityId).getFlags(entityId);
+    }
+    
+    public void add(int entityId, byte flags) {
+        this.getStripe(entityId).add(entityId, flags);
+    }
+    
+    public void remove(int entityId) {
+        this.getStripe(entityId).remove(entityId);
+    }
+    
+    public void clear() {
+        for (Stripe stripe : this.stripes) {
+            stripe.clear();
+        }
+    }
+    
+    private byte read(Entity entity) {
+        PersistentDataContainer container = entity.getPersistentDataContainer();
+        byte flags = 0;
+        if (container.has(this.bredByPlayerKey, PersistentDataType.BYTE)) {
+            flags |= BRED_BY_PLAYER;
+        }
+        if (container.has(this.spawnedBySpawnerKey, PersistentDataType.BYTE)) {
+            flags |= SPAWNED_BY_SPAWNER;
+        }
+        return flags;
+    }
+    
+    private Stripe getStripe(int entityId) {
+        return this.stripes[(entityId * 0x9E3779B9) >>> (32 - STRIPE_BITS)];
+    }
+    
+    private static final class Stripe {
+        
+        private final IntSlotMap entityIds;
+        private byte[] flags;
+        
+        private Stripe() {
+            this.entityIds = new IntSlotMap();
+            this.flags = new byte[this.entityIds.capacity()];
+        }
+        
+        private synchronized int size() {
+            return this.entityIds.size();
+        }
+        
+        private synchronized int capacity() {
+            return this.entityIds.capacity();
+        }
+        
+        private synchronized long getEstimatedBytes() {
+            return MemoryFootprint.object(2L * MemoryFootprint.REFERENCE_BYTES) + this.entityIds.getEstimatedBytes() + MemoryFootprint.array(this.flags.length, 1L);
+        }
+        
+        private synchronized byte getFlags(int entityId) {
+            int slot = this.entityIds.get(entityId);
+            return slot == -1 ? 0 : this.flags[slot];
+        }
+        
+        private synchronized void add(int entityId, byte flags) {
+            int slot = this.entityIds.put(entityId);
+            if (slot == this.flags.length) {
+                this.flags = Arrays.copyOf(this.flags, this.entityIds.capacity());
+            }
+            this.flags[slot] |= flags;
+        }
+        
+        private synchronized void remove(int entityId) {
+            int slot = this.entityIds.remove(entityId);
+            if (slot == -1) {
+                return;
+            }
+            int last = this.entityIds.size();
+            this.flags[slot] = this.flags[last];
+            this.flags[last] = 0;
+            if (this.flags.length != this.entityIds.capacity()) {
+                this.flags = Arrays.copyOf(this.flags, this.entityIds.capacity());
+            }
+        }
+        
+        private synchronized void clear() {
+            this.entityIds.clear();
+            this.flags = new byte[this.entityIds.capacity()];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import org.bukkit.ChatColor;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.metadata.MetadataValue;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class EntityStackResolver {
+    
+    private final String[] metadataKeys;
+    private final NamespacedKey[] persistentDataKeys;
+    private final Pattern namePattern;
+    private final int maximumSize;
+    
+    public EntityStackResolver(Collection<String> metadataKeys, Collection<NamespacedKey> persistentDataKeys, Pattern namePattern, int maximumSize) {
+        this.metadataKeys = metadataKeys.toArray(new String[0]);
+        this.persistentDataKeys = persistentDataKeys.toArray(new NamespacedKey[0]);
+        this.namePattern = namePattern;
+        this.maximumSize = maximumSize;
+    }
+    
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+    
+    public int getStackSize(LivingEntity entity) {
+        for (String metadataKey : this.metadataKeys) {
+            if (!entity.hasMetadata(metadataKey)) {
+                continue;
+            }
+            List<MetadataValue> values = entity.getMetadata(metadataKey);
+            if (!values.isEmpty()) {
+                return this.clamp(values.get(0).asInt());
+            }
+        }
+        if (this.persistentDataKeys.length > 0) {
+            PersistentDataContainer container = entity.getPersistentDataContainer();
+            for (NamespacedKey persistentDataKey : this.persistentDataKeys) {
+                Integer value = container.get(persistentDataKey, PersistentDataType.INTEGER);
+                if (value != null) {
+                    return this.clamp(value);
+                }
+            }
+        }
+        if (this.namePattern != null) {
+            String name = entity.getCustomName();
+            if (name != null) {
+                Matcher matcher = this.namePattern.matcher(ChatColor.stripColor(name));
+                if (matcher.find()) {
+                    try {
+                        return this.clamp(Integer.parseInt(matcher.group(1)));
+                    } catch (NumberFormatException exception) {
+                        return 1;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+    
+    private int clamp(int size) {
+        return Math.max(1, Math.min(this.maximumSize, size));
+    }
+}
@@ -1,20 +1,34 @@
 package dev.jaqobb.rewardable_activities.data;
 
+import dev.jaqobb.rewardable_activities.condition.RewardContext;
+import dev.jaqobb.rewardable_activities.curve.RewardCurve;
+import dev.jaqobb.rewardable_activities.region.RewardRegion;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public record RewardableActivity(String id, Map<String, List<RewardableActivityReward>> rewards) {
+public record RewardableActivity(String id, int index, Map<String, List<RewardableActivityReward>> rewards, RewardCurve curve, Set<String> worlds, List<RewardRegion> regions, int threshold, long cooldown) {
+    
+    private static final Map<String, String> GROUP_PERMISSIONS = new ConcurrentHashMap<>(16);
     
     public RewardableActivity {
         rewards = Collections.unmodifiableMap(rewards);
+        worlds = worlds == null ? null : Set.copyOf(worlds);
+        regions = List.copyOf(regions);
+    }
+    
+    public boolean isActiveIn(World world) {
+        return this.worlds == null || this.worlds.contains(world.getName());
     }
     
     public List<RewardableActivityReward> getRewards(Player player) {
         String groupToUse = "default";
         for (String group : this.rewards.keySet()) {
-            if (!player.hasPermission("rewardableactivities.group." + group)) {
+            if (!player.hasPermission(GROUP_PERMISSIONS.computeIfAbsent(group, key -> "rewardableactivities.group." + key))) {
                 continue;
             }
             groupToUse = group;
@@ -23,9 +37,37 @@ public record RewardableActivity(String id, Map<String, List<RewardableActivityR
     }
     
     public RewardableActivityReward getReward(Player player) {
-        return this.getRewards(player).stream()
-            .filter(RewardableActivityReward::testChance)
-            .findFirst()
-            .orElse(null);
+        return this.getReward(player, 1.0D);
+    }
+    
+    public RewardableActivityReward getReward(Player player, double multiplier) {
+        return this.getReward(player, multiplier, null);
+    }
+    
+    public RewardableActivityReward getReward(Player player, double multiplier, RewardContext context) {
+        return this.getReward(this.getRewards(player), multiplier, context);
+    }
+    
+    public RewardableActivityReward getReward(List<RewardableActivityReward> rewards, double multiplier, RewardContext context) {
+        for (RewardableActivityReward reward : rewards) {
+            if (reward.testCondition(context) && reward.testChance(multiplier)) {
+                return reward;
+            }
+        }
+        return null;
+    }
+    
+    public int[] getRewardCounts(List<RewardableActivityReward> rewards, int count, double multiplier, RewardContext context) {
+        int[] counts = new int[rewards.size()];
+        int remaining = count;
+        for (int index = 0; index < counts.length && remaining > 0; index++) {
+            if (!rewards.get(index).testCondition(context)) {
+                continue;
+            }
+            int rewarded = rewards.get(index).testChance(remaining, multiplier);
+            counts[index] = rewarded;
+            remaining -= rewarded;
+        }
+        return counts;
     }
 }
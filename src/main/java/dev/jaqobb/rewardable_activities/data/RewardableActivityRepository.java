@@ -24,130 +24,283 @@
 
 package dev.jaqobb.rewardable_activities.data;
 
-import com.cryptomorin.xseries.XEntityType;
-import com.cryptomorin.xseries.XMaterial;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.action.RewardAction;
+import dev.jaqobb.rewardable_activities.action.RewardActionCompiler;
+import dev.jaqobb.rewardable_activities.condition.RewardCondition;
+import dev.jaqobb.rewardable_activities.condition.RewardConditionCompiler;
+import dev.jaqobb.rewardable_activities.curve.ExponentialRewardCurve;
+import dev.jaqobb.rewardable_activities.curve.RewardCurve;
+import dev.jaqobb.rewardable_activities.curve.StepwiseRewardCurve;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.region.RewardRegion;
+import dev.jaqobb.rewardable_activities.region.RewardRegionIndex;
+import dev.jaqobb.rewardable_activities.util.TimeUtils;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.configuration.ConfigurationSection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.logging.Level;
 
 public class RewardableActivityRepository {
     
+    private static final Set<String> SETTINGS_KEYS = Set.of("curve", "worlds", "regions", "threshold", "cooldown");
+    
     private final RewardableActivitiesPlugin plugin;
-    private final Map<XMaterial, RewardableActivity> blockBreakActivities;
-    private final Map<XMaterial, RewardableActivity> blockPlaceActivities;
-    private final Map<XEntityType, RewardableActivity> entityKillActivities;
-    private final Map<XEntityType, RewardableActivity> entityBreedActivities;
-    private final Map<XMaterial, RewardableActivity> itemFishActivities;
+    private final List<RewardableActivityType<?>> types;
+    private volatile Map<?, RewardableActivity>[] activities;
+    private final Map<String, Integer> activityIndexes;
+    private final List<String> activityIds;
+    private volatile boolean rewardCurvesPresent;
+    private volatile RewardRegionIndex regionIndex;
     
+    @SuppressWarnings("unchecked")
     public RewardableActivityRepository(RewardableActivitiesPlugin plugin) {
         this.plugin = plugin;
-        this.blockBreakActivities = new EnumMap<>(XMaterial.class);
-        this.blockPlaceActivities = new EnumMap<>(XMaterial.class);
-        this.entityKillActivities = new EnumMap<>(XEntityType.class);
-        this.entityBreedActivities = new EnumMap<>(XEntityType.class);
-        this.itemFishActivities = new EnumMap<>(XMaterial.class);
+        this.types = new CopyOnWriteArrayList<>();
+        this.activities = new Map[0];
+        this.activityIndexes = new ConcurrentHashMap<>(16);
+        this.activityIds = new CopyOnWriteArrayList<>();
+        this.regionIndex = RewardRegionIndex.EMPTY;
+        for (RewardableActivityType<?> type : RewardableActivityTypes.BUILT_IN) {
+            this.registerType(plugin, type, false);
+        }
     }
     
-    public void loadAllActivities(boolean reload) {
-        this.loadBlockBreakActivities(reload);
-        this.loadBlockPlaceActivities(reload);
-        this.loadEntityKillActivities(reload);
-        this.loadEntityBreedActivities(reload);
-        this.loadItemFishActivities(reload);
+    public synchronized void registerType(Plugin owner, RewardableActivityType<?> type, boolean load) {
+        if (type.getIndex() != -1) {
+            throw new IllegalStateException("Activity type " + type.getId() + " is already registered");
+        }
+        for (RewardableActivityType<?> registeredType : this.types) {
+            if (registeredType.getId().equals(type.getId())) {
+                throw new IllegalStateException("Activity type " + type.getId() + " is already registered by " + registeredType.getOwner().getName());
+            }
+        }
+        Map<?, RewardableActivity>[] activities = Arrays.copyOf(this.activities, this.activities.length + 1);
+        activities[activities.length - 1] = type.createMap();
+        type.register(owner, activities.length - 1);
+        this.types.add(type);
+        this.activities = activities;
+        if (load) {
+            this.loadActivities(type, true);
+            this.loadSummaries();
+        }
     }
     
-    public void loadBlockBreakActivities(boolean reload) {
-        if (reload) {
-            this.blockBreakActivities.clear();
+    public synchronized void unregisterType(RewardableActivityType<?> type) {
+        if (!this.types.remove(type)) {
+            return;
         }
-        this.blockBreakActivities.putAll(this.loadActivities("block.break", type -> {
-            XMaterial material = XMaterial.matchXMaterial(type.toUpperCase()).orElse(null);
-            if (material == null) {
-                throw new EnumConstantNotPresentException(XMaterial.class, type);
-            }
-            return material;
-        }));
+        Map<?, RewardableActivity>[] activities = this.activities.clone();
+        activities[type.getIndex()] = null;
+        type.unregister();
+        this.activities = activities;
+        this.loadSummaries();
     }
     
-    public void loadBlockPlaceActivities(boolean reload) {
-        if (reload) {
-            this.blockPlaceActivities.clear();
+    public synchronized void unregisterTypes(Plugin owner) {
+        for (RewardableActivityType<?> type : this.types) {
+            if (type.getOwner() == owner) {
+                this.unregisterType(type);
+            }
         }
-        this.blockPlaceActivities.putAll(this.loadActivities("block.place", type -> {
-            XMaterial material = XMaterial.matchXMaterial(type.toUpperCase()).orElse(null);
-            if (material == null) {
-                throw new EnumConstantNotPresentException(XMaterial.class, type);
+    }
+    
+    public List<RewardableActivityType<?>> getTypes() {
+        return Collections.unmodifiableList(this.types);
+    }
+    
+    public RewardableActivityType<?> getType(String id) {
+        for (RewardableActivityType<?> type : this.types) {
+            if (type.getId().equals(id)) {
+                return type;
             }
-            return material;
-        }));
+        }
+        return null;
     }
     
-    public void loadEntityKillActivities(boolean reload) {
-        if (reload) {
-            this.entityKillActivities.clear();
+    public synchronized void loadAllActivities(boolean reload) {
+        for (RewardableActivityType<?> type : this.types) {
+            this.loadActivities(type, reload);
         }
-        this.entityKillActivities.putAll(this.loadActivities("entity.kill", type -> {
-            XEntityType entityType = XEntityType.of(type.toUpperCase()).orElse(null);
-            if (entityType == null) {
-                throw new EnumConstantNotPresentException(XEntityType.class, type);
-            }
-            return entityType;
-        }));
+        this.loadSummaries();
     }
     
-    public void loadEntityBreedActivities(boolean reload) {
-        if (reload) {
-            this.entityBreedActivities.clear();
+    public synchronized <K> void loadActivities(RewardableActivityType<K> type, boolean reload) {
+        int index = type.getIndex();
+        if (index == -1) {
+            return;
+        }
+        Map<K, RewardableActivity> activities = type.createMap();
+        if (!reload) {
+            activities.putAll(this.getActivityMap(type));
         }
-        this.entityBreedActivities.putAll(this.loadActivities("entity.breed", type -> {
-            XEntityType entityType = XEntityType.of(type.toUpperCase()).orElse(null);
-            if (entityType == null) {
-                throw new EnumConstantNotPresentException(XEntityType.class, type);
+        activities.putAll(this.loadActivities(this.plugin.getConfig(), type.getId(), type::parseKey));
+        Map<?, RewardableActivity>[] typeActivities = this.activities.clone();
+        typeActivities[index] = activities;
+        this.activities = typeActivities;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public Snapshot compile(ConfigurationSection config) {
+        Map<?, RewardableActivity>[] activities = new Map[this.activities.length];
+        List<RewardableActivityType<?>> types = new ArrayList<>(activities.length);
+        for (RewardableActivityType<?> type : this.types) {
+            int index = type.getIndex();
+            if (index < 0 || index >= activities.length) {
+                continue;
             }
-            return entityType;
-        }));
+            activities[index] = this.compileActivities(config, type);
+            types.add(type);
+        }
+        return new Snapshot(types, activities, isRewardCurvesPresent(activities), this.createRegionIndex(config, activities));
     }
     
-    public void loadItemFishActivities(boolean reload) {
-        if (reload) {
-            this.itemFishActivities.clear();
+    public synchronized void apply(Snapshot snapshot) {
+        Map<?, RewardableActivity>[] activities = this.activities.clone();
+        boolean typesChanged = snapshot.types().size() != this.types.size();
+        for (RewardableActivityType<?> type : this.types) {
+            int index = type.getIndex();
+            if (index >= snapshot.activities().length || snapshot.activities()[index] == null || !snapshot.types().contains(type)) {
+                typesChanged = true;
+                continue;
+            }
+            activities[index] = snapshot.activities()[index];
         }
-        this.itemFishActivities.putAll(this.loadActivities("item.fish", type -> {
-            XMaterial material = XMaterial.matchXMaterial(type.toUpperCase()).orElse(null);
-            if (material == null) {
-                throw new EnumConstantNotPresentException(XMaterial.class, type);
+        this.activities = activities;
+        if (typesChanged) {
+            this.loadSummaries();
+            return;
+        }
+        this.rewardCurvesPresent = snapshot.rewardCurvesPresent();
+        this.regionIndex = snapshot.regionIndex();
+    }
+    
+    private <K> Map<K, RewardableActivity> compileActivities(ConfigurationSection config, RewardableActivityType<K> type) {
+        Map<K, RewardableActivity> activities = type.createMap();
+        activities.putAll(this.loadActivities(config, type.getId(), type::parseKey));
+        return activities;
+    }
+    
+    private void loadSummaries() {
+        this.rewardCurvesPresent = isRewardCurvesPresent(this.activities);
+        this.loadRegionIndex();
+    }
+    
+    private static boolean isRewardCurvesPresent(Map<?, RewardableActivity>[] typeActivities) {
+        for (Map<?, RewardableActivity> activities : typeActivities) {
+            if (activities == null) {
+                continue;
+            }
+            for (RewardableActivity activity : activities.values()) {
+                if (activity.curve() != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    public void loadRegionIndex() {
+        this.regionIndex = this.createRegionIndex(this.plugin.getConfig(), this.activities);
+    }
+    
+    private RewardRegionIndex createRegionIndex(ConfigurationSection config, Map<?, RewardableActivity>[] typeActivities) {
+        List<RewardRegion> regions = new ArrayList<>(this.loadRegions("global regions", RewardRegion.ALL_ACTIVITIES, config.getConfigurationSection("regions")));
+        Set<String> activeWorlds = new HashSet<>();
+        boolean allWorldsActive = false;
+        for (Map<?, RewardableActivity> activities : typeActivities) {
+            if (activities == null) {
+                continue;
+            }
+            for (RewardableActivity activity : activities.values()) {
+                regions.addAll(activity.regions());
+                if (activity.worlds() == null) {
+                    allWorldsActive = true;
+                } else {
+                    activeWorlds.addAll(activity.worlds());
+                }
             }
-            return material;
-        }));
+        }
+        return new RewardRegionIndex(regions, allWorldsActive ? null : activeWorlds);
     }
     
     @SuppressWarnings("unchecked")
-    private <T> Map<T, RewardableActivity> loadActivities(String path, Function<String, T> keyFunction) {
+    private <T> Map<T, RewardableActivity> loadActivities(ConfigurationSection config, String path, Function<String, T> keyFunction) {
         Map<T, RewardableActivity> activities = new HashMap<>(16);
-        ConfigurationSection mainSection = this.plugin.getConfig().getConfigurationSection(path);
+        ConfigurationSection mainSection = config.getConfigurationSection(path);
         if (mainSection == null) {
             return activities;
         }
         for (String key : mainSection.getKeys(false)) {
+            T activityKey;
+            try {
+                activityKey = keyFunction.apply(key);
+            } catch (IllegalArgumentException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Rewardable activity " + path + ":" + key + " is not properly configured (" + exception.getMessage() + "). As such, it will be ignored.");
+                continue;
+            }
+            String activityId = path + ":" + key;
+            int activityIndex = this.getActivityIndex(activityId);
             Map<String, List<RewardableActivityReward>> rewardMap = new LinkedHashMap<>(16);
             ConfigurationSection rewardSection = mainSection.getConfigurationSection(key);
+            int threshold = rewardSection.getInt("threshold", 1);
+            if (threshold < 1) {
+                this.plugin.getLogger().log(Level.WARNING, "Threshold of " + activityId + " has to be at least 1. As such, it will be ignored.");
+                threshold = 1;
+            }
+            long cooldown = 0L;
+            String cooldownString = rewardSection.getString("cooldown");
+            if (cooldownString != null && !cooldownString.isEmpty()) {
+                Instant cooldownDuration = TimeUtils.parse(cooldownString);
+                if (cooldownDuration == null) {
+                    this.plugin.getLogger().log(Level.WARNING, "Cooldown of " + activityId + " is not properly configured. As such, it will be ignored.");
+                } else {
+                    cooldown = cooldownDuration.toEpochMilli();
+                }
+            }
             for (String group : rewardSection.getKeys(false)) {
+                if (SETTINGS_KEYS.contains(group)) {
+                    continue;
+                }
                 List<RewardableActivityReward> rewards = new LinkedList<>();
                 if (rewardSection.isList(group)) {
                     for (Map<?, ?> groupSection : rewardSection.getMapList(group)) {
                         Number chance = (Number) groupSection.get("chance");
                         Number minimumEconomy = groupSection.containsKey("minimum-economy") ? (Number) groupSection.get("minimum-economy") : 0.0D;
                         Number maximumEconomy = groupSection.containsKey("maximum-economy") ? (Number) groupSection.get("maximum-economy") : 0.0D;
-                        Collection<String> commands = (List<String>) groupSection.get("commands");
-                        rewards.add(new RewardableActivityReward(group, chance.doubleValue(), minimumEconomy.doubleValue(), maximumEconomy.doubleValue(), commands));
+                        Collection<String> commands = groupSection.containsKey("commands") ? (List<String>) groupSection.get("commands") : Collections.emptyList();
+                        RewardCondition condition;
+                        try {
+                            condition = RewardConditionCompiler.compile((Map<?, ?>) groupSection.get("conditions"));
+                        } catch (IllegalArgumentException | ClassCastException exception) {
+                            this.plugin.getLogger().log(Level.WARNING, "Conditions of a reward of " + activityId + " in group " + group + " are not properly configured (" + exception.getMessage() + "). As such, the reward will be ignored.");
+                            continue;
+                        }
+                        List<RewardAction> actions;
+                        try {
+                            actions = RewardActionCompiler.compile((List<?>) groupSection.get("actions"));
+                        } catch (IllegalArgumentException | ClassCastException exception) {
+                            this.plugin.getLogger().log(Level.WARNING, "Actions of a reward of " + activityId + " in group " + group + " are not properly configured (" + exception.getMessage() + "). As such, the reward will be ignored.");
+                            continue;
+                        }
+                        rewards.add(new RewardableActivityReward(activityId, activityIndex, group, chance.doubleValue(), minimumEconomy.doubleValue(), maximumEconomy.doubleValue(), commands, actions, condition, threshold));
                     }
                     rewardMap.put(group, rewards);
                 } else {
@@ -156,52 +309,266 @@ public class RewardableActivityRepository {
                     Number minimumEconomy = groupSection.isSet("minimum-economy") ? (Number) groupSection.get("minimum-economy") : 0.0D;
                     Number maximumEconomy = groupSection.isSet("maximum-economy") ? (Number) groupSection.get("maximum-economy") : 0.0D;
                     Collection<String> commands = groupSection.getStringList("commands");
-                    rewards.add(new RewardableActivityReward(group, chance.doubleValue(), minimumEconomy.doubleValue(), maximumEconomy.doubleValue(), commands));
+                    ConfigurationSection conditionsSection = groupSection.getConfigurationSection("conditions");
+                    RewardCondition condition;
+                    try {
+                        condition = RewardConditionCompiler.compile(conditionsSection == null ? null : conditionsSection.getValues(false));
+                    } catch (IllegalArgumentException exception) {
+                        this.plugin.getLogger().log(Level.WARNING, "Conditions of a reward of " + activityId + " in group " + group + " are not properly configured (" + exception.getMessage() + "). As such, the reward will be ignored.");
+                        rewardMap.put(group, rewards);
+                        continue;
+                    }
+                    List<RewardAction> actions;
+                    try {
+                        actions = RewardActionCompiler.compile(groupSection.getList("actions"));
+                    } catch (IllegalArgumentException exception) {
+                        this.plugin.getLogger().log(Level.WARNING, "Actions of a reward of " + activityId + " in group " + group + " are not properly configured (" + exception.getMessage() + "). As such, the reward will be ignored.");
+                        rewardMap.put(group, rewards);
+                        continue;
+                    }
+                    rewards.add(new RewardableActivityReward(activityId, activityIndex, group, chance.doubleValue(), minimumEconomy.doubleValue(), maximumEconomy.doubleValue(), commands, actions, condition, threshold));
                     rewardMap.put(group, rewards);
                 }
             }
-            activities.put(keyFunction.apply(key), new RewardableActivity(key, rewardMap));
+            RewardCurve curve = this.loadCurve(activityId, rewardSection.getConfigurationSection("curve"));
+            Set<String> worlds = rewardSection.isList("worlds") ? new HashSet<>(rewardSection.getStringList("worlds")) : null;
+            List<RewardRegion> regions = this.loadRegions(activityId, activityIndex, rewardSection.getConfigurationSection("regions"));
+            activities.put(activityKey, new RewardableActivity(key, activityIndex, rewardMap, curve, worlds, regions, threshold, cooldown));
         }
         return activities;
     }
     
-    public Collection<RewardableActivity> getBlockBreakActivities() {
-        return Collections.unmodifiableCollection(this.blockBreakActivities.values());
+    public List<String> validate(ConfigurationSection config) {
+        List<String> problems = new ArrayList<>();
+        for (RewardableActivityType<?> type : this.types) {
+            ConfigurationSection mainSection = config.getConfigurationSection(type.getId());
+            if (mainSection == null) {
+                if (config.isSet(type.getId())) {
+                    problems.add(type.getId() + " has to be a section");
+                }
+                continue;
+            }
+            for (String key : mainSection.getKeys(false)) {
+                String activityId = type.getId() + ":" + key;
+                try {
+                    type.parseKey(key);
+                } catch (IllegalArgumentException exception) {
+                    problems.add(activityId + " is not a valid activity (" + exception.getMessage() + ")");
+                    continue;
+                }
+                ConfigurationSection rewardSection = mainSection.getConfigurationSection(key);
+                if (rewardSection == null) {
+                    problems.add(activityId + " has to be a section");
+                    continue;
+                }
+                for (String group : rewardSection.getKeys(false)) {
+                    if (SETTINGS_KEYS.contains(group)) {
+                        continue;
+                    }
+                    String problem;
+                    if (rewardSection.isList(group)) {
+                        for (Map<?, ?> groupSection : rewardSection.getMapList(group)) {
+                            problem = this.validateReward(groupSection, groupSection.get("conditions"), groupSection.get("actions"));
+                            if (problem != null) {
+                                problems.add("Reward of " + activityId + " in group " + group + " " + problem);
+                            }
+                        }
+                        continue;
+                    }
+                    ConfigurationSection groupSection = rewardSection.getConfigurationSection(group);
+                    if (groupSection == null) {
+                        problems.add("Group " + group + " of " + activityId + " has to be a section or a list");
+                        continue;
+                    }
+                    ConfigurationSection conditionsSection = groupSection.getConfigurationSection("conditions");
+                    problem = this.validateReward(groupSection.getValues(false), conditionsSection == null ? null : conditionsSection.getValues(false), groupSection.getList("actions"));
+                    if (problem != null) {
+                        problems.add("Reward of " + activityId + " in group " + group + " " + problem);
+                    }
+                }
+            }
+        }
+        return problems;
+    }
+    
+    private String validateReward(Map<?, ?> reward, Object conditions, Object actions) {
+        if (!(reward.get("chance") instanceof Number)) {
+            return "has no numeric chance";
+        }
+        for (String key : List.of("minimum-economy", "maximum-economy")) {
+            if (reward.get(key) != null && !(reward.get(key) instanceof Number)) {
+                return "has non-numeric " + key;
+            }
+        }
+        if (reward.get("commands") != null && !(reward.get("commands") instanceof List<?>)) {
+            return "has commands that are not a list";
+        }
+        try {
+            RewardConditionCompiler.compile((Map<?, ?>) conditions);
+        } catch (IllegalArgumentException | ClassCastException exception) {
+            return "has conditions that are not properly configured (" + exception.getMessage() + ")";
+        }
+        try {
+            RewardActionCompiler.compile((List<?>) actions);
+        } catch (IllegalArgumentException | ClassCastException exception) {
+            return "has actions that are not properly configured (" + exception.getMessage() + ")";
+        }
+        return null;
+    }
+    
+    private RewardCurve loadCurve(String activityId, ConfigurationSection section) {
+        if (section == null) {
+            return null;
+        }
+        String type = section.getString("type", "exponential");
+        try {
+            if (type.equalsIgnoreCase("exponential")) {
+                double start = section.getDouble("start", 0.0D);
+                double rate = section.getDouble("rate", 0.01D);
+                double minimum = section.getDouble("minimum", 0.0D);
+                if (start < 0.0D || rate <= 0.0D || minimum < 0.0D || minimum > 1.0D) {
+                    throw new IllegalArgumentException("Start has to be at least 0, rate has to be above 0 and minimum has to be between 0 and 1");
+                }
+                return new ExponentialRewardCurve(start, rate, minimum);
+            }
+            if (type.equalsIgnoreCase("stepwise")) {
+                ConfigurationSection stepsSection = section.getConfigurationSection("steps");
+                if (stepsSection == null) {
+                    throw new IllegalArgumentException("Steps are missing");
+                }
+                NavigableMap<Integer, Double> steps = new TreeMap<>();
+                for (String score : stepsSection.getKeys(false)) {
+                    double multiplier = stepsSection.getDouble(score);
+                    if (multiplier < 0.0D || multiplier > 1.0D) {
+                        throw new IllegalArgumentException("Step multipliers have to be between 0 and 1");
+                    }
+                    steps.put(Integer.parseInt(score), multiplier);
+                }
+                return new StepwiseRewardCurve(steps);
+            }
+            throw new IllegalArgumentException("Unknown curve type: " + type);
+        } catch (IllegalArgumentException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Reward curve of " + activityId + " is not properly configured (" + exception.getMessage() + "). As such, it will be ignored.");
+            return null;
+        }
     }
     
-    public RewardableActivity getBlockBreakActivity(XMaterial material) {
-        return this.blockBreakActivities.get(material);
+    private List<RewardRegion> loadRegions(String owner, int activityIndex, ConfigurationSection section) {
+        if (section == null) {
+            return Collections.emptyList();
+        }
+        List<RewardRegion> regions = new ArrayList<>();
+        for (String name : section.getKeys(false)) {
+            ConfigurationSection regionSection = section.getConfigurationSection(name);
+            try {
+                if (regionSection == null) {
+                    throw new IllegalArgumentException("Region is not a section");
+                }
+                String world = regionSection.getString("world");
+                if (world == null || world.isEmpty()) {
+                    throw new IllegalArgumentException("World is missing");
+                }
+                double multiplier = regionSection.getDouble("multiplier", 1.0D);
+                if (multiplier < 0.0D) {
+                    throw new IllegalArgumentException("Multiplier has to be at least 0");
+                }
+                List<Integer> from = regionSection.getIntegerList("from");
+                List<Integer> to = regionSection.getIntegerList("to");
+                if (from.isEmpty() && to.isEmpty()) {
+                    regions.add(RewardRegion.ofWorld(name, activityIndex, world, multiplier));
+                    continue;
+                }
+                if (from.size() != 3 || to.size() != 3) {
+                    throw new IllegalArgumentException("From and to have to be written as [x, y, z]");
+                }
+                regions.add(new RewardRegion(name, activityIndex, world, from.get(0), from.get(1), from.get(2), to.get(0), to.get(1), to.get(2), multiplier));
+            } catch (IllegalArgumentException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Region " + name + " of " + owner + " is not properly configured (" + exception.getMessage() + "). As such, it will be ignored.");
+            }
+        }
+        return regions;
+    }
+    
+    public RewardRegionIndex getRegionIndex() {
+        return this.regionIndex;
+    }
+    
+    public boolean isWorldActive(World world) {
+        return this.regionIndex.isWorldActive(world);
+    }
+    
+    public boolean isRewardCurvesPresent() {
+        return this.rewardCurvesPresent;
     }
     
-    public Collection<RewardableActivity> getBlockPlaceActivities() {
-        return Collections.unmodifiableCollection(this.blockPlaceActivities.values());
+    public int getActivityIndex(String activityId) {
+        Integer activityIndex = this.activityIndexes.get(activityId);
+        if (activityIndex != null) {
+            return activityIndex;
+        }
+        synchronized (this.activityIds) {
+            return this.activityIndexes.computeIfAbsent(activityId, key -> {
+                this.activityIds.add(key);
+                return this.activityIds.size() - 1;
+            });
+        }
     }
     
-    public RewardableActivity getBlockPlaceActivity(XMaterial material) {
-        return this.blockPlaceActivities.get(material);
+    public int findActivityIndex(String activityId) {
+        Integer activityIndex = this.activityIndexes.get(activityId);
+        return activityIndex != null ? activityIndex : -1;
     }
     
-    public Collection<RewardableActivity> getEntityKillActivities() {
-        return Collections.unmodifiableCollection(this.entityKillActivities.values());
+    public String getActivityId(int activityIndex) {
+        return this.activityIds.get(activityIndex);
     }
     
-    public RewardableActivity getEntityKillActivity(XEntityType type) {
-        return this.entityKillActivities.get(type);
+    public int getActivityIndexCount() {
+        return this.activityIds.size();
     }
     
-    public Collection<RewardableActivity> getEntityBreedActivities() {
-        return Collections.unmodifiableCollection(this.entityBreedActivities.values());
+    public int getActivityCount() {
+        int activities = 0;
+        for (Map<?, RewardableActivity> typeActivities : this.activities) {
+            if (typeActivities == null) {
+                continue;
+            }
+            activities += typeActivities.size();
+        }
+        return activities;
     }
     
-    public RewardableActivity getEntityBreedActivity(XEntityType type) {
-        return this.entityBreedActivities.get(type);
+    public long getEstimatedBytes() {
+        long rewardBytes = MemoryFootprint.object(7L * MemoryFootprint.REFERENCE_BYTES + 36L) + MemoryFootprint.STRING_BYTES;
+        long activityBytes = MemoryFootprint.STRING_BYTES + MemoryFootprint.object(6L * MemoryFootprint.REFERENCE_BYTES + 16L) + MemoryFootprint.map(1L, MemoryFootprint.STRING_BYTES + MemoryFootprint.array(1L, MemoryFootprint.REFERENCE_BYTES) + rewardBytes);
+        int indexes = this.activityIds.size();
+        return MemoryFootprint.map(this.getActivityCount(), activityBytes) + MemoryFootprint.map(indexes, MemoryFootprint.STRING_BYTES + 16L) + MemoryFootprint.array(indexes, MemoryFootprint.REFERENCE_BYTES);
     }
     
-    public Collection<RewardableActivity> getItemFishActivities() {
-        return Collections.unmodifiableCollection(this.itemFishActivities.values());
+    @SuppressWarnings("unchecked")
+    private <K> Map<K, RewardableActivity> getActivityMap(RewardableActivityType<K> type) {
+        int index = type.getIndex();
+        Map<?, RewardableActivity>[] activities = this.activities;
+        if (index < 0 || index >= activities.length || activities[index] == null) {
+            return Collections.emptyMap();
+        }
+        return (Map<K, RewardableActivity>) activities[index];
+    }
+    
+    public <K> Collection<RewardableActivity> getActivities(RewardableActivityType<K> type) {
+        return Collections.unmodifiableCollection(this.getActivityMap(type).values());
+    }
+    
+    public <K> RewardableActivity getActivity(RewardableActivityType<K> type, K key) {
+        int index = type.getIndex();
+        Map<?, RewardableActivity>[] activities = this.activities;
+        if (index < 0 || index >= activities.length) {
+            return null;
+        }
+        Map<?, RewardableActivity> typeActivities = activities[index];
+        return typeActivities == null ? null : typeActivities.get(key);
     }
     
-    public RewardableActivity getItemFishActivity(XMaterial material) {
-        return this.itemFishActivities.get(material);
+    public record Snapshot(List<RewardableActivityType<?>> types, Map<?, RewardableActivity>[] activities, boolean rewardCurvesPresent, RewardRegionIndex regionIndex) {
     }
 }
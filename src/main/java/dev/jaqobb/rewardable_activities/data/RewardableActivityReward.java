@@ -1,22 +1,56 @@
 package dev.jaqobb.rewardable_activities.data;
 
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.action.RewardAction;
+import dev.jaqobb.rewardable_activities.audit.RewardAuditLog;
+import dev.jaqobb.rewardable_activities.condition.RewardCondition;
+import dev.jaqobb.rewardable_activities.condition.RewardContext;
+import dev.jaqobb.rewardable_activities.multiplier.MultiplierTimeline;
+import dev.jaqobb.rewardable_activities.placeholder.PlaceholderCache;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import dev.jaqobb.rewardable_activities.statistics.StatisticsStore;
+import dev.jaqobb.rewardable_activities.trace.RewardTrace;
+import dev.jaqobb.rewardable_activities.trace.RewardTracer;
 import dev.jaqobb.rewardable_activities.util.RandomUtils;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
-public record RewardableActivityReward(String group, double chance, double minimumEconomy, double maximumEconomy, Collection<String> commands) {
+public record RewardableActivityReward(String activityId, int activityIndex, String group, double chance, double minimumEconomy, double maximumEconomy, Collection<String> commands, List<RewardAction> actions, RewardCondition condition, int threshold) {
+    
+    public static final int MAXIMUM_COMMAND_REPEATS = 64;
     
     public RewardableActivityReward {
         commands = Collections.unmodifiableCollection(commands);
+        actions = List.copyOf(actions);
+    }
+    
+    public boolean testCondition(RewardContext context) {
+        return this.condition == null || context != null && this.condition.test(context);
     }
     
     public boolean testChance() {
-        return RandomUtils.chance(this.chance);
+        return this.testChance(1.0D);
+    }
+    
+    public boolean testChance(double multiplier) {
+        return multiplier > 0.0D && RandomUtils.chance(this.chance * multiplier);
+    }
+    
+    public int testChance(int trials, double multiplier) {
+        if (multiplier <= 0.0D) {
+            return 0;
+        }
+        return RandomUtils.getBinomial(trials, this.chance * multiplier / 100.0D);
+    }
+    
+    public boolean hasEconomy() {
+        return this.minimumEconomy >= 0.0D && this.maximumEconomy > 0.0D && this.minimumEconomy <= this.maximumEconomy;
     }
     
     public double getRandomEconomy() {
@@ -32,43 +66,145 @@ public record RewardableActivityReward(String group, double chance, double minim
         return Collections.unmodifiableCollection(this.commands);
     }
     
-    public void executeCommands(RewardableActivitiesPlugin plugin, Player player) {
-        this.commands.forEach(command -> {
-            command = command.replace("{player}", player.getName()).replace("{group}", this.group);
+    public List<String> executeCommands(RewardableActivitiesPlugin plugin, Player player) {
+        return this.executeCommands(plugin, player, 1);
+    }
+    
+    public List<String> executeCommands(RewardableActivitiesPlugin plugin, Player player, int count) {
+        if (this.commands.isEmpty() || count < 1) {
+            return Collections.emptyList();
+        }
+        List<String> commands = new ArrayList<>(this.commands.size());
+        for (String command : this.commands) {
+            boolean counted = command.contains("{count}");
+            command = command.replace("{player}", player.getName()).replace("{group}", this.group).replace("{count}", String.valueOf((long) count * this.threshold));
             if (plugin.isPlaceholderApiPresent()) {
-                command = me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, command);
+                PlaceholderCache placeholderCache = plugin.getPlaceholderCache();
+                command = placeholderCache != null ? placeholderCache.setPlaceholders(player, command) : me.clip.placeholderapi.PlaceholderAPI.setPlaceholders(player, command);
+            }
+            int repeats = counted ? 1 : Math.min(count, MAXIMUM_COMMAND_REPEATS);
+            for (int repeat = 0; repeat < repeats; repeat++) {
+                commands.add(command);
             }
+        }
+        RewardableActivitiesScheduler scheduler = plugin.getScheduler();
+        if (scheduler.isGlobalThread()) {
+            this.dispatchCommands(commands);
+        } else {
+            scheduler.runGlobal(() -> this.dispatchCommands(commands));
+        }
+        return commands;
+    }
+    
+    public void applyActions(RewardableActivitiesPlugin plugin, Player player, int count) {
+        for (RewardAction action : this.actions) {
+            action.apply(plugin, player, this, count);
+        }
+    }
+    
+    private List<String> describeActions(List<String> commands, int count) {
+        List<String> descriptions = new ArrayList<>(commands.size() + this.actions.size());
+        descriptions.addAll(commands);
+        for (RewardAction action : this.actions) {
+            descriptions.add(action.describe(count));
+        }
+        return descriptions;
+    }
+    
+    private void dispatchCommands(List<String> commands) {
+        for (String command : commands) {
             Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
-        });
+        }
     }
     
     public void reward(RewardableActivitiesPlugin plugin, Player player) {
-        if (plugin.isRewardLimiterEnabled() && !player.hasPermission("rewardableactivities.rewardlimiter.bypass")) {
-            RewardLimiterData data = plugin.getRewardLimiterData(player.getUniqueId());
-            if (data == null) {
-                data = new RewardLimiterData();
-                plugin.setRewardLimiterData(player.getUniqueId(), data);
-            }
-            if (data.getRewardsReceived() >= plugin.getRewardLimiterLimit() && data.getRewardsReceivedResetTime() != null && data.getRewardsReceivedResetTime().isAfter(Instant.now())) {
-                if (!data.isMessageSent()) {
-                    player.sendMessage(plugin.getRewardLimiterLimitReachedMessage());
-                    data.setMessageSent(true);
-                }
+        this.reward(plugin, player, 1.0D);
+    }
+    
+    public void reward(RewardableActivitiesPlugin plugin, Player player, double multiplier) {
+        this.reward(plugin, player, multiplier, 1);
+    }
+    
+    public void reward(RewardableActivitiesPlugin plugin, Player player, double multiplier, int count) {
+        if (count < 1) {
+            return;
+        }
+        RewardableActivitiesScheduler scheduler = plugin.getScheduler();
+        RewardTracer tracer = plugin.getRewardTracer();
+        RewardTrace trace = tracer.current();
+        if (!scheduler.isOwnedByCurrentRegion(player)) {
+            if (trace == null) {
+                scheduler.runAtEntity(player, () -> this.reward(plugin, player, multiplier, count));
                 return;
             }
-            if (data.getRewardsReceivedResetTime() == null || data.getRewardsReceivedResetTime().isBefore(Instant.now())) {
-                data.setRewardsReceived(0);
-                data.setRewardsReceivedResetTime(Instant.now().plusMillis(plugin.getRewardLimiterCooldown().toEpochMilli()));
-                data.setMessageSent(false);
+            trace.step("thread", "handed over to the player's thread");
+            scheduler.runAtEntity(player, () -> {
+                tracer.resume(trace);
+                try {
+                    this.reward(plugin, player, multiplier, count);
+                } finally {
+                    tracer.end(trace);
+                }
+            });
+            return;
+        }
+        int rewarded = count;
+        if (plugin.isRewardLimiterEnabled() && !player.hasPermission("rewardableactivities.rewardlimiter.bypass")) {
+            RewardLimiterData data = plugin.getOrCreateRewardLimiterData(player.getUniqueId());
+            synchronized (data) {
+                if (data.getRewardsReceivedResetTime() == null || data.getRewardsReceivedResetTime().isBefore(Instant.now())) {
+                    data.setRewardsReceived(0);
+                    data.setRewardsReceivedResetTime(Instant.now().plusMillis(plugin.getRewardLimiterCooldown().toEpochMilli()));
+                    data.setMessageSent(false);
+                }
+                if (data.getRewardsReceived() >= plugin.getRewardLimiterLimit()) {
+                    if (trace != null) {
+                        trace.step("limiter", "limit of " + plugin.getRewardLimiterLimit() + " reached");
+                    }
+                    if (!data.isMessageSent()) {
+                        player.sendMessage(plugin.getRewardLimiterLimitReachedMessage());
+                        data.setMessageSent(true);
+                    }
+                    return;
+                }
+                rewarded = Math.min(count, plugin.getRewardLimiterLimit() - data.getRewardsReceived());
+                data.setRewardsReceived(data.getRewardsReceived() + rewarded);
+                if (trace != null) {
+                    trace.step("limiter", data.getRewardsReceived() + " of " + plugin.getRewardLimiterLimit() + " received");
+                }
             }
-            data.setRewardsReceived(data.getRewardsReceived() + 1);
         }
-        if (plugin.getEconomy() != null && this.minimumEconomy >= 0.0D && this.maximumEconomy > 0.0D && this.minimumEconomy <= this.maximumEconomy) {
-            double economy = this.getRandomEconomy();
+        double economy = 0.0D;
+        if (plugin.getEconomy() != null && this.hasEconomy()) {
+            double economyMultiplier = multiplier;
+            MultiplierTimeline multiplierTimeline = plugin.getMultiplierTimeline();
+            if (multiplierTimeline != null) {
+                economyMultiplier *= multiplierTimeline.getCurrent().getEconomy(this.activityIndex, this.group);
+            }
+            economy = (rewarded == 1 ? this.getRandomEconomy() : RandomUtils.getRandomDoubleSum(this.minimumEconomy, this.maximumEconomy, rewarded)) * economyMultiplier;
             if (economy > 0.0D) {
                 this.depositEconomy(plugin.getEconomy(), player, economy);
+            } else {
+                economy = 0.0D;
+            }
+            if (trace != null) {
+                trace.step("economy", String.format("%.2f deposited (%.2f - %.2f x %.3f)", economy, this.minimumEconomy, this.maximumEconomy, economyMultiplier));
             }
+        } else if (trace != null) {
+            trace.step("economy", plugin.getEconomy() == null ? "no economy provider" : String.format("skipped, bounds %.2f - %.2f are not valid", this.minimumEconomy, this.maximumEconomy));
+        }
+        List<String> commands = this.executeCommands(plugin, player, rewarded);
+        this.applyActions(plugin, player, rewarded);
+        if (trace != null) {
+            trace.step("reward", "group " + this.group + ", " + rewarded + " time(s), " + commands.size() + " command(s), " + this.actions.size() + " action(s)");
+        }
+        RewardAuditLog auditLog = plugin.getAuditLog();
+        if (auditLog != null) {
+            auditLog.log(player.getUniqueId(), player.getName(), this.activityId, this.group, economy, this.actions.isEmpty() ? commands : this.describeActions(commands, rewarded));
+        }
+        StatisticsStore statisticsStore = plugin.getStatisticsStore();
+        if (statisticsStore != null) {
+            statisticsStore.record(player, this.activityIndex, rewarded, economy);
         }
-        this.executeCommands(plugin, player);
     }
 }
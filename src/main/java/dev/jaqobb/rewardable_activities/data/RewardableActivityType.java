@@ -0,0 +1,111 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import com.cryptomorin.xseries.XEntityType;
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.util.TimeUtils;
+import org.bukkit.plugin.Plugin;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class RewardableActivityType<K> {
+    
+    private final String id;
+    private final String name;
+    private final Function<String, K> keyParser;
+    private final Supplier<Map<K, RewardableActivity>> mapFactory;
+    private volatile Plugin owner;
+    private volatile int index;
+    
+    public RewardableActivityType(String id, String name, Function<String, K> keyParser) {
+        this(id, name, keyParser, () -> new HashMap<>(16));
+    }
+    
+    public RewardableActivityType(String id, String name, Function<String, K> keyParser, Supplier<Map<K, RewardableActivity>> mapFactory) {
+        if (id == null || id.isEmpty() || id.contains(":")) {
+            throw new IllegalArgumentException("Activity type id cannot be empty or contain ':'");
+        }
+        this.id = id;
+        this.name = name;
+        this.keyParser = keyParser;
+        this.mapFactory = mapFactory;
+        this.index = -1;
+    }
+    
+    public static RewardableActivityType<XMaterial> ofMaterial(String id, String name) {
+        return new RewardableActivityType<>(id, name, key -> {
+            XMaterial material = XMaterial.matchXMaterial(key.toUpperCase(Locale.ROOT)).orElse(null);
+            if (material == null) {
+                throw new IllegalArgumentException("Unknown material: " + key);
+            }
+            return material;
+        }, () -> new EnumMap<>(XMaterial.class));
+    }
+    
+    public static RewardableActivityType<XEntityType> ofEntityType(String id, String name) {
+        return new RewardableActivityType<>(id, name, key -> {
+            XEntityType entityType = XEntityType.of(key.toUpperCase(Locale.ROOT)).orElse(null);
+            if (entityType == null) {
+                throw new IllegalArgumentException("Unknown entity type: " + key);
+            }
+            return entityType;
+        }, () -> new EnumMap<>(XEntityType.class));
+    }
+    
+    public static RewardableActivityType<String> ofString(String id, String name) {
+        return new RewardableActivityType<>(id, name, key -> key.toLowerCase(Locale.ROOT));
+    }
+    
+    public static RewardableActivityType<Long> ofDuration(String id, String name) {
+        return new RewardableActivityType<>(id, name, key -> {
+            Instant duration = TimeUtils.parse(key);
+            if (duration == null || duration.toEpochMilli() < 1000L) {
+                throw new IllegalArgumentException("Invalid duration: " + key);
+            }
+            return duration.toEpochMilli();
+        });
+    }
+    
+    public String getId() {
+        return this.id;
+    }
+    
+    public String getName() {
+        return this.name;
+    }
+    
+    public K parseKey(String key) {
+        return this.keyParser.apply(key);
+    }
+    
+    public Map<K, RewardableActivity> createMap() {
+        return this.mapFactory.get();
+    }
+    
+    public Plugin getOwner() {
+        return this.owner;
+    }
+    
+    public int getIndex() {
+        return this.index;
+    }
+    
+    void register(Plugin owner, int index) {
+        this.owner = owner;
+        this.index = index;
+    }
+    
+    void unregister() {
+        this.owner = null;
+        this.index = -1;
+    }
+    
+    @Override
+    public String toString() {
+        return this.id;
+    }
+}
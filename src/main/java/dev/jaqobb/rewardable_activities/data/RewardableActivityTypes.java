@@ -0,0 +1,26 @@
+package dev.jaqobb.rewardable_activities.data;
+
+import com.cryptomorin.xseries.XEntityType;
+import com.cryptomorin.xseries.XMaterial;
+import java.util.List;
+
+public final class RewardableActivityTypes {
+    
+    public static final RewardableActivityType<XMaterial> BLOCK_BREAK = RewardableActivityType.ofMaterial("block.break", "Block break");
+    public static final RewardableActivityType<XMaterial> BLOCK_PLACE = RewardableActivityType.ofMaterial("block.place", "Block place");
+    public static final RewardableActivityType<XMaterial> BLOCK_HARVEST = RewardableActivityType.ofMaterial("block.harvest", "Block harvest");
+    public static final RewardableActivityType<XEntityType> ENTITY_KILL = RewardableActivityType.ofEntityType("entity.kill", "Entity kill");
+    public static final RewardableActivityType<XEntityType> ENTITY_BREED = RewardableActivityType.ofEntityType("entity.breed", "Entity breed");
+    public static final RewardableActivityType<XMaterial> ITEM_FISH = RewardableActivityType.ofMaterial("item.fish", "Item fish");
+    public static final RewardableActivityType<XMaterial> ITEM_CRAFT = RewardableActivityType.ofMaterial("item.craft", "Item craft");
+    public static final RewardableActivityType<XMaterial> ITEM_SMELT = RewardableActivityType.ofMaterial("item.smelt", "Item smelt");
+    public static final RewardableActivityType<XMaterial> ITEM_ENCHANT = RewardableActivityType.ofMaterial("item.enchant", "Item enchant");
+    public static final RewardableActivityType<XMaterial> ITEM_TRADE = RewardableActivityType.ofMaterial("item.trade", "Item trade");
+    public static final RewardableActivityType<String> PLAYER_ADVANCEMENT = RewardableActivityType.ofString("player.advancement", "Player advancement");
+    public static final RewardableActivityType<Long> PLAYER_PLAYTIME = RewardableActivityType.ofDuration("player.playtime", "Player playtime");
+    public static final List<RewardableActivityType<?>> BUILT_IN = List.of(BLOCK_BREAK, BLOCK_PLACE, BLOCK_HARVEST, ENTITY_KILL, ENTITY_BREED, ITEM_FISH, ITEM_CRAFT, ITEM_SMELT, ITEM_ENCHANT, ITEM_TRADE, PLAYER_ADVANCEMENT, PLAYER_PLAYTIME);
+    
+    private RewardableActivityTypes() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+}
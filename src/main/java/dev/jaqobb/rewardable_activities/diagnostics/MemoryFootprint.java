@@ -0,0 +1,28 @@
+package dev.jaqobb.rewardable_activities.diagnostics;
+
+public record MemoryFootprint(String name, long entries, long bytes) {
+    
+    public static final long OBJECT_HEADER_BYTES = 12L;
+    public static final long ARRAY_HEADER_BYTES = 16L;
+    public static final long REFERENCE_BYTES = 4L;
+    public static final long UUID_BYTES = 32L;
+    public static final long STRING_BYTES = 56L;
+    public static final long MAP_ENTRY_BYTES = 32L;
+    
+    public static long object(long fieldBytes) {
+        return align(OBJECT_HEADER_BYTES + fieldBytes);
+    }
+    
+    public static long array(long length, long elementBytes) {
+        return align(ARRAY_HEADER_BYTES + length * elementBytes);
+    }
+    
+    public static long map(long entries, long entryBytes) {
+        long capacity = Math.max(16L, Long.highestOneBit(Math.max(1L, entries + entries / 3L)) << 1);
+        return object(48L) + array(capacity, REFERENCE_BYTES) + entries * (MAP_ENTRY_BYTES + entryBytes);
+    }
+    
+    private static long align(long bytes) {
+        return (bytes + 7L) & ~7L;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.jaqobb.rewardable_activities.io;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+public class IoExecutor {
+    
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final Map<String, IoQueue> queues;
+    private volatile boolean shutdown;
+    
+    public IoExecutor(Logger logger) {
+        this.logger = logger;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("RewardableActivities I/O ", 0L).factory());
+        this.queues = new ConcurrentHashMap<>(8);
+    }
+    
+    public IoQueue getQueue(String name, int capacity, int maximumAttempts) {
+        if (this.shutdown) {
+            throw new IllegalStateException("I/O executor is shut down");
+        }
+        return this.queues.computeIfAbsent(name, key -> new IoQueue(this, key, capacity, maximumAttempts));
+    }
+    
+    public Collection<IoQueue> getQueues() {
+        return Collections.unmodifiableCollection(this.queues.values());
+    }
+    
+    public Thread newThread(String name, Runnable task) {
+        return Thread.ofVirtual().name(name).unstarted(task);
+    }
+    
+    public boolean shutdown(long timeoutMillis) {
+        this.shutdown = true;
+        for (IoQueue queue : this.queues.values()) {
+            queue.close();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        boolean drained = true;
+        try {
+            for (IoQueue queue : this.queues.values()) {
+                drained &= queue.awaitIdle(Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+            this.executor.shutdown();
+            drained &= this.executor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        if (!drained) {
+            this.executor.shutdownNow();
+        }
+        return drained;
+    }
+    
+    Logger getLogger() {
+        return this.logger;
+    }
+    
+    void execute(Runnable task) {
+        this.executor.execute(task);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.jaqobb.rewardable_activities.io;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+public class IoQueue {
+    
+    private static final long SUBMIT_TIMEOUT_MILLIS = 10000L;
+    private static final long RETRY_DELAY_MILLIS = 250L;
+    
+    private final IoExecutor executor;
+    private final String name;
+    private final int capacity;
+    private final int maximumAttempts;
+    private final ArrayDeque<IoTask> tasks;
+    private final LongAdder completed;
+    private final LongAdder failed;
+    private final LongAdder retried;
+    private final LongAdder dropped;
+    private boolean running;
+    private boolean closed;
+    
+    IoQueue(IoExecutor executor, String name, int capacity, int maximumAttempts) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity has to be at least 1");
+        }
+        if (maximumAttempts < 1) {
+            throw new IllegalArgumentException("Maximum attempts has to be at least 1");
+        }
+        this.executor = executor;
+        this.name = name;
+        this.capacity = capacity;
+        this.maximumAttempts = maximumAttempts;
+        this.tasks = new ArrayDeque<>(Math.min(capacity, 64));
+        this.completed = new LongAdder();
+        this.failed = new LongAdder();
+        this.retried = new LongAdder();
+        this.dropped = new LongAdder();
+    }
+    
+    public String getName() {
+        return this.name;
+    }
+    
+    public int getCapacity() {
+        return this.capacity;
+    }
+    
+    public synchronized int getPendingCount() {
+        return this.tasks.size();
+    }
+    
+    public long getCompletedCount() {
+        return this.completed.sum();
+    }
+    
+    public long getFailedCount() {
+        return this.failed.sum();
+    }
+    
+    public long getRetriedCount() {
+        return this.retried.sum();
+    }
+    
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+    
+    public synchronized boolean offer(IoTask task) {
+        if (this.closed || this.tasks.size() >= this.capacity) {
+            this.dropped.increment();
+            return false;
+        }
+        this.enqueue(task);
+        return true;
+    }
+    
+    public synchronized boolean submit(IoTask task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SUBMIT_TIMEOUT_MILLIS);
+        try {
+            while (!this.closed && this.tasks.size() >= this.capacity) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0L) {
+                    break;
+                }
+                this.wait(remaining);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return this.offer(task);
+    }
+    
+    public synchronized boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (this.running || !this.tasks.isEmpty()) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0L) {
+                return false;
+            }
+            this.wait(remaining);
+        }
+        return true;
+    }
+    
+    synchronized void close() {
+        this.closed = true;
+        this.notifyAll();
+    }
+    
+    private void enqueue(IoTask task) {
+        this.tasks.add(task);
+        if (!this.running) {
+            this.running = true;
+            this.executor.execute(this::drain);
+        }
+    }
+    
+    private void drain() {
+        while (true) {
+            IoTask task;
+            synchronized (this) {
+                task = this.tasks.poll();
+                if (task == null) {
+                    this.running = false;
+                    this.notifyAll();
+                    return;
+                }
+                this.notifyAll();
+            }
+            this.run(task);
+        }
+    }
+    
+    private void run(IoTask task) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.run();
+                this.completed.increment();
+                return;
+            } catch (IOException exception) {
+                if (attempt >= this.maximumAttempts) {
+                    this.failed.increment();
+                    this.executor.getLogger().log(Level.WARNING, "I/O task of " + this.name + " failed after " + attempt + " attempt(s).", exception);
+                    return;
+                }
+                this.retried.increment();
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS << (attempt - 1));
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    this.failed.increment();
+                    return;
+                }
+            } catch (RuntimeException exception) {
+                this.failed.increment();
+                this.executor.getLogger().log(Level.WARNING, "I/O task of " + this.name + " failed.", exception);
+                return;
+            }
+        }
+    }
+}
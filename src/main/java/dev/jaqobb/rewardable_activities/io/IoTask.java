@@ -0,0 +1,9 @@
+package dev.jaqobb.rewardable_activities.io;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface IoTask {
+    
+    void run() throws IOException;
+}
@@ -0,0 +1,92 @@
+package dev.jaqobb.rewardable_activities.listener;
+
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+public class ListenerRegistry {
+    
+    private final Plugin plugin;
+    private final List<Registration> registrations;
+    
+    public ListenerRegistry(Plugin plugin) {
+        this.plugin = plugin;
+        this.registrations = new ArrayList<>(32);
+    }
+    
+    public ListenerRegistry add(Listener listener) {
+        return this.add(listener, () -> true, null);
+    }
+    
+    public ListenerRegistry add(Listener listener, BooleanSupplier required) {
+        return this.add(listener, required, null);
+    }
+    
+    public synchronized ListenerRegistry add(Listener listener, BooleanSupplier required, Runnable onRegister) {
+        this.registrations.add(new Registration(listener, required, onRegister));
+        return this;
+    }
+    
+    public synchronized void update() {
+        boolean[] required = new boolean[this.registrations.size()];
+        for (int index = 0; index < required.length; index++) {
+            required[index] = this.registrations.get(index).required.getAsBoolean();
+        }
+        for (int index = 0; index < required.length; index++) {
+            Registration registration = this.registrations.get(index);
+            if (required[index] == registration.registered) {
+                continue;
+            }
+            if (required[index]) {
+                this.plugin.getServer().getPluginManager().registerEvents(registration.listener, this.plugin);
+                registration.registered = true;
+                if (registration.onRegister != null) {
+                    registration.onRegister.run();
+                }
+            } else {
+                HandlerList.unregisterAll(registration.listener);
+                registration.registered = false;
+            }
+        }
+    }
+    
+    public synchronized void unregisterAll() {
+        for (Registration registration : this.registrations) {
+            if (registration.registered) {
+                HandlerList.unregisterAll(registration.listener);
+                registration.registered = false;
+            }
+        }
+    }
+    
+    public synchronized List<String> getRegisteredListeners() {
+        List<String> listeners = new ArrayList<>(this.registrations.size());
+        for (Registration registration : this.registrations) {
+            if (registration.registered) {
+                listeners.add(registration.listener.getClass().getSimpleName());
+            }
+        }
+        return listeners;
+    }
+    
+    public synchronized int getListenerCount() {
+        return this.registrations.size();
+    }
+    
+    private static final class Registration {
+        
+        private final Listener listener;
+        private final BooleanSupplier required;
+        private final Runnable onRegister;
+        private boolean registered;
+        
+        private Registration(Listener listener, BooleanSupplier required, Runnable onRegister) {
+            this.listener = listener;
+            this.required = required;
+            this.onRegister = onRegister;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package dev.jaqobb.rewardable_activities.listener.block;
 
-import com.cryptomorin.xseries.XMaterial;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
-import dev.jaqobb.rewardable_activities.data.RewardableActivity;
-import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.trace.RewardTracer;
+import dev.jaqobb.rewardable_activities.util.XSeriesUtils;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -26,19 +26,17 @@ public class BlockBreakListener implements Listener {
         if (this.plugin.isBlockPlaceOwnershipCheckEnabled() && !this.plugin.hasMetadata(block, RewardableActivitiesConstants.BLOCK_BROKEN_BY_PLAYER_KEY)) {
             this.plugin.setMetadata(block, RewardableActivitiesConstants.BLOCK_BROKEN_BY_PLAYER_KEY, true);
         }
-        if (this.plugin.isBlockBreakOwnershipCheckEnabled() && this.plugin.hasMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY)) {
-            this.plugin.unsetMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY);
-            return;
+        if (this.plugin.isBlockBreakOwnershipCheckEnabled()) {
+            BlockOwnershipStore blockOwnershipStore = this.plugin.getBlockOwnershipStore();
+            if (blockOwnershipStore.isOwned(block)) {
+                blockOwnershipStore.setOwned(block, false);
+                RewardTracer tracer = this.plugin.getRewardTracer();
+                if (tracer.isEnabled()) {
+                    tracer.record(event.getPlayer(), RewardableActivityTypes.BLOCK_BREAK.getId() + ":" + block.getType().name().toLowerCase(), "ownership", "block was placed by a player");
+                }
+                return;
+            }
         }
-        RewardableActivity activity = this.plugin.getRepository().getBlockBreakActivity(XMaterial.matchXMaterial(block.getType()));
-        if (activity == null) {
-            return;
-        }
-        Player player = event.getPlayer();
-        RewardableActivityReward reward = activity.getReward(player);
-        if (reward == null) {
-            return;
-        }
-        reward.reward(this.plugin, player);
+        this.plugin.getService().reward(RewardableActivityTypes.BLOCK_BREAK, XSeriesUtils.getMaterial(block.getType()), event.getPlayer(), block.getWorld(), block.getX(), block.getY(), block.getZ());
     }
 }
@@ -1,7 +1,8 @@
 package dev.jaqobb.rewardable_activities.listener.block;
 
-import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -23,11 +24,18 @@ public class BlockExplodeListener implements Listener {
             return;
         }
         List<Block> blocks = event.blockList();
+        if (blocks.isEmpty()) {
+            return;
+        }
+        BlockOwnershipStore blockOwnershipStore = this.plugin.getBlockOwnershipStore();
+        World world = blocks.get(0).getWorld();
+        if (!blockOwnershipStore.hasOwnedBlocks(world)) {
+            return;
+        }
+        BlockOwnershipStore.Batch batch = blockOwnershipStore.batch(world, blocks.size());
         for (Block block : blocks) {
-            if (!this.plugin.hasMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY)) {
-                continue;
-            }
-            this.plugin.unsetMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY);
+            batch.add(block, false);
         }
+        batch.apply();
     }
 }
@@ -0,0 +1,51 @@
+package dev.jaqobb.rewardable_activities.listener.block;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockFormEvent;
+
+public class BlockFormListener implements Listener {
+    
+    private static final BlockFace[] ADJACENT_FACES = {BlockFace.DOWN, BlockFace.UP, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.WEST, BlockFace.EAST};
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public BlockFormListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        if (!this.plugin.isBlockBreakOwnershipCheckEnabled()) {
+            return;
+        }
+        if (!isFormedByLiquids(event.getNewState().getType())) {
+            return;
+        }
+        Block block = event.getBlock();
+        BlockOwnershipStore blockOwnershipStore = this.plugin.getBlockOwnershipStore();
+        if (!blockOwnershipStore.hasOwnedBlocks(block.getWorld()) || blockOwnershipStore.isOwned(block)) {
+            return;
+        }
+        for (BlockFace face : ADJACENT_FACES) {
+            Block source = block.getRelative(face);
+            if (blockOwnershipStore.isOwned(source) && source.isLiquid()) {
+                blockOwnershipStore.setOwned(block, true);
+                return;
+            }
+        }
+    }
+    
+    private static boolean isFormedByLiquids(Material type) {
+        return switch (type) {
+            case COBBLESTONE, STONE, OBSIDIAN, BASALT -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package dev.jaqobb.rewardable_activities.listener.block;
+
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesService;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.Ageable;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+
+public class BlockHarvestListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public BlockHarvestListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        XMaterial material = XMaterial.matchXMaterial(block.getType());
+        RewardableActivitiesService service = this.plugin.getService();
+        if (!service.isRewardable(RewardableActivityTypes.BLOCK_HARVEST, material, block.getWorld())) {
+            return;
+        }
+        BlockData blockData = block.getBlockData();
+        if (!(blockData instanceof Ageable ageable) || ageable.getAge() < ageable.getMaximumAge()) {
+            return;
+        }
+        service.reward(RewardableActivityTypes.BLOCK_HARVEST, material, event.getPlayer(), block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+}
@@ -1,12 +1,10 @@
 package dev.jaqobb.rewardable_activities.listener.block;
 
-import com.cryptomorin.xseries.XMaterial;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
-import dev.jaqobb.rewardable_activities.data.RewardableActivity;
-import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.util.XSeriesUtils;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -24,21 +22,12 @@ public class BlockPlaceListener implements Listener {
     public void onBlockPlace(BlockPlaceEvent event) {
         Block block = event.getBlock();
         if (this.plugin.isBlockBreakOwnershipCheckEnabled()) {
-            this.plugin.setMetadata(block, RewardableActivitiesConstants.BLOCK_PLACED_BY_PLAYER_KEY, true);
+            this.plugin.getBlockOwnershipStore().setOwned(block, true);
         }
         if (this.plugin.isBlockPlaceOwnershipCheckEnabled() && this.plugin.hasMetadata(block, RewardableActivitiesConstants.BLOCK_BROKEN_BY_PLAYER_KEY)) {
             this.plugin.unsetMetadata(block, RewardableActivitiesConstants.BLOCK_BROKEN_BY_PLAYER_KEY);
             return;
         }
-        RewardableActivity activity = this.plugin.getRepository().getBlockPlaceActivity(XMaterial.matchXMaterial(block.getType()));
-        if (activity == null) {
-            return;
-        }
-        Player player = event.getPlayer();
-        RewardableActivityReward reward = activity.getReward(player);
-        if (reward == null) {
-            return;
-        }
-        reward.reward(this.plugin, player);
+        this.plugin.getService().reward(RewardableActivityTypes.BLOCK_PLACE, XSeriesUtils.getMaterial(block.getType()), event.getPlayer(), block.getWorld(), block.getX(), block.getY(), block.getZ());
     }
 }
@@ -1,10 +1,9 @@
 package dev.jaqobb.rewardable_activities.listener.entity;
 
 import com.cryptomorin.xseries.XEntityType;
-import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
-import dev.jaqobb.rewardable_activities.data.RewardableActivity;
-import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -31,16 +30,8 @@ public class EntityBreedListener implements Listener {
         }
         Entity child = event.getEntity();
         if (this.plugin.isEntityBreedOwnershipCheckEnabled()) {
-            this.plugin.setMetadata(child, RewardableActivitiesConstants.ENTITY_BRED_BY_PLAYER_KEY, true);
+            this.plugin.getEntityProvenanceStore().mark(child, EntityProvenanceStore.BRED_BY_PLAYER);
         }
-        RewardableActivity activity = this.plugin.getRepository().getEntityBreedActivity(XEntityType.of(child));
-        if (activity == null) {
-            return;
-        }
-        RewardableActivityReward reward = activity.getReward(breederPlayer);
-        if (reward == null) {
-            return;
-        }
-        reward.reward(this.plugin, breederPlayer);
+        this.plugin.getService().reward(RewardableActivityTypes.ENTITY_BREED, XEntityType.of(child), breederPlayer, child.getLocation());
     }
 }
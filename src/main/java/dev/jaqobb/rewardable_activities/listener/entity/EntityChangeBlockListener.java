@@ -0,0 +1,44 @@
+package dev.jaqobb.rewardable_activities.listener.entity;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
+import org.bukkit.block.Block;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+
+public class EntityChangeBlockListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public EntityChangeBlockListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        if (!this.plugin.isBlockBreakOwnershipCheckEnabled() || !(event.getEntity() instanceof FallingBlock fallingBlock)) {
+            return;
+        }
+        Block block = event.getBlock();
+        BlockOwnershipStore blockOwnershipStore = this.plugin.getBlockOwnershipStore();
+        EntityProvenanceStore entityProvenanceStore = this.plugin.getEntityProvenanceStore();
+        if (event.getTo().isAir()) {
+            if (blockOwnershipStore.isOwned(block)) {
+                blockOwnershipStore.setOwned(block, false);
+                entityProvenanceStore.add(fallingBlock.getEntityId(), EntityProvenanceStore.FALLING_FROM_PLACED_BLOCK);
+            }
+            return;
+        }
+        boolean placedByPlayer = entityProvenanceStore.has(fallingBlock, EntityProvenanceStore.FALLING_FROM_PLACED_BLOCK);
+        if (placedByPlayer) {
+            entityProvenanceStore.unload(fallingBlock);
+        }
+        if (placedByPlayer || blockOwnershipStore.isOwned(block)) {
+            blockOwnershipStore.setOwned(block, placedByPlayer);
+        }
+    }
+}
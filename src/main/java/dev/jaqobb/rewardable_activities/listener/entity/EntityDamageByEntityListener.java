@@ -1,10 +1,9 @@
 package dev.jaqobb.rewardable_activities.listener.entity;
 
-import com.cryptomorin.xseries.XEntityType;
-import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
-import dev.jaqobb.rewardable_activities.data.RewardableActivity;
-import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
+import dev.jaqobb.rewardable_activities.util.XSeriesUtils;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -23,33 +22,33 @@ public class EntityDamageByEntityListener implements Listener {
         this.plugin = plugin;
     }
     
-    @EventHandler(priority = EventPriority.MONITOR)
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
         if (!(event.getEntity() instanceof LivingEntity victim)) {
             return;
         }
-        Player attacker = this.getPlayer(event.getDamager());
-        if (attacker == null) {
+        if (!this.plugin.getRepository().isWorldActive(victim.getWorld())) {
             return;
         }
-        if (victim.getHealth() - event.getFinalDamage() > 0.0D) {
+        Player attacker = this.getPlayer(event.getDamager());
+        if (attacker == null) {
             return;
         }
-        if (this.plugin.isEntityBreedOwnershipCheckEnabled() && this.plugin.hasMetadata(victim, RewardableActivitiesConstants.ENTITY_BRED_BY_PLAYER_KEY)) {
+        double damage = Math.min(event.getFinalDamage(), victim.getHealth());
+        if (damage <= 0.0D) {
             return;
         }
-        if (this.plugin.isEntitySpawnerOwnershipCheckEnabled() && this.plugin.hasMetadata(victim, RewardableActivitiesConstants.ENTITY_SPAWNED_BY_SPAWNER_KEY)) {
+        EntityProvenanceStore entityProvenanceStore = this.plugin.getEntityProvenanceStore();
+        if (this.plugin.isEntityBreedOwnershipCheckEnabled() && entityProvenanceStore.has(victim, EntityProvenanceStore.BRED_BY_PLAYER)) {
             return;
         }
-        RewardableActivity activity = this.plugin.getRepository().getEntityKillActivity(XEntityType.of(victim));
-        if (activity == null) {
+        if (this.plugin.isEntitySpawnerOwnershipCheckEnabled() && entityProvenanceStore.has(victim, EntityProvenanceStore.SPAWNED_BY_SPAWNER)) {
             return;
         }
-        RewardableActivityReward reward = activity.getReward(attacker);
-        if (reward == null) {
+        if (this.plugin.getRepository().getActivity(RewardableActivityTypes.ENTITY_KILL, XSeriesUtils.getEntityType(victim)) == null) {
             return;
         }
-        reward.reward(this.plugin, attacker);
+        this.plugin.getEntityDamageLedger().record(victim.getEntityId(), attacker.getUniqueId(), damage, System.currentTimeMillis());
     }
     
     private Player getPlayer(Entity entity) {
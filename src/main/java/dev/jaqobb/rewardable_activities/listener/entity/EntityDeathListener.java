@@ -0,0 +1,131 @@
+package dev.jaqobb.rewardable_activities.listener.entity;
+
+import com.cryptomorin.xseries.XEntityType;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.data.EntityDamageLedger;
+import dev.jaqobb.rewardable_activities.data.EntityStackResolver;
+import dev.jaqobb.rewardable_activities.data.RewardableActivity;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class EntityDeathListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Map<UUID, Map<String, PendingKills>> pendingKills;
+    
+    public EntityDeathListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+        this.pendingKills = new ConcurrentHashMap<>();
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDeath(EntityDeathEvent event) {
+        LivingEntity victim = event.getEntity();
+        this.plugin.getEntityProvenanceStore().unload(victim);
+        EntityDamageLedger.Entry entry = this.plugin.getEntityDamageLedger().remove(victim.getEntityId());
+        if (entry == null) {
+            return;
+        }
+        Player killer = victim.getKiller();
+        if (killer == null) {
+            return;
+        }
+        RewardableActivity activity = this.plugin.getRepository().getActivity(RewardableActivityTypes.ENTITY_KILL, XEntityType.of(victim));
+        if (activity == null) {
+            return;
+        }
+        Location location = victim.getLocation();
+        EntityStackResolver entityStackResolver = this.plugin.getEntityStackResolver();
+        int count = entityStackResolver != null && this.plugin.isEntityStackingWholeStackEnabled() ? entityStackResolver.getStackSize(victim) : 1;
+        if (entityStackResolver != null && this.plugin.isEntityStackingMergeDeathsEnabled()) {
+            this.merge(killer, activity, location, count);
+        } else {
+            this.reward(killer, activity, location, 1.0D, count);
+        }
+        if (!this.plugin.isEntityKillAssistsEnabled()) {
+            return;
+        }
+        double minimumShare = this.plugin.getEntityKillAssistMinimumShare();
+        long oldestHit = System.currentTimeMillis() - this.plugin.getEntityKillAssistWindow().toEpochMilli();
+        for (int index = 0; index < entry.getAttackers(); index++) {
+            if (entry.isAttacker(index, killer.getUniqueId())) {
+                continue;
+            }
+            if (entry.getLastHit(index) < oldestHit) {
+                continue;
+            }
+            double share = entry.getDamageShare(index);
+            if (share < minimumShare) {
+                continue;
+            }
+            Player assistant = this.plugin.getServer().getPlayer(entry.getAttacker(index));
+            if (assistant == null) {
+                continue;
+            }
+            this.reward(assistant, activity, location, share, count);
+        }
+    }
+    
+    private void merge(Player killer, RewardableActivity activity, Location location, int count) {
+        UUID uniqueId = killer.getUniqueId();
+        int maximumSize = this.plugin.getEntityStackResolver().getMaximumSize();
+        boolean[] created = new boolean[1];
+        this.pendingKills.compute(uniqueId, (key, kills) -> {
+            if (kills == null) {
+                kills = new HashMap<>();
+                created[0] = true;
+            }
+            PendingKills pending = kills.get(activity.id());
+            if (pending == null) {
+                kills.put(activity.id(), new PendingKills(activity, location, count));
+            } else {
+                pending.count = (int) Math.min(maximumSize, (long) pending.count + count);
+            }
+            return kills;
+        });
+        if (created[0]) {
+            this.plugin.getScheduler().runAtEntity(killer, () -> this.flush(uniqueId));
+        }
+    }
+    
+    private void flush(UUID uniqueId) {
+        Map<String, PendingKills> kills = this.pendingKills.remove(uniqueId);
+        if (kills == null) {
+            return;
+        }
+        Player killer = this.plugin.getServer().getPlayer(uniqueId);
+        if (killer == null) {
+            return;
+        }
+        for (PendingKills pending : kills.values()) {
+            this.reward(killer, pending.activity, pending.location, 1.0D, pending.count);
+        }
+    }
+    
+    private void reward(Player player, RewardableActivity activity, Location location, double share, int count) {
+        this.plugin.getService().reward(activity, player, location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), share, count);
+    }
+    
+    private static final class PendingKills {
+        
+        private final RewardableActivity activity;
+        private final Location location;
+        private int count;
+        
+        private PendingKills(RewardableActivity activity, Location location, int count) {
+            this.activity = activity;
+            this.location = location;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.jaqobb.rewardable_activities.listener.entity;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityRemoveEvent;
+
+public class EntityRemoveListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public EntityRemoveListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        this.plugin.getEntityProvenanceStore().unload(event.getEntity());
+        this.plugin.getEntityDamageLedger().remove(event.getEntity().getEntityId());
+    }
+}
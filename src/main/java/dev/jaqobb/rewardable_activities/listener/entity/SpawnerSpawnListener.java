@@ -1,7 +1,7 @@
 package dev.jaqobb.rewardable_activities.listener.entity;
 
-import dev.jaqobb.rewardable_activities.RewardableActivitiesConstants;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -20,6 +20,6 @@ public class SpawnerSpawnListener implements Listener {
         if (!this.plugin.isEntitySpawnerOwnershipCheckEnabled()) {
             return;
         }
-        this.plugin.setMetadata(event.getEntity(), RewardableActivitiesConstants.ENTITY_SPAWNED_BY_SPAWNER_KEY, true);
+        this.plugin.getEntityProvenanceStore().mark(event.getEntity(), EntityProvenanceStore.SPAWNED_BY_SPAWNER);
     }
 }
@@ -0,0 +1,47 @@
+package dev.jaqobb.rewardable_activities.listener.inventory;
+
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.util.InventoryUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.inventory.CraftingInventory;
+import org.bukkit.inventory.ItemStack;
+
+public class CraftItemListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public CraftItemListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCraftItem(CraftItemEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) {
+            return;
+        }
+        CraftingInventory inventory = event.getInventory();
+        int crafts = InventoryUtils.getResultTakes(event, inventory.getResult(), this.getMaximumCrafts(inventory));
+        if (crafts < 1) {
+            return;
+        }
+        Location location = player.getLocation();
+        this.plugin.getService().reward(RewardableActivityTypes.ITEM_CRAFT, XMaterial.matchXMaterial(event.getRecipe().getResult().getType()), player, location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), crafts);
+    }
+    
+    private int getMaximumCrafts(CraftingInventory inventory) {
+        int crafts = Integer.MAX_VALUE;
+        for (ItemStack ingredient : inventory.getMatrix()) {
+            if (!InventoryUtils.isEmpty(ingredient)) {
+                crafts = Math.min(crafts, ingredient.getAmount());
+            }
+        }
+        return crafts == Integer.MAX_VALUE ? 0 : crafts;
+    }
+}
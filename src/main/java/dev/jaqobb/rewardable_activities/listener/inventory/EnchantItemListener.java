@@ -0,0 +1,25 @@
+package dev.jaqobb.rewardable_activities.listener.inventory;
+
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.enchantment.EnchantItemEvent;
+
+public class EnchantItemListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public EnchantItemListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEnchantItem(EnchantItemEvent event) {
+        Block block = event.getEnchantBlock();
+        this.plugin.getService().reward(RewardableActivityTypes.ITEM_ENCHANT, XMaterial.matchXMaterial(event.getItem().getType()), event.getEnchanter(), block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+}
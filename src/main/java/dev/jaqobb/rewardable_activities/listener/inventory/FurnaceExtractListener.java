@@ -0,0 +1,25 @@
+package dev.jaqobb.rewardable_activities.listener.inventory;
+
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+
+public class FurnaceExtractListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public FurnaceExtractListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onFurnaceExtract(FurnaceExtractEvent event) {
+        Block block = event.getBlock();
+        this.plugin.getService().reward(RewardableActivityTypes.ITEM_SMELT, XMaterial.matchXMaterial(event.getItemType()), event.getPlayer(), block.getWorld(), block.getX(), block.getY(), block.getZ(), event.getItemAmount());
+    }
+}
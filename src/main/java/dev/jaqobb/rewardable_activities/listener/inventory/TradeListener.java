@@ -0,0 +1,74 @@
+package dev.jaqobb.rewardable_activities.listener.inventory;
+
+import com.cryptomorin.xseries.XMaterial;
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.util.InventoryUtils;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.MerchantInventory;
+import org.bukkit.inventory.MerchantRecipe;
+import java.util.List;
+
+public class TradeListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public TradeListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getSlotType() != InventoryType.SlotType.RESULT || !(event.getInventory() instanceof MerchantInventory inventory)) {
+            return;
+        }
+        if (!(event.getWhoClicked() instanceof Player player)) {
+            return;
+        }
+        ItemStack result = event.getCurrentItem();
+        int trades = InventoryUtils.getResultTakes(event, result, this.getMaximumTrades(inventory));
+        if (trades < 1) {
+            return;
+        }
+        Location location = player.getLocation();
+        this.plugin.getService().reward(RewardableActivityTypes.ITEM_TRADE, XMaterial.matchXMaterial(result.getType()), player, location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), trades);
+    }
+    
+    private int getMaximumTrades(MerchantInventory inventory) {
+        MerchantRecipe recipe = inventory.getSelectedRecipe();
+        if (recipe == null) {
+            return 0;
+        }
+        int trades = recipe.getMaxUses() - recipe.getUses();
+        List<ItemStack> ingredients = recipe.getIngredients();
+        for (int index = 0; index < ingredients.size() && index < 2; index++) {
+            ItemStack ingredient = ingredients.get(index);
+            if (InventoryUtils.isEmpty(ingredient)) {
+                continue;
+            }
+            int price = index == 0 ? this.getAdjustedPrice(recipe, ingredient) : ingredient.getAmount();
+            ItemStack offered = inventory.getItem(index);
+            if (InventoryUtils.isEmpty(offered) || offered.getType() != ingredient.getType()) {
+                offered = inventory.getItem(1 - index);
+            }
+            if (InventoryUtils.isEmpty(offered) || offered.getType() != ingredient.getType()) {
+                return 0;
+            }
+            trades = Math.min(trades, offered.getAmount() / price);
+        }
+        return trades;
+    }
+    
+    private int getAdjustedPrice(MerchantRecipe recipe, ItemStack ingredient) {
+        int price = ingredient.getAmount();
+        int demandPrice = Math.max(0, (int) Math.floor(price * recipe.getDemand() * recipe.getPriceMultiplier()));
+        return Math.max(1, Math.min(ingredient.getMaxStackSize(), price + demandPrice + recipe.getSpecialPrice()));
+    }
+}
@@ -0,0 +1,26 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+
+public class AsyncPlayerChatListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public AsyncPlayerChatListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerChat(AsyncPlayerChatEvent event) {
+        PlaytimeTracker playtimeTracker = this.plugin.getPlaytimeTracker();
+        if (playtimeTracker == null) {
+            return;
+        }
+        playtimeTracker.markActive(event.getPlayer());
+    }
+}
@@ -0,0 +1,28 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import org.bukkit.NamespacedKey;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerAdvancementDoneEvent;
+
+public class PlayerAdvancementDoneListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public PlayerAdvancementDoneListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerAdvancementDone(PlayerAdvancementDoneEvent event) {
+        NamespacedKey key = event.getAdvancement().getKey();
+        if (key.getKey().startsWith("recipes/")) {
+            return;
+        }
+        String advancement = key.getNamespace().equals(NamespacedKey.MINECRAFT) ? key.getKey() : key.toString();
+        this.plugin.getService().reward(RewardableActivityTypes.PLAYER_ADVANCEMENT, advancement, event.getPlayer(), event.getPlayer().getLocation());
+    }
+}
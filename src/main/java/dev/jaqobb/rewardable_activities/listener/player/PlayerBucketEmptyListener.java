@@ -0,0 +1,24 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+
+public class PlayerBucketEmptyListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public PlayerBucketEmptyListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerBucketEmpty(PlayerBucketEmptyEvent event) {
+        if (!this.plugin.isBlockBreakOwnershipCheckEnabled()) {
+            return;
+        }
+        this.plugin.getBlockOwnershipStore().setOwned(event.getBlock(), true);
+    }
+}
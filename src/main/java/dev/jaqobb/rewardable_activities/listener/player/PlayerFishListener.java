@@ -1,12 +1,10 @@
 package dev.jaqobb.rewardable_activities.listener.player;
 
-import com.cryptomorin.xseries.XMaterial;
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
-import dev.jaqobb.rewardable_activities.data.RewardableActivity;
-import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.util.XSeriesUtils;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -23,19 +21,9 @@ public class PlayerFishListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerFish(PlayerFishEvent event) {
         Entity caught = event.getCaught();
-        if (caught == null) {
+        if (!(caught instanceof Item caughtItem)) {
             return;
         }
-        Item caughtItem = (Item) caught;
-        RewardableActivity activity = this.plugin.getRepository().getItemFishActivity(XMaterial.matchXMaterial(caughtItem.getItemStack().getType()));
-        if (activity == null) {
-            return;
-        }
-        Player player = event.getPlayer();
-        RewardableActivityReward reward = activity.getReward(player);
-        if (reward == null) {
-            return;
-        }
-        reward.reward(this.plugin, player);
+        this.plugin.getService().reward(RewardableActivityTypes.ITEM_FISH, XSeriesUtils.getMaterial(caughtItem.getItemStack().getType()), event.getPlayer(), caught.getLocation());
     }
 }
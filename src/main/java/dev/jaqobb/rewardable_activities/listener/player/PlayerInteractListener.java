@@ -0,0 +1,26 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerInteractEvent;
+
+public class PlayerInteractListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public PlayerInteractListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        PlaytimeTracker playtimeTracker = this.plugin.getPlaytimeTracker();
+        if (playtimeTracker == null) {
+            return;
+        }
+        playtimeTracker.markActive(event.getPlayer());
+    }
+}
@@ -1,6 +1,9 @@
 package dev.jaqobb.rewardable_activities.listener.player;
 
 import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import dev.jaqobb.rewardable_activities.statistics.StatisticsStore;
+import dev.jaqobb.rewardable_activities.threshold.ThresholdCounterStore;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -18,6 +21,18 @@ public class PlayerJoinListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        StatisticsStore statisticsStore = this.plugin.getStatisticsStore();
+        if (statisticsStore != null) {
+            statisticsStore.load(player);
+        }
+        ThresholdCounterStore thresholdCounterStore = this.plugin.getThresholdCounterStore();
+        if (thresholdCounterStore != null) {
+            thresholdCounterStore.load(player);
+        }
+        PlaytimeTracker playtimeTracker = this.plugin.getPlaytimeTracker();
+        if (playtimeTracker != null) {
+            playtimeTracker.load(player);
+        }
         if (!player.hasPermission("rewardableactivities.updater.notify")) {
             return;
         }
@@ -0,0 +1,32 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+public class PlayerMoveListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public PlayerMoveListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        PlaytimeTracker playtimeTracker = this.plugin.getPlaytimeTracker();
+        if (playtimeTracker == null) {
+            return;
+        }
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || (from.getYaw() == to.getYaw() && from.getPitch() == to.getPitch())) {
+            return;
+        }
+        playtimeTracker.markActive(event.getPlayer());
+    }
+}
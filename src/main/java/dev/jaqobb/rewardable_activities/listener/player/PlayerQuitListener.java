@@ -0,0 +1,48 @@
+package dev.jaqobb.rewardable_activities.listener.player;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.antifarm.AntiFarmManager;
+import dev.jaqobb.rewardable_activities.placeholder.PlaceholderCache;
+import dev.jaqobb.rewardable_activities.playtime.PlaytimeTracker;
+import dev.jaqobb.rewardable_activities.statistics.StatisticsStore;
+import dev.jaqobb.rewardable_activities.threshold.ThresholdCounterStore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerQuitListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public PlayerQuitListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        AntiFarmManager antiFarmManager = this.plugin.getAntiFarmManager();
+        if (antiFarmManager != null) {
+            antiFarmManager.remove(event.getPlayer().getUniqueId());
+        }
+        this.plugin.getRewardCurveManager().remove(event.getPlayer().getUniqueId());
+        this.plugin.getCooldownStore().remove(event.getPlayer().getUniqueId());
+        this.plugin.getEntityDamageLedger().remove(event.getPlayer().getEntityId());
+        StatisticsStore statisticsStore = this.plugin.getStatisticsStore();
+        if (statisticsStore != null) {
+            statisticsStore.unload(event.getPlayer());
+        }
+        ThresholdCounterStore thresholdCounterStore = this.plugin.getThresholdCounterStore();
+        if (thresholdCounterStore != null) {
+            thresholdCounterStore.unload(event.getPlayer());
+        }
+        PlaceholderCache placeholderCache = this.plugin.getPlaceholderCache();
+        if (placeholderCache != null) {
+            placeholderCache.remove(event.getPlayer().getUniqueId());
+        }
+        PlaytimeTracker playtimeTracker = this.plugin.getPlaytimeTracker();
+        if (playtimeTracker != null) {
+            playtimeTracker.unload(event.getPlayer());
+        }
+    }
+}
@@ -17,10 +17,14 @@ public class PluginDisableListener implements Listener {
     
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() != this.plugin) {
+            this.plugin.getService().unregisterActivityTypes(event.getPlugin());
+        }
         if (!event.getPlugin().getName().equals("PlaceholderAPI")) {
             return;
         }
         this.plugin.setPlaceholderApiPresent(false);
+        this.plugin.setPlaceholderExpansionRegistered(false);
         this.plugin.getLogger().log(Level.INFO, "PlaceholderAPI integration has been disabled.");
     }
 }
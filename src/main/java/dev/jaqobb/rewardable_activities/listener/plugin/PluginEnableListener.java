@@ -22,5 +22,6 @@ public class PluginEnableListener implements Listener {
         }
         this.plugin.setPlaceholderApiPresent(true);
         this.plugin.getLogger().log(Level.INFO, "PlaceholderAPI integration has been enabled.");
+        this.plugin.registerPlaceholderExpansion();
     }
 }
@@ -0,0 +1,29 @@
+package dev.jaqobb.rewardable_activities.listener.world;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+
+public class EntitiesLoadListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public EntitiesLoadListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        EntityProvenanceStore store = this.plugin.getEntityProvenanceStore();
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof LivingEntity) {
+                store.load(entity);
+            }
+        }
+    }
+}
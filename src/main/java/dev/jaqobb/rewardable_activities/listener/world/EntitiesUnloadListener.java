@@ -0,0 +1,35 @@
+package dev.jaqobb.rewardable_activities.listener.world;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.EntityDamageLedger;
+import dev.jaqobb.rewardable_activities.data.EntityProvenanceStore;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+public class EntitiesUnloadListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public EntitiesUnloadListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        EntityProvenanceStore store = this.plugin.getEntityProvenanceStore();
+        EntityDamageLedger ledger = this.plugin.getEntityDamageLedger();
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof LivingEntity) {
+                store.unload(entity);
+                ledger.remove(entity.getEntityId());
+            } else if (entity instanceof FallingBlock) {
+                store.unload(entity);
+            }
+        }
+    }
+}
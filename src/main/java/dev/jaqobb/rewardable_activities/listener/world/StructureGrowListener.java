@@ -0,0 +1,39 @@
+package dev.jaqobb.rewardable_activities.listener.world;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.BlockOwnershipStore;
+import org.bukkit.Location;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.StructureGrowEvent;
+import java.util.List;
+
+public class StructureGrowListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public StructureGrowListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        if (!this.plugin.isBlockBreakOwnershipCheckEnabled()) {
+            return;
+        }
+        List<BlockState> blocks = event.getBlocks();
+        if (blocks.isEmpty()) {
+            return;
+        }
+        BlockOwnershipStore blockOwnershipStore = this.plugin.getBlockOwnershipStore();
+        Location location = event.getLocation();
+        boolean placedByPlayer = event.getPlayer() != null || blockOwnershipStore.isOwned(event.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        BlockOwnershipStore.Batch batch = blockOwnershipStore.batch(event.getWorld(), blocks.size());
+        for (BlockState block : blocks) {
+            batch.add(block.getX(), block.getY(), block.getZ(), placedByPlayer);
+        }
+        batch.apply();
+    }
+}
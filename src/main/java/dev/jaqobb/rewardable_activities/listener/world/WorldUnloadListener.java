@@ -0,0 +1,21 @@
+package dev.jaqobb.rewardable_activities.listener.world;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+public class WorldUnloadListener implements Listener {
+    
+    private final RewardableActivitiesPlugin plugin;
+    
+    public WorldUnloadListener(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        this.plugin.getBlockOwnershipStore().unloadWorld(event.getWorld());
+    }
+}
@@ -0,0 +1,128 @@
+package dev.jaqobb.rewardable_activities.multiplier;
+
+import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import org.bukkit.configuration.ConfigurationSection;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public record MultiplierSchedule(String name, int[] activityIndexes, Set<String> groups, double chance, double economy, LocalDateTime start, LocalDateTime end, Set<DayOfWeek> days, LocalTime from, LocalTime to) {
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    
+    public static MultiplierSchedule load(String name, ConfigurationSection section, RewardableActivityRepository repository) {
+        if (section == null) {
+            throw new IllegalArgumentException("Schedule is not a section");
+        }
+        double chance = section.getDouble("chance", 1.0D);
+        double economy = section.getDouble("economy", 1.0D);
+        if (chance < 0.0D || economy < 0.0D) {
+            throw new IllegalArgumentException("Multipliers have to be at least 0");
+        }
+        int[] activityIndexes = null;
+        if (section.isList("activities")) {
+            List<String> activities = section.getStringList("activities");
+            activityIndexes = new int[activities.size()];
+            for (int index = 0; index < activityIndexes.length; index++) {
+                String activity = activities.get(index);
+                if (activity.indexOf(':') == -1) {
+                    throw new IllegalArgumentException("Activity " + activity + " has to be written as 'type:key'");
+                }
+                activityIndexes[index] = repository.getActivityIndex(activity);
+            }
+        }
+        Set<String> groups = section.isList("groups") ? new HashSet<>(section.getStringList("groups")) : null;
+        LocalDateTime start = parseDateTime(section.getString("start"));
+        LocalDateTime end = parseDateTime(section.getString("end"));
+        if (start != null && end != null && !end.isAfter(start)) {
+            throw new IllegalArgumentException("End has to be after start");
+        }
+        Set<DayOfWeek> days = null;
+        if (section.isList("days")) {
+            days = EnumSet.noneOf(DayOfWeek.class);
+            for (String day : section.getStringList("days")) {
+                try {
+                    days.add(DayOfWeek.valueOf(day.toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException exception) {
+                    throw new IllegalArgumentException("Unknown day: " + day);
+                }
+            }
+        }
+        LocalTime from = parseTime(section.getString("from"));
+        LocalTime to = parseTime(section.getString("to"));
+        if (start == null && end == null && days == null && from == null && to == null) {
+            throw new IllegalArgumentException("Neither start, end, days, from nor to is set");
+        }
+        return new MultiplierSchedule(name, activityIndexes, groups, chance, economy, start, end, days, from, to);
+    }
+    
+    private static LocalDateTime parseDateTime(String string) {
+        if (string == null || string.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(string, DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid date " + string + ", it has to be written as 'yyyy-MM-dd HH:mm'");
+        }
+    }
+    
+    private static LocalTime parseTime(String string) {
+        if (string == null || string.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(string);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid time " + string + ", it has to be written as 'HH:mm'");
+        }
+    }
+    
+    public boolean isGlobal() {
+        return this.activityIndexes == null;
+    }
+    
+    public boolean appliesTo(String group) {
+        return this.groups == null || (group != null && this.groups.contains(group));
+    }
+    
+    public void collectIntervals(long from, long to, ZoneId zone, List<long[]> intervals) {
+        long start = this.start == null ? Long.MIN_VALUE : this.start.atZone(zone).toInstant().toEpochMilli();
+        long end = this.end == null ? Long.MAX_VALUE : this.end.atZone(zone).toInstant().toEpochMilli();
+        long lowerBound = Math.max(from, start);
+        long upperBound = Math.min(to, end);
+        if (lowerBound >= upperBound) {
+            return;
+        }
+        if (this.days == null && this.from == null && this.to == null) {
+            intervals.add(new long[] {lowerBound, upperBound});
+            return;
+        }
+        LocalTime windowFrom = this.from == null ? LocalTime.MIDNIGHT : this.from;
+        LocalTime windowTo = this.to == null ? LocalTime.MIDNIGHT : this.to;
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(lowerBound), zone).minusDays(1L);
+        LocalDate lastDate = LocalDate.ofInstant(Instant.ofEpochMilli(upperBound), zone);
+        while (!date.isAfter(lastDate)) {
+            if (this.days == null || this.days.contains(date.getDayOfWeek())) {
+                long windowStart = date.atTime(windowFrom).atZone(zone).toInstant().toEpochMilli();
+                long windowEnd = (windowTo.isAfter(windowFrom) ? date.atTime(windowTo) : date.plusDays(1L).atTime(windowTo)).atZone(zone).toInstant().toEpochMilli();
+                windowStart = Math.max(windowStart, lowerBound);
+                windowEnd = Math.min(windowEnd, upperBound);
+                if (windowStart < windowEnd) {
+                    intervals.add(new long[] {windowStart, windowEnd});
+                }
+            }
+            date = date.plusDays(1L);
+        }
+    }
+}
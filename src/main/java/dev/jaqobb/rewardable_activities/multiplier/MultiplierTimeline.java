@@ -0,0 +1,137 @@
+package dev.jaqobb.rewardable_activities.multiplier;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class MultiplierTimeline {
+    
+    private static final long HORIZON = TimeUnit.DAYS.toMillis(7L);
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final List<MultiplierSchedule> schedules;
+    private final ZoneId zone;
+    private long[] boundaries;
+    private Multipliers[] segments;
+    private int position;
+    private volatile long nextBoundary;
+    private volatile Multipliers current;
+    private RewardableActivitiesScheduler.ScheduledTask task;
+    
+    public MultiplierTimeline(RewardableActivitiesPlugin plugin, List<MultiplierSchedule> schedules, ZoneId zone) {
+        this.plugin = plugin;
+        this.schedules = List.copyOf(schedules);
+        this.zone = zone;
+        this.nextBoundary = Long.MIN_VALUE;
+        this.current = Multipliers.NONE;
+    }
+    
+    public void start() {
+        this.update();
+        this.task = this.plugin.getScheduler().runAsyncTimer(this::update, 20L, 20L);
+    }
+    
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+    
+    public Multipliers getCurrent() {
+        return this.current;
+    }
+    
+    public long getNextBoundary() {
+        return this.nextBoundary;
+    }
+    
+    public ZoneId getZone() {
+        return this.zone;
+    }
+    
+    public List<MultiplierSchedule> getSchedules() {
+        return this.schedules;
+    }
+    
+    public List<MultiplierSchedule> getActiveSchedules() {
+        long now = System.currentTimeMillis();
+        List<MultiplierSchedule> activeSchedules = new ArrayList<>();
+        List<long[]> intervals = new ArrayList<>();
+        for (MultiplierSchedule schedule : this.schedules) {
+            intervals.clear();
+            schedule.collectIntervals(now, now + 1L, this.zone, intervals);
+            if (!intervals.isEmpty()) {
+                activeSchedules.add(schedule);
+            }
+        }
+        return activeSchedules;
+    }
+    
+    public synchronized void update() {
+        long now = System.currentTimeMillis();
+        if (now < this.nextBoundary) {
+            return;
+        }
+        if (this.boundaries == null || now >= this.boundaries[this.boundaries.length - 1]) {
+            this.compile(now);
+        }
+        while (this.position + 1 < this.boundaries.length - 1 && this.boundaries[this.position + 1] <= now) {
+            this.position++;
+        }
+        this.current = this.segments[this.position];
+        this.nextBoundary = this.boundaries[this.position + 1];
+    }
+    
+    private void compile(long now) {
+        long horizonEnd = now + HORIZON;
+        List<List<long[]>> scheduleIntervals = new ArrayList<>(this.schedules.size());
+        long[] boundaries = new long[16];
+        int boundaryCount = 0;
+        boundaries[boundaryCount++] = now;
+        boundaries[boundaryCount++] = horizonEnd;
+        for (MultiplierSchedule schedule : this.schedules) {
+            List<long[]> intervals = new ArrayList<>();
+            schedule.collectIntervals(now, horizonEnd, this.zone, intervals);
+            scheduleIntervals.add(intervals);
+            for (long[] interval : intervals) {
+                if (boundaryCount + 2 > boundaries.length) {
+                    boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+                }
+                boundaries[boundaryCount++] = interval[0];
+                boundaries[boundaryCount++] = interval[1];
+            }
+        }
+        Arrays.sort(boundaries, 0, boundaryCount);
+        int uniqueCount = 0;
+        for (int index = 0; index < boundaryCount; index++) {
+            if (uniqueCount == 0 || boundaries[uniqueCount - 1] != boundaries[index]) {
+                boundaries[uniqueCount++] = boundaries[index];
+            }
+        }
+        boundaries = Arrays.copyOf(boundaries, uniqueCount);
+        int activityCount = this.plugin.getRepository().getActivityIndexCount();
+        Multipliers[] segments = new Multipliers[uniqueCount - 1];
+        List<MultiplierSchedule> activeSchedules = new ArrayList<>(this.schedules.size());
+        for (int segment = 0; segment < segments.length; segment++) {
+            long segmentStart = boundaries[segment];
+            activeSchedules.clear();
+            for (int index = 0; index < this.schedules.size(); index++) {
+                for (long[] interval : scheduleIntervals.get(index)) {
+                    if (interval[0] <= segmentStart && segmentStart < interval[1]) {
+                        activeSchedules.add(this.schedules.get(index));
+                        break;
+                    }
+                }
+            }
+            segments[segment] = Multipliers.compile(activeSchedules, activityCount);
+        }
+        this.boundaries = boundaries;
+        this.segments = segments;
+        this.position = 0;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.jaqobb.rewardable_activities.multiplier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class Multipliers {
+    
+    public static final Multipliers NONE = new Multipliers(1.0D, 1.0D, null, null, Collections.emptyMap());
+    
+    private final double chance;
+    private final double economy;
+    private final double[] activityChances;
+    private final double[] activityEconomies;
+    private final Map<String, Multipliers> groups;
+    
+    private Multipliers(double chance, double economy, double[] activityChances, double[] activityEconomies, Map<String, Multipliers> groups) {
+        this.chance = chance;
+        this.economy = economy;
+        this.activityChances = activityChances;
+        this.activityEconomies = activityEconomies;
+        this.groups = groups;
+    }
+    
+    public static Multipliers compile(List<MultiplierSchedule> schedules, int activityCount) {
+        if (schedules.isEmpty()) {
+            return NONE;
+        }
+        Multipliers multipliers = compile(schedules, activityCount, null);
+        Set<String> groups = new HashSet<>();
+        for (MultiplierSchedule schedule : schedules) {
+            if (schedule.groups() != null) {
+                groups.addAll(schedule.groups());
+            }
+        }
+        if (groups.isEmpty()) {
+            return multipliers;
+        }
+        Map<String, Multipliers> groupMultipliers = new HashMap<>(groups.size() * 2);
+        for (String group : groups) {
+            groupMultipliers.put(group, compile(schedules, activityCount, group));
+        }
+        return new Multipliers(multipliers.chance, multipliers.economy, multipliers.activityChances, multipliers.activityEconomies, groupMultipliers);
+    }
+    
+    private static Multipliers compile(List<MultiplierSchedule> schedules, int activityCount, String group) {
+        double chance = 1.0D;
+        double economy = 1.0D;
+        boolean scoped = false;
+        for (MultiplierSchedule schedule : schedules) {
+            if (!schedule.appliesTo(group)) {
+                continue;
+            }
+            if (schedule.isGlobal()) {
+                chance *= schedule.chance();
+                economy *= schedule.economy();
+            } else {
+                scoped = true;
+            }
+        }
+        if (!scoped) {
+            return new Multipliers(chance, economy, null, null, Collections.emptyMap());
+        }
+        double[] activityChances = new double[activityCount];
+        double[] activityEconomies = new double[activityCount];
+        Arrays.fill(activityChances, chance);
+        Arrays.fill(activityEconomies, economy);
+        for (MultiplierSchedule schedule : schedules) {
+            if (schedule.isGlobal() || !schedule.appliesTo(group)) {
+                continue;
+            }
+            for (int activityIndex : schedule.activityIndexes()) {
+                if (activityIndex < activityCount) {
+                    activityChances[activityIndex] *= schedule.chance();
+                    activityEconomies[activityIndex] *= schedule.economy();
+                }
+            }
+        }
+        return new Multipliers(chance, economy, activityChances, activityEconomies, Collections.emptyMap());
+    }
+    
+    public double getChance(int activityIndex, String group) {
+        Multipliers multipliers = this.groups.isEmpty() ? this : this.groups.getOrDefault(group, this);
+        double[] activityChances = multipliers.activityChances;
+        return activityChances != null && activityIndex >= 0 && activityIndex < activityChances.length ? activityChances[activityIndex] : multipliers.chance;
+    }
+    
+    public double getEconomy(int activityIndex, String group) {
+        Multipliers multipliers = this.groups.isEmpty() ? this : this.groups.getOrDefault(group, this);
+        double[] activityEconomies = multipliers.activityEconomies;
+        return activityEconomies != null && activityIndex >= 0 && activityIndex < activityEconomies.length ? activityEconomies[activityIndex] : multipliers.economy;
+    }
+}
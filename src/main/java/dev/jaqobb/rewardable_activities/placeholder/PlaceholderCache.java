@@ -0,0 +1,209 @@
+package dev.jaqobb.rewardable_activities.placeholder;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.entity.Player;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PlaceholderCache {
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final long defaultTtl;
+    private final Map<String, Long> ttls;
+    private final Map<String, Long> resolvedTtls;
+    private final Map<UUID, Map<String, CachedPlaceholder>> placeholders;
+    private final AtomicInteger entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder bypasses;
+    private final LongAdder preWarms;
+    private RewardableActivitiesScheduler.ScheduledTask preWarmTask;
+    
+    public PlaceholderCache(RewardableActivitiesPlugin plugin, long defaultTtl, Map<String, Long> ttls) {
+        this.plugin = plugin;
+        this.defaultTtl = defaultTtl;
+        this.ttls = ttls;
+        this.resolvedTtls = new ConcurrentHashMap<>(16);
+        this.placeholders = new ConcurrentHashMap<>(16);
+        this.entries = new AtomicInteger();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.bypasses = new LongAdder();
+        this.preWarms = new LongAdder();
+    }
+    
+    public void start(long preWarmIntervalTicks) {
+        if (preWarmIntervalTicks > 0L) {
+            long preWarmInterval = preWarmIntervalTicks * 50L;
+            this.preWarmTask = this.plugin.getScheduler().runAsyncTimer(() -> this.preWarm(preWarmInterval), preWarmIntervalTicks, preWarmIntervalTicks);
+        }
+    }
+    
+    public void stop() {
+        if (this.preWarmTask != null) {
+            this.preWarmTask.cancel();
+            this.preWarmTask = null;
+        }
+        this.placeholders.clear();
+        this.entries.set(0);
+    }
+    
+    public void remove(UUID uniqueId) {
+        Map<String, CachedPlaceholder> placeholders = this.placeholders.remove(uniqueId);
+        if (placeholders != null) {
+            this.entries.addAndGet(-placeholders.size());
+        }
+    }
+    
+    public String setPlaceholders(Player player, String text) {
+        int start = text.indexOf('%');
+        if (start == -1) {
+            return text;
+        }
+        StringBuilder builder = null;
+        int copied = 0;
+        while (start != -1) {
+            int end = text.indexOf('%', start + 1);
+            if (end == -1) {
+                break;
+            }
+            if (end == start + 1) {
+                start = end;
+                continue;
+            }
+            String placeholder = text.substring(start, end + 1);
+            String value = this.getValue(player, placeholder);
+            if (builder == null) {
+                builder = new StringBuilder(text.length() + 16);
+            }
+            builder.append(text, copied, start).append(value);
+            copied = end + 1;
+            start = text.indexOf('%', copied);
+        }
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copied, text.length()).toString();
+    }
+    
+    public String getValue(Player player, String placeholder) {
+        long ttl = this.getTtl(placeholder);
+        if (ttl <= 0L) {
+            this.bypasses.increment();
+            return PlaceholderAPI.setPlaceholders(player, placeholder);
+        }
+        Map<String, CachedPlaceholder> placeholders = this.placeholders.computeIfAbsent(player.getUniqueId(), uniqueId -> new ConcurrentHashMap<>(16));
+        long now = System.currentTimeMillis();
+        CachedPlaceholder cachedPlaceholder = placeholders.get(placeholder);
+        if (cachedPlaceholder != null && cachedPlaceholder.expiresAt > now) {
+            cachedPlaceholder.used = true;
+            this.hits.increment();
+            return cachedPlaceholder.value;
+        }
+        this.misses.increment();
+        String value = PlaceholderAPI.setPlaceholders(player, placeholder);
+        if (placeholders.put(placeholder, new CachedPlaceholder(value, now + ttl)) == null) {
+            this.entries.incrementAndGet();
+        }
+        return value;
+    }
+    
+    public long getTtl(String placeholder) {
+        Long ttl = this.resolvedTtls.get(placeholder);
+        if (ttl != null) {
+            return ttl;
+        }
+        String name = placeholder.substring(1, placeholder.length() - 1).toLowerCase();
+        ttl = this.ttls.get(name);
+        if (ttl == null) {
+            int separator = name.indexOf('_');
+            ttl = separator == -1 ? null : this.ttls.get(name.substring(0, separator));
+        }
+        if (ttl == null) {
+            ttl = this.defaultTtl;
+        }
+        this.resolvedTtls.put(placeholder, ttl);
+        return ttl;
+    }
+    
+    public int getPlayerCount() {
+        return this.placeholders.size();
+    }
+    
+    public int getEntryCount() {
+        return this.entries.get();
+    }
+    
+    public long getEstimatedBytes() {
+        int players = this.placeholders.size();
+        long entryBytes = MemoryFootprint.object(MemoryFootprint.REFERENCE_BYTES + 12L) + 2L * MemoryFootprint.STRING_BYTES;
+        return MemoryFootprint.map(players, MemoryFootprint.UUID_BYTES + MemoryFootprint.map(0L, 0L)) + this.entries.get() * (MemoryFootprint.MAP_ENTRY_BYTES + entryBytes);
+    }
+    
+    public long getHits() {
+        return this.hits.sum();
+    }
+    
+    public long getMisses() {
+        return this.misses.sum();
+    }
+    
+    public long getBypasses() {
+        return this.bypasses.sum();
+    }
+    
+    public long getPreWarms() {
+        return this.preWarms.sum();
+    }
+    
+    public double getHitRate() {
+        long hits = this.hits.sum();
+        long lookups = hits + this.misses.sum();
+        return lookups == 0L ? 0.0D : (double) hits / lookups;
+    }
+    
+    private void preWarm(long preWarmInterval) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Map<String, CachedPlaceholder>> entry : this.placeholders.entrySet()) {
+            Player player = this.plugin.getServer().getPlayer(entry.getKey());
+            if (player == null) {
+                this.remove(entry.getKey());
+                continue;
+            }
+            for (Map.Entry<String, CachedPlaceholder> placeholderEntry : entry.getValue().entrySet()) {
+                CachedPlaceholder cachedPlaceholder = placeholderEntry.getValue();
+                if (cachedPlaceholder.expiresAt > now + preWarmInterval) {
+                    continue;
+                }
+                if (!cachedPlaceholder.used) {
+                    if (entry.getValue().remove(placeholderEntry.getKey(), cachedPlaceholder)) {
+                        this.entries.decrementAndGet();
+                    }
+                    continue;
+                }
+                String placeholder = placeholderEntry.getKey();
+                String value = PlaceholderAPI.setPlaceholders(player, placeholder);
+                entry.getValue().replace(placeholder, cachedPlaceholder, new CachedPlaceholder(value, System.currentTimeMillis() + this.getTtl(placeholder)));
+                this.preWarms.increment();
+            }
+        }
+    }
+    
+    private static final class CachedPlaceholder {
+        
+        private final String value;
+        private final long expiresAt;
+        private volatile boolean used;
+        
+        private CachedPlaceholder(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
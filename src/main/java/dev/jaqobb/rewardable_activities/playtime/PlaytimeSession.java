@@ -0,0 +1,27 @@
+package dev.jaqobb.rewardable_activities.playtime;
+
+import org.bukkit.entity.Player;
+
+final class PlaytimeSession extends TimingWheel.Entry {
+    
+    final Player player;
+    long activeTime;
+    long rewardedActiveTime;
+    long accountedUntil;
+    volatile long lastActivity;
+    volatile boolean parked;
+    
+    PlaytimeSession(Player player, long now) {
+        this.player = player;
+        this.accountedUntil = now;
+        this.lastActivity = now;
+    }
+    
+    void account(long now, long afkTimeout) {
+        long activeUntil = Math.min(now, this.lastActivity + afkTimeout);
+        if (activeUntil > this.accountedUntil) {
+            this.activeTime += activeUntil - this.accountedUntil;
+        }
+        this.accountedUntil = Math.max(this.accountedUntil, now);
+    }
+}
@@ -0,0 +1,253 @@
+package dev.jaqobb.rewardable_activities.playtime;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivity;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityTypes;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+public class PlaytimeTracker {
+    
+    private static final long TICK_DURATION = 1000L;
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Map<UUID, PlaytimeSession> sessions;
+    private final TimingWheel<PlaytimeSession> wheel;
+    private final long startTime;
+    private volatile long afkTimeout;
+    private volatile RewardableActivity[] activities;
+    private volatile long[] intervals;
+    private RewardableActivitiesScheduler.ScheduledTask task;
+    
+    public PlaytimeTracker(RewardableActivitiesPlugin plugin, long afkTimeout) {
+        this.plugin = plugin;
+        this.sessions = new ConcurrentHashMap<>(16);
+        this.wheel = new TimingWheel<>(0L);
+        this.startTime = System.currentTimeMillis();
+        this.afkTimeout = afkTimeout > 0L ? afkTimeout : Long.MAX_VALUE / 2L;
+        this.activities = new RewardableActivity[0];
+        this.intervals = new long[0];
+    }
+    
+    public void start() {
+        this.refresh();
+        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.load(player);
+        }
+        this.task = this.plugin.getScheduler().runGlobalTimer(this::tick, 20L, 20L);
+    }
+    
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        synchronized (this.wheel) {
+            for (PlaytimeSession session : this.sessions.values()) {
+                this.wheel.cancel(session);
+            }
+        }
+        this.sessions.clear();
+    }
+    
+    public void setAfkTimeout(long afkTimeout) {
+        this.afkTimeout = afkTimeout > 0L ? afkTimeout : Long.MAX_VALUE / 2L;
+    }
+    
+    public void refresh() {
+        Collection<RewardableActivity> activities = this.plugin.getRepository().getActivities(RewardableActivityTypes.PLAYER_PLAYTIME);
+        RewardableActivity[] newActivities = new RewardableActivity[activities.size()];
+        long[] newIntervals = new long[activities.size()];
+        int size = 0;
+        for (RewardableActivity activity : activities) {
+            try {
+                newIntervals[size] = RewardableActivityTypes.PLAYER_PLAYTIME.parseKey(activity.id());
+            } catch (IllegalArgumentException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Could not parse playtime interval " + activity.id() + ": " + exception.getMessage());
+                continue;
+            }
+            newActivities[size] = activity;
+            size++;
+        }
+        if (size != newActivities.length) {
+            RewardableActivity[] trimmedActivities = new RewardableActivity[size];
+            long[] trimmedIntervals = new long[size];
+            System.arraycopy(newActivities, 0, trimmedActivities, 0, size);
+            System.arraycopy(newIntervals, 0, trimmedIntervals, 0, size);
+            newActivities = trimmedActivities;
+            newIntervals = trimmedIntervals;
+        }
+        this.activities = newActivities;
+        this.intervals = newIntervals;
+        for (PlaytimeSession session : this.sessions.values()) {
+            this.schedule(session, System.currentTimeMillis());
+        }
+    }
+    
+    public void load(Player player) {
+        long now = System.currentTimeMillis();
+        PlaytimeSession session = new PlaytimeSession(player, now);
+        PlaytimeSession previousSession = this.sessions.put(player.getUniqueId(), session);
+        if (previousSession != null) {
+            synchronized (this.wheel) {
+                this.wheel.cancel(previousSession);
+            }
+        }
+        this.schedule(session, now);
+    }
+    
+    public void unload(Player player) {
+        PlaytimeSession session = this.sessions.remove(player.getUniqueId());
+        if (session == null) {
+            return;
+        }
+        synchronized (this.wheel) {
+            this.wheel.cancel(session);
+        }
+    }
+    
+    public void markActive(Player player) {
+        PlaytimeSession session = this.sessions.get(player.getUniqueId());
+        if (session == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - session.lastActivity <= this.afkTimeout) {
+            session.lastActivity = now;
+            if (!session.parked) {
+                return;
+            }
+        }
+        boolean parked;
+        synchronized (session) {
+            session.account(now, this.afkTimeout);
+            session.lastActivity = now;
+            parked = session.parked;
+            session.parked = false;
+        }
+        if (parked) {
+            this.schedule(session, now);
+        }
+    }
+    
+    public boolean isAfk(Player player) {
+        PlaytimeSession session = this.sessions.get(player.getUniqueId());
+        return session != null && System.currentTimeMillis() - session.lastActivity > this.afkTimeout;
+    }
+    
+    public long getActiveTime(Player player) {
+        PlaytimeSession session = this.sessions.get(player.getUniqueId());
+        if (session == null) {
+            return 0L;
+        }
+        synchronized (session) {
+            session.account(System.currentTimeMillis(), this.afkTimeout);
+            return session.activeTime;
+        }
+    }
+    
+    public int getSessionCount() {
+        return this.sessions.size();
+    }
+    
+    public int getScheduledCount() {
+        synchronized (this.wheel) {
+            return this.wheel.size();
+        }
+    }
+    
+    public long getEstimatedBytes() {
+        long sessionBytes = MemoryFootprint.UUID_BYTES + MemoryFootprint.object(3L * MemoryFootprint.REFERENCE_BYTES + 5L * 8L + 2L * 4L + 1L);
+        synchronized (this.wheel) {
+            return MemoryFootprint.map(this.sessions.size(), sessionBytes) + this.wheel.getEstimatedBytes();
+        }
+    }
+    
+    private void tick() {
+        long targetTick = (System.currentTimeMillis() - this.startTime) / TICK_DURATION;
+        synchronized (this.wheel) {
+            this.wheel.advance(targetTick, this::fire);
+        }
+    }
+    
+    private void fire(PlaytimeSession session) {
+        if (this.sessions.get(session.player.getUniqueId()) != session) {
+            return;
+        }
+        RewardableActivity[] activities = this.activities;
+        long[] intervals = this.intervals;
+        long now = System.currentTimeMillis();
+        long activeTime;
+        long previousActiveTime;
+        boolean afk;
+        synchronized (session) {
+            session.account(now, this.afkTimeout);
+            activeTime = session.activeTime;
+            previousActiveTime = session.rewardedActiveTime;
+            session.rewardedActiveTime = activeTime;
+            afk = now - session.lastActivity > this.afkTimeout;
+            session.parked = afk;
+        }
+        int[] counts = null;
+        for (int index = 0; index < intervals.length; index++) {
+            long count = activeTime / intervals[index] - previousActiveTime / intervals[index];
+            if (count > 0L) {
+                if (counts == null) {
+                    counts = new int[intervals.length];
+                }
+                counts[index] = (int) Math.min(Integer.MAX_VALUE, count);
+            }
+        }
+        if (counts != null) {
+            int[] rewardCounts = counts;
+            Player player = session.player;
+            this.plugin.getScheduler().runAtEntity(player, () -> {
+                if (!player.isOnline()) {
+                    return;
+                }
+                Location location = player.getLocation();
+                for (int index = 0; index < activities.length; index++) {
+                    if (rewardCounts[index] > 0) {
+                        this.plugin.getService().reward(activities[index], player, location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ(), 1.0D, rewardCounts[index]);
+                    }
+                }
+            });
+        }
+        if (!afk) {
+            this.wheel.schedule(session, this.getDeadline(now, activeTime, intervals));
+        }
+    }
+    
+    private void schedule(PlaytimeSession session, long now) {
+        long[] intervals = this.intervals;
+        long activeTime;
+        synchronized (session) {
+            if (session.parked) {
+                return;
+            }
+            activeTime = session.activeTime;
+        }
+        synchronized (this.wheel) {
+            if (intervals.length == 0) {
+                this.wheel.cancel(session);
+                return;
+            }
+            this.wheel.schedule(session, this.getDeadline(now, activeTime, intervals));
+        }
+    }
+    
+    private long getDeadline(long now, long activeTime, long[] intervals) {
+        long remaining = Long.MAX_VALUE;
+        for (long interval : intervals) {
+            remaining = Math.min(remaining, interval - activeTime % interval);
+        }
+        return (now + remaining - this.startTime + TICK_DURATION - 1L) / TICK_DURATION;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.jaqobb.rewardable_activities.playtime;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import java.util.function.Consumer;
+
+public class TimingWheel<T extends TimingWheel.Entry> {
+    
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAXIMUM_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1L;
+    
+    private final Entry[][] slots;
+    private long currentTick;
+    private int size;
+    
+    public TimingWheel(long currentTick) {
+        this.slots = new Entry[LEVELS][SLOTS];
+        this.currentTick = currentTick;
+    }
+    
+    public long getCurrentTick() {
+        return this.currentTick;
+    }
+    
+    public int size() {
+        return this.size;
+    }
+    
+    public long getEstimatedBytes() {
+        return MemoryFootprint.object(MemoryFootprint.REFERENCE_BYTES + 12L) + MemoryFootprint.array(LEVELS, MemoryFootprint.REFERENCE_BYTES) + LEVELS * MemoryFootprint.array(SLOTS, MemoryFootprint.REFERENCE_BYTES);
+    }
+    
+    public void schedule(T entry, long deadline) {
+        Entry node = entry;
+        if (node.level != -1) {
+            this.unlink(node);
+            this.size--;
+        }
+        node.deadline = Math.min(Math.max(deadline, this.currentTick + 1L), this.currentTick + MAXIMUM_DELAY);
+        this.insert(node);
+        this.size++;
+    }
+    
+    public void cancel(T entry) {
+        Entry node = entry;
+        if (node.level == -1) {
+            return;
+        }
+        this.unlink(node);
+        this.size--;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public void advance(long targetTick, Consumer<T> expired) {
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((this.currentTick & ((1L << (SLOT_BITS * level)) - 1L)) == 0L) {
+                    this.cascade(level, (int) (this.currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                }
+            }
+            int slot = (int) this.currentTick & SLOT_MASK;
+            Entry entry = this.slots[0][slot];
+            this.slots[0][slot] = null;
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                entry.previous = null;
+                entry.level = -1;
+                this.size--;
+                expired.accept((T) entry);
+                entry = next;
+            }
+        }
+    }
+    
+    private void cascade(int level, int slot) {
+        Entry entry = this.slots[level][slot];
+        this.slots[level][slot] = null;
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.next = null;
+            entry.previous = null;
+            this.insert(entry);
+            entry = next;
+        }
+    }
+    
+    private void insert(Entry entry) {
+        long delay = entry.deadline - this.currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (entry.deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Entry head = this.slots[level][slot];
+        entry.next = head;
+        entry.previous = null;
+        if (head != null) {
+            head.previous = entry;
+        }
+        this.slots[level][slot] = entry;
+        entry.level = level;
+        entry.slot = slot;
+    }
+    
+    private void unlink(Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            this.slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.next = null;
+        entry.previous = null;
+        entry.level = -1;
+    }
+    
+    public abstract static class Entry {
+        
+        private Entry next;
+        private Entry previous;
+        private long deadline;
+        private int level = -1;
+        private int slot;
+        
+        public boolean isScheduled() {
+            return this.level != -1;
+        }
+        
+        public long getDeadline() {
+            return this.deadline;
+        }
+    }
+}
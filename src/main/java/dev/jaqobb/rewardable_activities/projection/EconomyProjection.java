@@ -0,0 +1,137 @@
+package dev.jaqobb.rewardable_activities.projection;
+
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import dev.jaqobb.rewardable_activities.util.RandomUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class EconomyProjection {
+    
+    private static final int HOURS_PER_TASK = 256;
+    
+    private final List<Entry> entries;
+    private final int hours;
+    private final long seed;
+    
+    public EconomyProjection(List<Entry> entries, int hours, long seed) {
+        if (hours < 1) {
+            throw new IllegalArgumentException("Hours have to be at least 1");
+        }
+        this.entries = List.copyOf(entries);
+        this.hours = hours;
+        this.seed = seed;
+    }
+    
+    public long getDraws() {
+        long draws = 0L;
+        for (Entry entry : this.entries) {
+            draws += entry.getDraws(this.hours);
+        }
+        return draws;
+    }
+    
+    public List<Result> run(int parallelism) {
+        double[][] payouts = new double[this.entries.size() + 1][this.hours];
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            pool.invoke(new SimulationTask(payouts, 0, this.hours, new SplittableRandom(this.seed)));
+        } finally {
+            pool.shutdown();
+        }
+        List<Result> results = new ArrayList<>(payouts.length);
+        for (int index = 0; index < payouts.length; index++) {
+            results.add(Result.of(index < this.entries.size() ? this.entries.get(index).name() : null, payouts[index]));
+        }
+        return results;
+    }
+    
+    private double simulate(Entry entry, int hour, SplittableRandom random) {
+        int remaining = (int) (entry.getDraws(hour + 1) - entry.getDraws(hour));
+        double payout = 0.0D;
+        for (RewardableActivityReward reward : entry.rewards()) {
+            if (remaining == 0) {
+                break;
+            }
+            int rewarded = RandomUtils.getBinomial(random, remaining, reward.chance() / 100.0D);
+            remaining -= rewarded;
+            if (rewarded > 0 && reward.hasEconomy()) {
+                payout += RandomUtils.getRandomDoubleSum(random, reward.minimumEconomy(), reward.maximumEconomy(), rewarded);
+            }
+        }
+        return payout;
+    }
+    
+    public record Entry(String name, List<RewardableActivityReward> rewards, int perHour, int threshold) {
+        
+        public Entry {
+            rewards = List.copyOf(rewards);
+            threshold = Math.max(1, threshold);
+        }
+        
+        private long getDraws(int hours) {
+            return (long) this.perHour * hours / this.threshold;
+        }
+    }
+    
+    public record Result(String name, double mean, double median, double percentile90, double percentile99) {
+        
+        public boolean isTotal() {
+            return this.name == null;
+        }
+        
+        private static Result of(String name, double[] payouts) {
+            double sum = 0.0D;
+            for (double payout : payouts) {
+                sum += payout;
+            }
+            double[] sortedPayouts = payouts.clone();
+            Arrays.sort(sortedPayouts);
+            return new Result(name, sum / sortedPayouts.length, percentile(sortedPayouts, 0.5D), percentile(sortedPayouts, 0.9D), percentile(sortedPayouts, 0.99D));
+        }
+        
+        private static double percentile(double[] sortedPayouts, double percentile) {
+            int index = (int) Math.ceil(percentile * sortedPayouts.length) - 1;
+            return sortedPayouts[Math.max(0, Math.min(sortedPayouts.length - 1, index))];
+        }
+    }
+    
+    private final class SimulationTask extends RecursiveAction {
+        
+        private final double[][] payouts;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+        
+        private SimulationTask(double[][] payouts, int from, int to, SplittableRandom random) {
+            this.payouts = payouts;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+        
+        @Override
+        protected void compute() {
+            if (this.to - this.from > HOURS_PER_TASK) {
+                int middle = (this.from + this.to) >>> 1;
+                SimulationTask left = new SimulationTask(this.payouts, this.from, middle, this.random.split());
+                SimulationTask right = new SimulationTask(this.payouts, middle, this.to, this.random);
+                invokeAll(left, right);
+                return;
+            }
+            int total = this.payouts.length - 1;
+            for (int hour = this.from; hour < this.to; hour++) {
+                double hourPayout = 0.0D;
+                for (int index = 0; index < total; index++) {
+                    double payout = EconomyProjection.this.simulate(EconomyProjection.this.entries.get(index), hour, this.random);
+                    this.payouts[index][hour] = payout;
+                    hourPayout += payout;
+                }
+                this.payouts[total][hour] = hourPayout;
+            }
+        }
+    }
+}
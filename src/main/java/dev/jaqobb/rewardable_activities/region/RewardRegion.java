@@ -0,0 +1,49 @@
+package dev.jaqobb.rewardable_activities.region;
+
+public record RewardRegion(String name, int activityIndex, String world, int minimumX, int minimumY, int minimumZ, int maximumX, int maximumY, int maximumZ, double multiplier) {
+    
+    public static final int ALL_ACTIVITIES = -1;
+    
+    public static RewardRegion ofWorld(String name, int activityIndex, String world, double multiplier) {
+        return new RewardRegion(name, activityIndex, world, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, multiplier);
+    }
+    
+    public RewardRegion {
+        int swap;
+        if (minimumX > maximumX) {
+            swap = minimumX;
+            minimumX = maximumX;
+            maximumX = swap;
+        }
+        if (minimumY > maximumY) {
+            swap = minimumY;
+            minimumY = maximumY;
+            maximumY = swap;
+        }
+        if (minimumZ > maximumZ) {
+            swap = minimumZ;
+            minimumZ = maximumZ;
+            maximumZ = swap;
+        }
+    }
+    
+    public boolean isWorldWide() {
+        return this.minimumX == Integer.MIN_VALUE && this.maximumX == Integer.MAX_VALUE && this.minimumZ == Integer.MIN_VALUE && this.maximumZ == Integer.MAX_VALUE;
+    }
+    
+    public boolean appliesTo(int activityIndex) {
+        return this.activityIndex == ALL_ACTIVITIES || this.activityIndex == activityIndex;
+    }
+    
+    public boolean contains(int x, int y, int z) {
+        return x >= this.minimumX && x <= this.maximumX && y >= this.minimumY && y <= this.maximumY && z >= this.minimumZ && z <= this.maximumZ;
+    }
+    
+    public long getChunkCount() {
+        return ((long) (this.maximumX >> 4) - (this.minimumX >> 4) + 1L) * ((long) (this.maximumZ >> 4) - (this.minimumZ >> 4) + 1L);
+    }
+    
+    public double getVolume() {
+        return ((double) this.maximumX - this.minimumX + 1.0D) * ((double) this.maximumY - this.minimumY + 1.0D) * ((double) this.maximumZ - this.minimumZ + 1.0D);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.jaqobb.rewardable_activities.region;
+
+import org.bukkit.World;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class RewardRegionIndex {
+    
+    public static final RewardRegionIndex EMPTY = new RewardRegionIndex(List.of(), null);
+    
+    private final Map<String, WorldRegionIndex> worlds;
+    private final Set<String> activeWorlds;
+    private final int regionCount;
+    
+    public RewardRegionIndex(Collection<RewardRegion> regions, Set<String> activeWorlds) {
+        Map<String, List<RewardRegion>> regionsByWorld = new HashMap<>(16);
+        for (RewardRegion region : regions) {
+            regionsByWorld.computeIfAbsent(region.world(), world -> new ArrayList<>()).add(region);
+        }
+        Map<String, WorldRegionIndex> worlds = new HashMap<>(16);
+        for (Map.Entry<String, List<RewardRegion>> entry : regionsByWorld.entrySet()) {
+            worlds.put(entry.getKey(), new WorldRegionIndex(entry.getValue()));
+        }
+        this.worlds = worlds;
+        this.activeWorlds = activeWorlds == null ? null : Set.copyOf(activeWorlds);
+        this.regionCount = regions.size();
+    }
+    
+    public int getRegionCount() {
+        return this.regionCount;
+    }
+    
+    public boolean isWorldActive(World world) {
+        return this.activeWorlds == null || this.activeWorlds.contains(world.getName());
+    }
+    
+    public RewardRegion getRegion(int activityIndex, World world, int x, int y, int z) {
+        if (this.worlds.isEmpty()) {
+            return null;
+        }
+        WorldRegionIndex index = this.worlds.get(world.getName());
+        if (index == null) {
+            return null;
+        }
+        return index.getRegion(activityIndex, x, y, z);
+    }
+    
+    public double getMultiplier(int activityIndex, World world, int x, int y, int z) {
+        RewardRegion region = this.getRegion(activityIndex, world, x, y, z);
+        return region == null ? 1.0D : region.multiplier();
+    }
+}
@@ -0,0 +1,89 @@
+package dev.jaqobb.rewardable_activities.region;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class WorldRegionIndex {
+    
+    public static final int MAXIMUM_INDEXED_CHUNKS = 16384;
+    
+    private static final Comparator<RewardRegion> PRIORITY = Comparator.<RewardRegion>comparingInt(region -> region.activityIndex() == RewardRegion.ALL_ACTIVITIES ? 1 : 0)
+        .thenComparingDouble(RewardRegion::getVolume);
+    private static final RewardRegion[] NO_REGIONS = new RewardRegion[0];
+    
+    private final long[] chunkKeys;
+    private final RewardRegion[][] chunkRegions;
+    private final boolean[] usedSlots;
+    private final RewardRegion[] largeRegions;
+    
+    public WorldRegionIndex(Collection<RewardRegion> regions) {
+        Map<Long, List<RewardRegion>> chunks = new HashMap<>(16);
+        List<RewardRegion> largeRegions = new ArrayList<>();
+        for (RewardRegion region : regions) {
+            if (region.isWorldWide() || region.getChunkCount() > MAXIMUM_INDEXED_CHUNKS) {
+                largeRegions.add(region);
+                continue;
+            }
+            for (int chunkX = region.minimumX() >> 4; chunkX <= region.maximumX() >> 4; chunkX++) {
+                for (int chunkZ = region.minimumZ() >> 4; chunkZ <= region.maximumZ() >> 4; chunkZ++) {
+                    chunks.computeIfAbsent(getChunkKey(chunkX, chunkZ), key -> new ArrayList<>(2)).add(region);
+                }
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, chunks.size()) * 2 - 1) << 1;
+        this.chunkKeys = new long[capacity];
+        this.chunkRegions = new RewardRegion[capacity][];
+        this.usedSlots = new boolean[capacity];
+        int mask = capacity - 1;
+        for (Map.Entry<Long, List<RewardRegion>> entry : chunks.entrySet()) {
+            long key = entry.getKey();
+            int index = hash(key, mask);
+            while (this.usedSlots[index]) {
+                index = (index + 1) & mask;
+            }
+            List<RewardRegion> chunkRegions = entry.getValue();
+            chunkRegions.addAll(largeRegions);
+            chunkRegions.sort(PRIORITY);
+            this.chunkKeys[index] = key;
+            this.chunkRegions[index] = chunkRegions.toArray(NO_REGIONS);
+            this.usedSlots[index] = true;
+        }
+        largeRegions.sort(PRIORITY);
+        this.largeRegions = largeRegions.toArray(NO_REGIONS);
+    }
+    
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | (chunkZ & 0xFFFFFFFFL);
+    }
+    
+    private static int hash(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    public RewardRegion getRegion(int activityIndex, int x, int y, int z) {
+        for (RewardRegion region : this.getCandidates(x >> 4, z >> 4)) {
+            if (region.appliesTo(activityIndex) && region.contains(x, y, z)) {
+                return region;
+            }
+        }
+        return null;
+    }
+    
+    private RewardRegion[] getCandidates(int chunkX, int chunkZ) {
+        long key = getChunkKey(chunkX, chunkZ);
+        int mask = this.chunkKeys.length - 1;
+        int index = hash(key, mask);
+        while (this.usedSlots[index]) {
+            if (this.chunkKeys[index] == key) {
+                return this.chunkRegions[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return this.largeRegions;
+    }
+}
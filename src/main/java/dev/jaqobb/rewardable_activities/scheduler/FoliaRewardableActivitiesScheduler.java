@@ -0,0 +1,184 @@
+package dev.jaqobb.rewardable_activities.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class FoliaRewardableActivitiesScheduler implements RewardableActivitiesScheduler {
+    
+    private static final String REGIONIZED_SERVER_CLASS = "io.papermc.paper.threadedregions.RegionizedServer";
+    
+    private final Plugin plugin;
+    private final Object globalRegionScheduler;
+    private final Object regionScheduler;
+    private final Object asyncScheduler;
+    private final Method globalRun;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+    private final Method globalCancelTasks;
+    private final Method regionRun;
+    private final Method entityGetScheduler;
+    private final Method entityRun;
+    private final Method asyncRunNow;
+    private final Method asyncRunAtFixedRate;
+    private final Method asyncCancelTasks;
+    private final MethodHandle isOwnedByCurrentRegionEntity;
+    private final MethodHandle isOwnedByCurrentRegionLocation;
+    private final MethodHandle isGlobalTickThread;
+    private final Method taskCancel;
+    
+    public FoliaRewardableActivitiesScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        try {
+            Server server = plugin.getServer();
+            Class<?> serverClass = Server.class;
+            this.globalRegionScheduler = serverClass.getMethod("getGlobalRegionScheduler").invoke(server);
+            this.regionScheduler = serverClass.getMethod("getRegionScheduler").invoke(server);
+            this.asyncScheduler = serverClass.getMethod("getAsyncScheduler").invoke(server);
+            Class<?> globalRegionSchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler");
+            Class<?> regionSchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.RegionScheduler");
+            Class<?> entitySchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.EntityScheduler");
+            Class<?> asyncSchedulerClass = Class.forName("io.papermc.paper.threadedregions.scheduler.AsyncScheduler");
+            Class<?> scheduledTaskClass = Class.forName("io.papermc.paper.threadedregions.scheduler.ScheduledTask");
+            this.globalRun = globalRegionSchedulerClass.getMethod("run", Plugin.class, Consumer.class);
+            this.globalRunDelayed = globalRegionSchedulerClass.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            this.globalRunAtFixedRate = globalRegionSchedulerClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+            this.globalCancelTasks = globalRegionSchedulerClass.getMethod("cancelTasks", Plugin.class);
+            this.regionRun = regionSchedulerClass.getMethod("run", Plugin.class, Location.class, Consumer.class);
+            this.entityGetScheduler = Entity.class.getMethod("getScheduler");
+            this.entityRun = entitySchedulerClass.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+            this.asyncRunNow = asyncSchedulerClass.getMethod("runNow", Plugin.class, Consumer.class);
+            this.asyncRunAtFixedRate = asyncSchedulerClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class);
+            this.asyncCancelTasks = asyncSchedulerClass.getMethod("cancelTasks", Plugin.class);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.isOwnedByCurrentRegionEntity = lookup.unreflect(serverClass.getMethod("isOwnedByCurrentRegion", Entity.class)).bindTo(server).asType(MethodType.methodType(boolean.class, Entity.class));
+            this.isOwnedByCurrentRegionLocation = lookup.unreflect(serverClass.getMethod("isOwnedByCurrentRegion", Location.class)).bindTo(server).asType(MethodType.methodType(boolean.class, Location.class));
+            this.isGlobalTickThread = lookup.unreflect(serverClass.getMethod("isGlobalTickThread")).bindTo(server).asType(MethodType.methodType(boolean.class));
+            this.taskCancel = scheduledTaskClass.getMethod("cancel");
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Could not hook into Folia schedulers", exception);
+        }
+    }
+    
+    public static boolean isSupported() {
+        try {
+            Class.forName(REGIONIZED_SERVER_CLASS);
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "Folia";
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentRegion(Entity entity) {
+        try {
+            return (boolean) this.isOwnedByCurrentRegionEntity.invokeExact(entity);
+        } catch (Throwable throwable) {
+            throw this.propagate(throwable);
+        }
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentRegion(Location location) {
+        try {
+            return (boolean) this.isOwnedByCurrentRegionLocation.invokeExact(location);
+        } catch (Throwable throwable) {
+            throw this.propagate(throwable);
+        }
+    }
+    
+    @Override
+    public boolean isGlobalThread() {
+        try {
+            return (boolean) this.isGlobalTickThread.invokeExact();
+        } catch (Throwable throwable) {
+            throw this.propagate(throwable);
+        }
+    }
+    
+    @Override
+    public ScheduledTask runGlobal(Runnable task) {
+        return this.wrap(this.invoke(this.globalRun, this.globalRegionScheduler, this.plugin, this.consumer(task)));
+    }
+    
+    @Override
+    public ScheduledTask runGlobalLater(Runnable task, long delay) {
+        return this.wrap(this.invoke(this.globalRunDelayed, this.globalRegionScheduler, this.plugin, this.consumer(task), Math.max(1L, delay)));
+    }
+    
+    @Override
+    public ScheduledTask runGlobalTimer(Runnable task, long delay, long period) {
+        return this.wrap(this.invoke(this.globalRunAtFixedRate, this.globalRegionScheduler, this.plugin, this.consumer(task), Math.max(1L, delay), Math.max(1L, period)));
+    }
+    
+    @Override
+    public ScheduledTask runAtLocation(Location location, Runnable task) {
+        return this.wrap(this.invoke(this.regionRun, this.regionScheduler, this.plugin, location, this.consumer(task)));
+    }
+    
+    @Override
+    public ScheduledTask runAtEntity(Entity entity, Runnable task) {
+        Object entityScheduler = this.invoke(this.entityGetScheduler, entity);
+        return this.wrap(this.invoke(this.entityRun, entityScheduler, this.plugin, this.consumer(task), null));
+    }
+    
+    @Override
+    public ScheduledTask runAsync(Runnable task) {
+        return this.wrap(this.invoke(this.asyncRunNow, this.asyncScheduler, this.plugin, this.consumer(task)));
+    }
+    
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delay, long period) {
+        return this.wrap(this.invoke(this.asyncRunAtFixedRate, this.asyncScheduler, this.plugin, this.consumer(task), delay * 50L, Math.max(1L, period) * 50L, TimeUnit.MILLISECONDS));
+    }
+    
+    @Override
+    public void cancelAllTasks() {
+        this.invoke(this.globalCancelTasks, this.globalRegionScheduler, this.plugin);
+        this.invoke(this.asyncCancelTasks, this.asyncScheduler, this.plugin);
+    }
+    
+    private Consumer<Object> consumer(Runnable task) {
+        return scheduledTask -> task.run();
+    }
+    
+    private ScheduledTask wrap(Object task) {
+        if (task == null) {
+            return ScheduledTask.NONE;
+        }
+        return () -> this.invoke(this.taskCancel, task);
+    }
+    
+    private Object invoke(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException exception) {
+            throw this.propagate(exception.getCause());
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+    
+    private RuntimeException propagate(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(throwable);
+    }
+}
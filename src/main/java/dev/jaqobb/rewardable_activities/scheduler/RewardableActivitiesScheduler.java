@@ -0,0 +1,47 @@
+package dev.jaqobb.rewardable_activities.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+public interface RewardableActivitiesScheduler {
+    
+    static RewardableActivitiesScheduler create(Plugin plugin) {
+        if (FoliaRewardableActivitiesScheduler.isSupported()) {
+            return new FoliaRewardableActivitiesScheduler(plugin);
+        }
+        return new SpigotRewardableActivitiesScheduler(plugin);
+    }
+    
+    String getName();
+    
+    boolean isOwnedByCurrentRegion(Entity entity);
+    
+    boolean isOwnedByCurrentRegion(Location location);
+    
+    boolean isGlobalThread();
+    
+    ScheduledTask runGlobal(Runnable task);
+    
+    ScheduledTask runGlobalLater(Runnable task, long delay);
+    
+    ScheduledTask runGlobalTimer(Runnable task, long delay, long period);
+    
+    ScheduledTask runAtLocation(Location location, Runnable task);
+    
+    ScheduledTask runAtEntity(Entity entity, Runnable task);
+    
+    ScheduledTask runAsync(Runnable task);
+    
+    ScheduledTask runAsyncTimer(Runnable task, long delay, long period);
+    
+    void cancelAllTasks();
+    
+    interface ScheduledTask {
+        
+        ScheduledTask NONE = () -> {
+        };
+        
+        void cancel();
+    }
+}
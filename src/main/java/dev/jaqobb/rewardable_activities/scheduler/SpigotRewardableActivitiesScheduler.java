@@ -0,0 +1,83 @@
+package dev.jaqobb.rewardable_activities.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+public class SpigotRewardableActivitiesScheduler implements RewardableActivitiesScheduler {
+    
+    private final Plugin plugin;
+    private final BukkitScheduler scheduler;
+    
+    public SpigotRewardableActivitiesScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getServer().getScheduler();
+    }
+    
+    @Override
+    public String getName() {
+        return "Spigot";
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentRegion(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentRegion(Location location) {
+        return Bukkit.isPrimaryThread();
+    }
+    
+    @Override
+    public boolean isGlobalThread() {
+        return Bukkit.isPrimaryThread();
+    }
+    
+    @Override
+    public ScheduledTask runGlobal(Runnable task) {
+        return this.wrap(this.scheduler.runTask(this.plugin, task));
+    }
+    
+    @Override
+    public ScheduledTask runGlobalLater(Runnable task, long delay) {
+        return this.wrap(this.scheduler.runTaskLater(this.plugin, task, delay));
+    }
+    
+    @Override
+    public ScheduledTask runGlobalTimer(Runnable task, long delay, long period) {
+        return this.wrap(this.scheduler.runTaskTimer(this.plugin, task, delay, period));
+    }
+    
+    @Override
+    public ScheduledTask runAtLocation(Location location, Runnable task) {
+        return this.runGlobal(task);
+    }
+    
+    @Override
+    public ScheduledTask runAtEntity(Entity entity, Runnable task) {
+        return this.runGlobal(task);
+    }
+    
+    @Override
+    public ScheduledTask runAsync(Runnable task) {
+        return this.wrap(this.scheduler.runTaskAsynchronously(this.plugin, task));
+    }
+    
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delay, long period) {
+        return this.wrap(this.scheduler.runTaskTimerAsynchronously(this.plugin, task, delay, period));
+    }
+    
+    @Override
+    public void cancelAllTasks() {
+        this.scheduler.cancelTasks(this.plugin);
+    }
+    
+    private ScheduledTask wrap(BukkitTask task) {
+        return task::cancel;
+    }
+}
@@ -0,0 +1,104 @@
+package dev.jaqobb.rewardable_activities.statistics;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class Leaderboard {
+    
+    private static final Snapshot EMPTY = new Snapshot(-1, new String[0], new long[0]);
+    
+    private final UUID[] uniqueIds;
+    private final String[] names;
+    private final long[] values;
+    private int size;
+    private int stamp;
+    private boolean changed;
+    private volatile Snapshot snapshot;
+    
+    public Leaderboard(int capacity, int stamp) {
+        this.uniqueIds = new UUID[capacity];
+        this.names = new String[capacity];
+        this.values = new long[capacity];
+        this.stamp = stamp;
+        this.snapshot = EMPTY;
+    }
+    
+    public synchronized void update(UUID uniqueId, String name, long value, int stamp) {
+        if (this.stamp != stamp) {
+            this.stamp = stamp;
+            this.size = 0;
+            this.changed = true;
+            Arrays.fill(this.uniqueIds, null);
+            Arrays.fill(this.names, null);
+        }
+        int index = this.indexOf(uniqueId);
+        if (index == -1) {
+            if (value <= 0L || (this.size == this.values.length && value <= this.values[this.size - 1])) {
+                return;
+            }
+            index = this.size < this.values.length ? this.size++ : this.size - 1;
+        } else if (this.values[index] == value && name.equals(this.names[index])) {
+            return;
+        }
+        this.uniqueIds[index] = uniqueId;
+        this.names[index] = name;
+        this.values[index] = value;
+        while (index > 0 && this.values[index - 1] < value) {
+            this.swap(index, index - 1);
+            index--;
+        }
+        while (index + 1 < this.size && this.values[index + 1] > value) {
+            this.swap(index, index + 1);
+            index++;
+        }
+        this.changed = true;
+    }
+    
+    public synchronized void publish() {
+        if (!this.changed) {
+            return;
+        }
+        this.changed = false;
+        this.snapshot = new Snapshot(this.stamp, Arrays.copyOf(this.names, this.size), Arrays.copyOf(this.values, this.size));
+    }
+    
+    public String getName(int rank, int stamp) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot.stamp != stamp || rank < 1 || rank > snapshot.names.length) {
+            return null;
+        }
+        return snapshot.names[rank - 1];
+    }
+    
+    public long getValue(int rank, int stamp) {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot.stamp != stamp || rank < 1 || rank > snapshot.values.length) {
+            return 0L;
+        }
+        return snapshot.values[rank - 1];
+    }
+    
+    private int indexOf(UUID uniqueId) {
+        for (int index = 0; index < this.size; index++) {
+            if (this.uniqueIds[index].equals(uniqueId)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+    
+    private void swap(int first, int second) {
+        UUID uniqueId = this.uniqueIds[first];
+        String name = this.names[first];
+        long value = this.values[first];
+        this.uniqueIds[first] = this.uniqueIds[second];
+        this.names[first] = this.names[second];
+        this.values[first] = this.values[second];
+        this.uniqueIds[second] = uniqueId;
+        this.names[second] = name;
+        this.values[second] = value;
+    }
+    
+    private record Snapshot(int stamp, String[] names, long[] values) {
+    }
+}
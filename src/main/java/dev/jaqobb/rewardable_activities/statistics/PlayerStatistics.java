@@ -0,0 +1,131 @@
+package dev.jaqobb.rewardable_activities.statistics;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class PlayerStatistics {
+    
+    public static final int TOTAL = -1;
+    
+    private static final int PERIODS = StatisticsPeriod.count();
+    private static final int DAY = StatisticsPeriod.DAY.ordinal();
+    private static final int WEEK = StatisticsPeriod.WEEK.ordinal();
+    
+    private final UUID uniqueId;
+    private volatile String name;
+    private int day;
+    private int week;
+    private long[] rewards;
+    private double[] economy;
+    private boolean dirty;
+    
+    public PlayerStatistics(UUID uniqueId, String name, int activityCapacity) {
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.rewards = new long[(activityCapacity + 1) * PERIODS];
+        this.economy = new double[(activityCapacity + 1) * PERIODS];
+    }
+    
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+    
+    public String getName() {
+        return this.name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public synchronized boolean isDirty() {
+        return this.dirty;
+    }
+    
+    public synchronized void record(int activityIndex, double economy, int day, int week) {
+        this.record(activityIndex, 1, economy, day, week);
+    }
+    
+    public synchronized void record(int activityIndex, int count, double economy, int day, int week) {
+        this.roll(day, week);
+        this.ensureCapacity(activityIndex);
+        int totalOffset = 0;
+        int activityOffset = (activityIndex + 1) * PERIODS;
+        for (int period = 0; period < PERIODS; period++) {
+            this.rewards[totalOffset + period] += count;
+            this.rewards[activityOffset + period] += count;
+            this.economy[totalOffset + period] += economy;
+            this.economy[activityOffset + period] += economy;
+        }
+        this.dirty = true;
+    }
+    
+    public synchronized void add(int activityIndex, StatisticsPeriod period, long rewards, double economy, int day, int week) {
+        this.roll(day, week);
+        this.ensureCapacity(activityIndex);
+        int index = (activityIndex + 1) * PERIODS + period.ordinal();
+        this.rewards[index] += rewards;
+        this.economy[index] += economy;
+        this.dirty = true;
+    }
+    
+    public synchronized long getRewards(int activityIndex, StatisticsPeriod period, int day, int week) {
+        this.roll(day, week);
+        int index = (activityIndex + 1) * PERIODS + period.ordinal();
+        return index < this.rewards.length ? this.rewards[index] : 0L;
+    }
+    
+    public synchronized double getEconomy(int activityIndex, StatisticsPeriod period, int day, int week) {
+        this.roll(day, week);
+        int index = (activityIndex + 1) * PERIODS + period.ordinal();
+        return index < this.economy.length ? this.economy[index] : 0.0D;
+    }
+    
+    public synchronized Snapshot snapshot() {
+        this.dirty = false;
+        return new Snapshot(this.uniqueId, this.name, this.day, this.week, this.rewards.clone(), this.economy.clone());
+    }
+    
+    private void roll(int day, int week) {
+        if (this.day != day) {
+            this.day = day;
+            this.clearPeriod(DAY);
+        }
+        if (this.week != week) {
+            this.week = week;
+            this.clearPeriod(WEEK);
+        }
+    }
+    
+    private void clearPeriod(int period) {
+        for (int index = period; index < this.rewards.length; index += PERIODS) {
+            this.rewards[index] = 0L;
+            this.economy[index] = 0.0D;
+        }
+    }
+    
+    private void ensureCapacity(int activityIndex) {
+        int required = (activityIndex + 2) * PERIODS;
+        if (required <= this.rewards.length) {
+            return;
+        }
+        int capacity = Math.max(required, this.rewards.length * 2);
+        this.rewards = Arrays.copyOf(this.rewards, capacity);
+        this.economy = Arrays.copyOf(this.economy, capacity);
+    }
+    
+    public record Snapshot(UUID uniqueId, String name, int day, int week, long[] rewards, double[] economy) {
+        
+        public int getActivityCount() {
+            return this.rewards.length / PERIODS - 1;
+        }
+        
+        public long getRewards(int activityIndex, StatisticsPeriod period) {
+            return this.rewards[(activityIndex + 1) * PERIODS + period.ordinal()];
+        }
+        
+        public double getEconomy(int activityIndex, StatisticsPeriod period) {
+            return this.economy[(activityIndex + 1) * PERIODS + period.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.jaqobb.rewardable_activities.statistics;
+
+public enum StatisticsPeriod {
+    
+    DAY("day"),
+    WEEK("week"),
+    ALL_TIME("all-time");
+    
+    private static final StatisticsPeriod[] VALUES = values();
+    
+    private final String name;
+    
+    StatisticsPeriod(String name) {
+        this.name = name;
+    }
+    
+    public static StatisticsPeriod getByName(String name) {
+        for (StatisticsPeriod period : VALUES) {
+            if (period.name.equalsIgnoreCase(name)) {
+                return period;
+            }
+        }
+        return null;
+    }
+    
+    public static int count() {
+        return VALUES.length;
+    }
+    
+    public static StatisticsPeriod getByOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+    
+    public String getName() {
+        return this.name;
+    }
+}
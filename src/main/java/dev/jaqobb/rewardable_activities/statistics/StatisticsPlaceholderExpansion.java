@@ -0,0 +1,177 @@
+package dev.jaqobb.rewardable_activities.statistics;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class StatisticsPlaceholderExpansion extends PlaceholderExpansion {
+    
+    private static final int MAXIMUM_CACHED_QUERIES = 1024;
+    private static final Query INVALID_QUERY = new Query(QueryType.INVALID, StatisticsPeriod.ALL_TIME, PlayerStatistics.TOTAL, 0);
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Map<String, Query> queries;
+    
+    public StatisticsPlaceholderExpansion(RewardableActivitiesPlugin plugin) {
+        this.plugin = plugin;
+        this.queries = new ConcurrentHashMap<>(16);
+    }
+    
+    @Override
+    public @NotNull String getIdentifier() {
+        return "rewardableactivities";
+    }
+    
+    @Override
+    public @NotNull String getAuthor() {
+        return "jaqobb";
+    }
+    
+    @Override
+    public @NotNull String getVersion() {
+        return this.plugin.getDescription().getVersion();
+    }
+    
+    @Override
+    public boolean persist() {
+        return true;
+    }
+    
+    @Override
+    public String onRequest(OfflinePlayer player, @NotNull String params) {
+        if (params.startsWith("memory_")) {
+            return this.getMemoryMetric(params.substring(7));
+        }
+        StatisticsStore store = this.plugin.getStatisticsStore();
+        if (store == null) {
+            return null;
+        }
+        Query query = this.queries.get(params);
+        if (query == null) {
+            query = this.compile(params);
+            if (query != INVALID_QUERY && this.queries.size() < MAXIMUM_CACHED_QUERIES) {
+                this.queries.put(params, query);
+            }
+        }
+        int stamp = store.getStamp(query.period());
+        switch (query.type()) {
+            case REWARDS, ECONOMY -> {
+                if (player == null) {
+                    return null;
+                }
+                PlayerStatistics statistics = store.getStatistics(player.getUniqueId());
+                if (statistics == null) {
+                    return query.type() == QueryType.REWARDS ? "0" : "0.00";
+                }
+                if (query.type() == QueryType.REWARDS) {
+                    return Long.toString(statistics.getRewards(query.activityIndex(), query.period(), store.getCurrentDay(), store.getCurrentWeek()));
+                }
+                return String.format("%.2f", statistics.getEconomy(query.activityIndex(), query.period(), store.getCurrentDay(), store.getCurrentWeek()));
+            }
+            case TOP_NAME -> {
+                Leaderboard leaderboard = store.getLeaderboard(query.activityIndex(), query.period());
+                String name = leaderboard != null ? leaderboard.getName(query.rank(), stamp) : null;
+                return name != null ? name : "";
+            }
+            case TOP_VALUE -> {
+                Leaderboard leaderboard = store.getLeaderboard(query.activityIndex(), query.period());
+                return Long.toString(leaderboard != null ? leaderboard.getValue(query.rank(), stamp) : 0L);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+    
+    private String getMemoryMetric(String params) {
+        int separator = params.lastIndexOf('_');
+        if (separator == -1) {
+            return null;
+        }
+        String name = params.substring(0, separator);
+        String metric = params.substring(separator + 1);
+        if (!metric.equals("entries") && !metric.equals("bytes")) {
+            return null;
+        }
+        long entries = 0L;
+        long bytes = 0L;
+        boolean found = false;
+        for (MemoryFootprint footprint : this.plugin.getMemoryFootprints()) {
+            if (name.equals("total") || name.equals(footprint.name())) {
+                entries += footprint.entries();
+                bytes += footprint.bytes();
+                found = true;
+            }
+        }
+        if (!found) {
+            return null;
+        }
+        return Long.toString(metric.equals("entries") ? entries : bytes);
+    }
+    
+    private Query compile(String params) {
+        String[] parts = params.split("_", 2);
+        if (parts.length != 2) {
+            return INVALID_QUERY;
+        }
+        String type = parts[0].toLowerCase();
+        if (type.equals("rewards") || type.equals("economy")) {
+            String[] arguments = parts[1].split("_", 2);
+            StatisticsPeriod period = StatisticsPeriod.getByName(arguments[0]);
+            if (period == null) {
+                return INVALID_QUERY;
+            }
+            int activityIndex = arguments.length == 2 ? this.plugin.getRepository().findActivityIndex(arguments[1]) : PlayerStatistics.TOTAL;
+            if (arguments.length == 2 && activityIndex == -1) {
+                return INVALID_QUERY;
+            }
+            return new Query(type.equals("rewards") ? QueryType.REWARDS : QueryType.ECONOMY, period, activityIndex, 0);
+        }
+        if (type.equals("top")) {
+            String[] arguments = parts[1].split("_", 4);
+            if (arguments.length < 3) {
+                return INVALID_QUERY;
+            }
+            StatisticsPeriod period = StatisticsPeriod.getByName(arguments[0]);
+            if (period == null) {
+                return INVALID_QUERY;
+            }
+            int rank;
+            try {
+                rank = Integer.parseInt(arguments[1]);
+            } catch (NumberFormatException exception) {
+                return INVALID_QUERY;
+            }
+            QueryType queryType;
+            if (arguments[2].equalsIgnoreCase("name")) {
+                queryType = QueryType.TOP_NAME;
+            } else if (arguments[2].equalsIgnoreCase("value")) {
+                queryType = QueryType.TOP_VALUE;
+            } else {
+                return INVALID_QUERY;
+            }
+            int activityIndex = arguments.length == 4 ? this.plugin.getRepository().findActivityIndex(arguments[3]) : PlayerStatistics.TOTAL;
+            if (arguments.length == 4 && activityIndex == -1) {
+                return INVALID_QUERY;
+            }
+            return new Query(queryType, period, activityIndex, rank);
+        }
+        return INVALID_QUERY;
+    }
+    
+    private enum QueryType {
+        
+        REWARDS,
+        ECONOMY,
+        TOP_NAME,
+        TOP_VALUE,
+        INVALID
+    }
+    
+    private record Query(QueryType type, StatisticsPeriod period, int activityIndex, int rank) {
+    }
+}
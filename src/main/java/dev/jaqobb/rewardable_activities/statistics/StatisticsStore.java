@@ -0,0 +1,351 @@
+package dev.jaqobb.rewardable_activities.statistics;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.io.IoQueue;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import org.bukkit.entity.Player;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+public class StatisticsStore {
+    
+    private static final int FILE_VERSION = 1;
+    private static final String FILE_SUFFIX = ".dat";
+    private static final String TOTAL_ID = "*";
+    private static final int PERIODS = StatisticsPeriod.count();
+    private static final int IO_QUEUE_CAPACITY = 1024;
+    private static final int IO_MAXIMUM_ATTEMPTS = 3;
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Path directory;
+    private final int leaderboardSize;
+    private final Map<UUID, PlayerStatistics> statistics;
+    private final Set<UUID> dirtyStatistics;
+    private final IoQueue ioQueue;
+    private volatile Leaderboard[] leaderboards;
+    private volatile int currentDay;
+    private volatile int currentWeek;
+    private RewardableActivitiesScheduler.ScheduledTask periodTask;
+    private RewardableActivitiesScheduler.ScheduledTask saveTask;
+    
+    public StatisticsStore(RewardableActivitiesPlugin plugin, Path directory, int leaderboardSize) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.leaderboardSize = leaderboardSize;
+        this.statistics = new ConcurrentHashMap<>(16);
+        this.dirtyStatistics = ConcurrentHashMap.newKeySet();
+        this.ioQueue = plugin.getIoExecutor().getQueue("statistics", IO_QUEUE_CAPACITY, IO_MAXIMUM_ATTEMPTS);
+        this.leaderboards = new Leaderboard[0];
+        this.updatePeriods();
+    }
+    
+    public void start(long saveIntervalTicks) {
+        this.periodTask = this.plugin.getScheduler().runAsyncTimer(this::updatePeriods, 20L, 20L);
+        this.saveTask = this.plugin.getScheduler().runAsyncTimer(this::saveDirty, saveIntervalTicks, saveIntervalTicks);
+        if (!this.ioQueue.offer(this::loadLeaderboards)) {
+            this.plugin.getLogger().log(Level.WARNING, "Could not queue loading leaderboards.");
+        }
+        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.load(player);
+        }
+    }
+    
+    public void stop() {
+        if (this.periodTask != null) {
+            this.periodTask.cancel();
+        }
+        if (this.saveTask != null) {
+            this.saveTask.cancel();
+        }
+        this.saveDirty();
+        try {
+            if (!this.ioQueue.awaitIdle(10000L)) {
+                this.plugin.getLogger().log(Level.WARNING, "Statistics could not be saved in time.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public int getCurrentDay() {
+        return this.currentDay;
+    }
+    
+    public int getCurrentWeek() {
+        return this.currentWeek;
+    }
+    
+    public int getStamp(StatisticsPeriod period) {
+        return switch (period) {
+            case DAY -> this.currentDay;
+            case WEEK -> this.currentWeek;
+            case ALL_TIME -> 0;
+        };
+    }
+    
+    public PlayerStatistics getStatistics(UUID uniqueId) {
+        return this.statistics.get(uniqueId);
+    }
+    
+    public int getLoadedStatisticsCount() {
+        return this.statistics.size();
+    }
+    
+    public long getEstimatedBytes() {
+        int slots = (this.plugin.getRepository().getActivityIndexCount() + 1) * PERIODS;
+        long statisticsBytes = MemoryFootprint.UUID_BYTES + MemoryFootprint.object(4L * MemoryFootprint.REFERENCE_BYTES + 12L) + MemoryFootprint.STRING_BYTES + MemoryFootprint.array(slots, 8L) * 2L;
+        long bytes = MemoryFootprint.map(this.statistics.size(), statisticsBytes);
+        Leaderboard[] leaderboards = this.leaderboards;
+        bytes += MemoryFootprint.array(leaderboards.length, MemoryFootprint.REFERENCE_BYTES);
+        long leaderboardBytes = MemoryFootprint.object(4L * MemoryFootprint.REFERENCE_BYTES + 8L) + MemoryFootprint.array(this.leaderboardSize, MemoryFootprint.REFERENCE_BYTES) * 2L + MemoryFootprint.array(this.leaderboardSize, 8L);
+        for (Leaderboard leaderboard : leaderboards) {
+            if (leaderboard != null) {
+                bytes += leaderboardBytes;
+            }
+        }
+        return bytes;
+    }
+    
+    public void load(Player player) {
+        UUID uniqueId = player.getUniqueId();
+        PlayerStatistics statistics = new PlayerStatistics(uniqueId, player.getName(), this.plugin.getRepository().getActivityIndexCount());
+        PlayerStatistics previousStatistics = this.statistics.putIfAbsent(uniqueId, statistics);
+        if (previousStatistics != null) {
+            previousStatistics.setName(player.getName());
+            return;
+        }
+        boolean queued = this.ioQueue.offer(() -> {
+            try {
+                this.read(this.getFile(uniqueId), statistics);
+            } catch (IOException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Could not load statistics of " + player.getName() + ".", exception);
+            }
+        });
+        if (!queued) {
+            this.statistics.remove(uniqueId, statistics);
+            this.plugin.getLogger().log(Level.WARNING, "Could not queue loading statistics of " + player.getName() + ".");
+        }
+    }
+    
+    public void unload(Player player) {
+        PlayerStatistics statistics = this.statistics.remove(player.getUniqueId());
+        this.dirtyStatistics.remove(player.getUniqueId());
+        if (statistics == null || !statistics.isDirty()) {
+            return;
+        }
+        PlayerStatistics.Snapshot snapshot = statistics.snapshot();
+        this.updateLeaderboards(snapshot);
+        this.publishLeaderboards();
+        if (!this.ioQueue.offer(() -> this.write(snapshot))) {
+            this.plugin.getLogger().log(Level.WARNING, "Could not queue saving statistics of " + player.getName() + ".");
+        }
+    }
+    
+    public void record(Player player, int activityIndex, double economy) {
+        this.record(player, activityIndex, 1, economy);
+    }
+    
+    public void record(Player player, int activityIndex, int count, double economy) {
+        UUID uniqueId = player.getUniqueId();
+        PlayerStatistics statistics = this.statistics.get(uniqueId);
+        if (statistics == null) {
+            return;
+        }
+        statistics.record(activityIndex, count, economy, this.currentDay, this.currentWeek);
+        this.dirtyStatistics.add(uniqueId);
+    }
+    
+    public Leaderboard getLeaderboard(int activityIndex, StatisticsPeriod period) {
+        Leaderboard[] leaderboards = this.leaderboards;
+        int index = (activityIndex + 1) * PERIODS + period.ordinal();
+        return index < leaderboards.length ? leaderboards[index] : null;
+    }
+    
+    private Leaderboard[] getLeaderboards(int activityIndex) {
+        Leaderboard[] leaderboards = this.leaderboards;
+        int required = (activityIndex + 2) * PERIODS;
+        if (required <= leaderboards.length) {
+            return leaderboards;
+        }
+        synchronized (this) {
+            leaderboards = this.leaderboards;
+            if (required <= leaderboards.length) {
+                return leaderboards;
+            }
+            int size = leaderboards.length;
+            leaderboards = Arrays.copyOf(leaderboards, Math.max(required, (this.plugin.getRepository().getActivityIndexCount() + 1) * PERIODS));
+            for (int index = size; index < leaderboards.length; index++) {
+                leaderboards[index] = new Leaderboard(this.leaderboardSize, this.getStamp(StatisticsPeriod.getByOrdinal(index % PERIODS)));
+            }
+            this.leaderboards = leaderboards;
+            return leaderboards;
+        }
+    }
+    
+    private void updatePeriods() {
+        int day = (int) LocalDate.now().toEpochDay();
+        this.currentDay = day;
+        this.currentWeek = Math.floorDiv(day + 3, 7);
+    }
+    
+    private void saveDirty() {
+        if (this.dirtyStatistics.isEmpty()) {
+            return;
+        }
+        Iterator<UUID> iterator = this.dirtyStatistics.iterator();
+        while (iterator.hasNext()) {
+            UUID uniqueId = iterator.next();
+            iterator.remove();
+            PlayerStatistics statistics = this.statistics.get(uniqueId);
+            if (statistics == null) {
+                continue;
+            }
+            PlayerStatistics.Snapshot snapshot = statistics.snapshot();
+            this.updateLeaderboards(snapshot);
+            if (!this.ioQueue.submit(() -> this.write(snapshot))) {
+                this.dirtyStatistics.add(uniqueId);
+                break;
+            }
+        }
+        this.publishLeaderboards();
+    }
+    
+    private void updateLeaderboards(PlayerStatistics.Snapshot snapshot) {
+        int activityCount = Math.min(snapshot.getActivityCount(), this.plugin.getRepository().getActivityIndexCount());
+        Leaderboard[] leaderboards = this.getLeaderboards(activityCount - 1);
+        int day = this.currentDay;
+        int week = this.currentWeek;
+        for (int activityIndex = PlayerStatistics.TOTAL; activityIndex < activityCount; activityIndex++) {
+            if (snapshot.getRewards(activityIndex, StatisticsPeriod.ALL_TIME) <= 0L) {
+                continue;
+            }
+            for (int period = 0; period < PERIODS; period++) {
+                StatisticsPeriod statisticsPeriod = StatisticsPeriod.getByOrdinal(period);
+                boolean expired = (statisticsPeriod == StatisticsPeriod.DAY && snapshot.day() != day) || (statisticsPeriod == StatisticsPeriod.WEEK && snapshot.week() != week);
+                long rewards = expired ? 0L : snapshot.getRewards(activityIndex, statisticsPeriod);
+                leaderboards[(activityIndex + 1) * PERIODS + period].update(snapshot.uniqueId(), snapshot.name(), rewards, this.getStamp(statisticsPeriod));
+            }
+        }
+    }
+    
+    private void publishLeaderboards() {
+        for (Leaderboard leaderboard : this.leaderboards) {
+            leaderboard.publish();
+        }
+    }
+    
+    private void loadLeaderboards() throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(this.directory)) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(FILE_SUFFIX)) {
+                    continue;
+                }
+                UUID uniqueId;
+                try {
+                    uniqueId = UUID.fromString(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()));
+                } catch (IllegalArgumentException exception) {
+                    continue;
+                }
+                PlayerStatistics statistics = new PlayerStatistics(uniqueId, "", 0);
+                this.read(file, statistics);
+                this.updateLeaderboards(statistics.snapshot());
+            }
+        }
+        this.publishLeaderboards();
+    }
+    
+    private Path getFile(UUID uniqueId) {
+        return this.directory.resolve(uniqueId + FILE_SUFFIX);
+    }
+    
+    private void read(Path file, PlayerStatistics statistics) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = input.readInt();
+            if (version != FILE_VERSION) {
+                throw new IOException("Unsupported statistics file version: " + version);
+            }
+            String name = input.readUTF();
+            if (statistics.getName().isEmpty()) {
+                statistics.setName(name);
+            }
+            int day = input.readInt();
+            int week = input.readInt();
+            int currentDay = this.currentDay;
+            int currentWeek = this.currentWeek;
+            int entries = input.readInt();
+            for (int entry = 0; entry < entries; entry++) {
+                String activityId = input.readUTF();
+                int activityIndex = activityId.equals(TOTAL_ID) ? PlayerStatistics.TOTAL : repository.getActivityIndex(activityId);
+                for (int period = 0; period < PERIODS; period++) {
+                    StatisticsPeriod statisticsPeriod = StatisticsPeriod.getByOrdinal(period);
+                    long rewards = input.readLong();
+                    double economy = input.readDouble();
+                    if ((statisticsPeriod == StatisticsPeriod.DAY && day != currentDay) || (statisticsPeriod == StatisticsPeriod.WEEK && week != currentWeek)) {
+                        continue;
+                    }
+                    statistics.add(activityIndex, statisticsPeriod, rewards, economy, currentDay, currentWeek);
+                }
+            }
+        }
+    }
+    
+    private void write(PlayerStatistics.Snapshot snapshot) throws IOException {
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        Path file = this.getFile(snapshot.uniqueId());
+        Path temporaryFile = this.directory.resolve(snapshot.uniqueId() + FILE_SUFFIX + ".tmp");
+        Files.createDirectories(this.directory);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(FILE_VERSION);
+            output.writeUTF(snapshot.name());
+            output.writeInt(snapshot.day());
+            output.writeInt(snapshot.week());
+            int activityCount = snapshot.getActivityCount();
+            int entries = 0;
+            for (int activityIndex = PlayerStatistics.TOTAL; activityIndex < activityCount; activityIndex++) {
+                if (snapshot.getRewards(activityIndex, StatisticsPeriod.ALL_TIME) > 0L) {
+                    entries++;
+                }
+            }
+            output.writeInt(entries);
+            for (int activityIndex = PlayerStatistics.TOTAL; activityIndex < activityCount; activityIndex++) {
+                if (snapshot.getRewards(activityIndex, StatisticsPeriod.ALL_TIME) <= 0L) {
+                    continue;
+                }
+                output.writeUTF(activityIndex == PlayerStatistics.TOTAL ? TOTAL_ID : repository.getActivityId(activityIndex));
+                for (int period = 0; period < PERIODS; period++) {
+                    StatisticsPeriod statisticsPeriod = StatisticsPeriod.getByOrdinal(period);
+                    output.writeLong(snapshot.getRewards(activityIndex, statisticsPeriod));
+                    output.writeDouble(snapshot.getEconomy(activityIndex, statisticsPeriod));
+                }
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
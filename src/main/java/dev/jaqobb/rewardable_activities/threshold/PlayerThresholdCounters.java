@@ -0,0 +1,49 @@
+package dev.jaqobb.rewardable_activities.threshold;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class PlayerThresholdCounters {
+    
+    private final UUID uniqueId;
+    private int[] counts;
+    private boolean dirty;
+    
+    public PlayerThresholdCounters(UUID uniqueId, int activityCount) {
+        this.uniqueId = uniqueId;
+        this.counts = new int[Math.max(1, activityCount)];
+    }
+    
+    public UUID getUniqueId() {
+        return this.uniqueId;
+    }
+    
+    public synchronized boolean isDirty() {
+        return this.dirty;
+    }
+    
+    public synchronized int getCount(int activityIndex) {
+        return activityIndex < this.counts.length ? this.counts[activityIndex] : 0;
+    }
+    
+    public synchronized int add(int activityIndex, int count, int threshold) {
+        this.ensureCapacity(activityIndex);
+        long total = (long) this.counts[activityIndex] + count;
+        int reached = (int) Math.min(Integer.MAX_VALUE, total / threshold);
+        this.counts[activityIndex] = (int) (total % threshold);
+        this.dirty = true;
+        return reached;
+    }
+    
+    public synchronized int[] snapshot() {
+        this.dirty = false;
+        return this.counts.clone();
+    }
+    
+    private void ensureCapacity(int activityIndex) {
+        if (activityIndex < this.counts.length) {
+            return;
+        }
+        this.counts = Arrays.copyOf(this.counts, Math.max(activityIndex + 1, this.counts.length * 2));
+    }
+}
@@ -0,0 +1,206 @@
+package dev.jaqobb.rewardable_activities.threshold;
+
+import dev.jaqobb.rewardable_activities.RewardableActivitiesPlugin;
+import dev.jaqobb.rewardable_activities.data.RewardableActivityRepository;
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import dev.jaqobb.rewardable_activities.io.IoQueue;
+import dev.jaqobb.rewardable_activities.scheduler.RewardableActivitiesScheduler;
+import org.bukkit.entity.Player;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+public class ThresholdCounterStore {
+    
+    private static final int FILE_VERSION = 1;
+    private static final String FILE_SUFFIX = ".dat";
+    private static final int IO_QUEUE_CAPACITY = 1024;
+    private static final int IO_MAXIMUM_ATTEMPTS = 3;
+    
+    private final RewardableActivitiesPlugin plugin;
+    private final Path directory;
+    private final Map<UUID, PlayerThresholdCounters> counters;
+    private final Set<UUID> dirtyCounters;
+    private final IoQueue ioQueue;
+    private RewardableActivitiesScheduler.ScheduledTask saveTask;
+    private long saveIntervalTicks;
+    
+    public ThresholdCounterStore(RewardableActivitiesPlugin plugin, Path directory) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.counters = new ConcurrentHashMap<>(16);
+        this.dirtyCounters = ConcurrentHashMap.newKeySet();
+        this.ioQueue = plugin.getIoExecutor().getQueue("thresholds", IO_QUEUE_CAPACITY, IO_MAXIMUM_ATTEMPTS);
+    }
+    
+    public void start(long saveIntervalTicks) {
+        this.setSaveInterval(saveIntervalTicks);
+        for (Player player : this.plugin.getServer().getOnlinePlayers()) {
+            this.load(player);
+        }
+    }
+    
+    public void stop() {
+        if (this.saveTask != null) {
+            this.saveTask.cancel();
+        }
+        this.saveDirty();
+        try {
+            if (!this.ioQueue.awaitIdle(10000L)) {
+                this.plugin.getLogger().log(Level.WARNING, "Threshold counters could not be saved in time.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public void setSaveInterval(long saveIntervalTicks) {
+        if (this.saveTask != null && this.saveIntervalTicks == saveIntervalTicks) {
+            return;
+        }
+        if (this.saveTask != null) {
+            this.saveTask.cancel();
+        }
+        this.saveIntervalTicks = saveIntervalTicks;
+        this.saveTask = this.plugin.getScheduler().runAsyncTimer(this::saveDirty, saveIntervalTicks, saveIntervalTicks);
+    }
+    
+    public int getLoadedCountersCount() {
+        return this.counters.size();
+    }
+    
+    public long getEstimatedBytes() {
+        long countersBytes = MemoryFootprint.UUID_BYTES + MemoryFootprint.object(2L * MemoryFootprint.REFERENCE_BYTES + 1L) + MemoryFootprint.array(this.plugin.getRepository().getActivityIndexCount(), 4L);
+        return MemoryFootprint.map(this.counters.size(), countersBytes);
+    }
+    
+    public int getCount(UUID uniqueId, int activityIndex) {
+        PlayerThresholdCounters counters = this.counters.get(uniqueId);
+        return counters == null ? 0 : counters.getCount(activityIndex);
+    }
+    
+    public int add(Player player, int activityIndex, int count, int threshold) {
+        UUID uniqueId = player.getUniqueId();
+        PlayerThresholdCounters counters = this.counters.get(uniqueId);
+        if (counters == null) {
+            return 0;
+        }
+        int reached = counters.add(activityIndex, count, threshold);
+        this.dirtyCounters.add(uniqueId);
+        return reached;
+    }
+    
+    public void load(Player player) {
+        UUID uniqueId = player.getUniqueId();
+        PlayerThresholdCounters counters = new PlayerThresholdCounters(uniqueId, this.plugin.getRepository().getActivityIndexCount());
+        if (this.counters.putIfAbsent(uniqueId, counters) != null) {
+            return;
+        }
+        boolean queued = this.ioQueue.offer(() -> {
+            try {
+                this.read(this.getFile(uniqueId), counters);
+            } catch (IOException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Could not load threshold counters of " + player.getName() + ".", exception);
+            }
+        });
+        if (!queued) {
+            this.counters.remove(uniqueId, counters);
+            this.plugin.getLogger().log(Level.WARNING, "Could not queue loading threshold counters of " + player.getName() + ".");
+        }
+    }
+    
+    public void unload(Player player) {
+        PlayerThresholdCounters counters = this.counters.remove(player.getUniqueId());
+        this.dirtyCounters.remove(player.getUniqueId());
+        if (counters == null || !counters.isDirty()) {
+            return;
+        }
+        int[] snapshot = counters.snapshot();
+        if (!this.ioQueue.offer(() -> this.write(counters.getUniqueId(), snapshot))) {
+            this.plugin.getLogger().log(Level.WARNING, "Could not queue saving threshold counters of " + player.getName() + ".");
+        }
+    }
+    
+    private void saveDirty() {
+        if (this.dirtyCounters.isEmpty()) {
+            return;
+        }
+        Iterator<UUID> iterator = this.dirtyCounters.iterator();
+        while (iterator.hasNext()) {
+            UUID uniqueId = iterator.next();
+            iterator.remove();
+            PlayerThresholdCounters counters = this.counters.get(uniqueId);
+            if (counters == null) {
+                continue;
+            }
+            int[] snapshot = counters.snapshot();
+            if (!this.ioQueue.submit(() -> this.write(uniqueId, snapshot))) {
+                this.dirtyCounters.add(uniqueId);
+                return;
+            }
+        }
+    }
+    
+    private Path getFile(UUID uniqueId) {
+        return this.directory.resolve(uniqueId + FILE_SUFFIX);
+    }
+    
+    private void read(Path file, PlayerThresholdCounters counters) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int version = input.readInt();
+            if (version != FILE_VERSION) {
+                throw new IOException("Unsupported threshold counters file version: " + version);
+            }
+            int entries = input.readInt();
+            for (int entry = 0; entry < entries; entry++) {
+                String activityId = input.readUTF();
+                int count = input.readInt();
+                counters.add(repository.getActivityIndex(activityId), count, Integer.MAX_VALUE);
+            }
+        }
+    }
+    
+    private void write(UUID uniqueId, int[] counts) throws IOException {
+        RewardableActivityRepository repository = this.plugin.getRepository();
+        Path file = this.getFile(uniqueId);
+        Path temporaryFile = this.directory.resolve(uniqueId + FILE_SUFFIX + ".tmp");
+        Files.createDirectories(this.directory);
+        int entries = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                entries++;
+            }
+        }
+        if (entries == 0) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(FILE_VERSION);
+            output.writeInt(entries);
+            for (int activityIndex = 0; activityIndex < counts.length; activityIndex++) {
+                if (counts[activityIndex] <= 0) {
+                    continue;
+                }
+                output.writeUTF(repository.getActivityId(activityIndex));
+                output.writeInt(counts[activityIndex]);
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
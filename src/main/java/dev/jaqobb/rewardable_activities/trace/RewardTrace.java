@@ -0,0 +1,34 @@
+package dev.jaqobb.rewardable_activities.trace;
+
+import java.util.UUID;
+
+public final class RewardTrace {
+    
+    private final RewardTracer tracer;
+    private final long id;
+    private final UUID playerId;
+    private final String activityId;
+    
+    RewardTrace(RewardTracer tracer, long id, UUID playerId, String activityId) {
+        this.tracer = tracer;
+        this.id = id;
+        this.playerId = playerId;
+        this.activityId = activityId;
+    }
+    
+    public long getId() {
+        return this.id;
+    }
+    
+    public UUID getPlayerId() {
+        return this.playerId;
+    }
+    
+    public String getActivityId() {
+        return this.activityId;
+    }
+    
+    public void step(String step, String detail) {
+        this.tracer.record(this.id, this.playerId, this.activityId, step, detail);
+    }
+}
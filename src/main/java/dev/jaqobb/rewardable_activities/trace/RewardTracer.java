@@ -0,0 +1,186 @@
+package dev.jaqobb.rewardable_activities.trace;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import org.bukkit.entity.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+public class RewardTracer {
+    
+    private final IntFunction<String> activityIds;
+    private final Set<UUID> players;
+    private final Set<String> activities;
+    private final List<TraceBuffer> buffers;
+    private final ThreadLocal<RewardTrace> currentTrace;
+    private final AtomicLong sequence;
+    private volatile ThreadLocal<TraceBuffer> threadBuffers;
+    private volatile boolean[] activityIndexes;
+    private volatile int sampleRate;
+    private volatile int bufferSize;
+    private volatile boolean enabled;
+    
+    public RewardTracer(IntFunction<String> activityIds) {
+        this.activityIds = activityIds;
+        this.players = ConcurrentHashMap.newKeySet();
+        this.activities = ConcurrentHashMap.newKeySet();
+        this.buffers = new CopyOnWriteArrayList<>();
+        this.currentTrace = new ThreadLocal<>();
+        this.sequence = new AtomicLong();
+        this.threadBuffers = new ThreadLocal<>();
+        this.activityIndexes = new boolean[0];
+        this.bufferSize = 256;
+    }
+    
+    public void configure(int sampleRate, int bufferSize) {
+        this.sampleRate = Math.max(0, sampleRate);
+        if (bufferSize != this.bufferSize) {
+            this.bufferSize = bufferSize;
+            this.threadBuffers = new ThreadLocal<>();
+            this.buffers.clear();
+        }
+        this.updateEnabled();
+    }
+    
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+    
+    public int getSampleRate() {
+        return this.sampleRate;
+    }
+    
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(0, sampleRate);
+        this.updateEnabled();
+    }
+    
+    public boolean isPlayerTraced(UUID uniqueId) {
+        return this.players.contains(uniqueId);
+    }
+    
+    public void setPlayerTraced(UUID uniqueId, boolean traced) {
+        if (traced) {
+            this.players.add(uniqueId);
+        } else {
+            this.players.remove(uniqueId);
+        }
+        this.updateEnabled();
+    }
+    
+    public Set<String> getTracedActivities() {
+        return this.activities;
+    }
+    
+    public void setActivityTraced(String activityId, int activityIndex, boolean traced) {
+        synchronized (this.activities) {
+            if (traced) {
+                this.activities.add(activityId);
+            } else {
+                this.activities.remove(activityId);
+            }
+            boolean[] activityIndexes = Arrays.copyOf(this.activityIndexes, Math.max(this.activityIndexes.length, activityIndex + 1));
+            activityIndexes[activityIndex] = traced;
+            this.activityIndexes = activityIndexes;
+        }
+        this.updateEnabled();
+    }
+    
+    public RewardTrace begin(Player player, int activityIndex) {
+        if (!this.enabled || !this.shouldTrace(player, activityIndex)) {
+            return null;
+        }
+        RewardTrace trace = new RewardTrace(this, this.sequence.incrementAndGet(), player.getUniqueId(), this.activityIds.apply(activityIndex));
+        this.currentTrace.set(trace);
+        return trace;
+    }
+    
+    public RewardTrace current() {
+        return this.enabled ? this.currentTrace.get() : null;
+    }
+    
+    public void resume(RewardTrace trace) {
+        this.currentTrace.set(trace);
+    }
+    
+    public void end(RewardTrace trace) {
+        if (trace != null && this.currentTrace.get() == trace) {
+            this.currentTrace.remove();
+        }
+    }
+    
+    public void record(Player player, String activityId, String step, String detail) {
+        if (this.enabled && this.players.contains(player.getUniqueId())) {
+            this.record(0L, player.getUniqueId(), activityId, step, detail);
+        }
+    }
+    
+    void record(long traceId, UUID playerId, String activityId, String step, String detail) {
+        ThreadLocal<TraceBuffer> threadBuffers = this.threadBuffers;
+        TraceBuffer buffer = threadBuffers.get();
+        if (buffer == null) {
+            buffer = new TraceBuffer(Thread.currentThread().getName(), this.bufferSize);
+            threadBuffers.set(buffer);
+            this.buffers.add(buffer);
+        }
+        buffer.add(this.sequence.incrementAndGet(), traceId, playerId, activityId, step, detail);
+    }
+    
+    public List<TraceRecord> getRecords(UUID playerId, int limit) {
+        List<TraceRecord> records = new ArrayList<>();
+        for (TraceBuffer buffer : this.buffers) {
+            buffer.collect(playerId, records);
+        }
+        records.sort(Comparator.comparingLong(TraceRecord::sequence));
+        return records.size() > limit ? records.subList(records.size() - limit, records.size()) : records;
+    }
+    
+    public int getBufferCount() {
+        return this.buffers.size();
+    }
+    
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+    
+    public int getRecordCount() {
+        int records = 0;
+        for (TraceBuffer buffer : this.buffers) {
+            records += buffer.size();
+        }
+        return records;
+    }
+    
+    public long getEstimatedBytes() {
+        long bytes = MemoryFootprint.map(this.players.size(), MemoryFootprint.UUID_BYTES) + MemoryFootprint.map(this.activities.size(), MemoryFootprint.STRING_BYTES);
+        for (TraceBuffer buffer : this.buffers) {
+            int capacity = buffer.capacity();
+            bytes += MemoryFootprint.object(8L * MemoryFootprint.REFERENCE_BYTES + 8L) + 3L * MemoryFootprint.array(capacity, 8L) + 4L * MemoryFootprint.array(capacity, MemoryFootprint.REFERENCE_BYTES) + (long) buffer.size() * MemoryFootprint.STRING_BYTES;
+        }
+        return bytes;
+    }
+    
+    private boolean shouldTrace(Player player, int activityIndex) {
+        if (this.players.contains(player.getUniqueId())) {
+            return true;
+        }
+        boolean[] activityIndexes = this.activityIndexes;
+        if (activityIndex >= 0 && activityIndex < activityIndexes.length && activityIndexes[activityIndex]) {
+            return true;
+        }
+        int sampleRate = this.sampleRate;
+        return sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+    
+    private void updateEnabled() {
+        this.enabled = !this.players.isEmpty() || !this.activities.isEmpty() || this.sampleRate > 0;
+    }
+}
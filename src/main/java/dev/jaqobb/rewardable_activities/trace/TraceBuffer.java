@@ -0,0 +1,60 @@
+package dev.jaqobb.rewardable_activities.trace;
+
+import java.util.List;
+import java.util.UUID;
+
+final class TraceBuffer {
+    
+    private final String thread;
+    private final long[] sequences;
+    private final long[] times;
+    private final long[] traceIds;
+    private final UUID[] playerIds;
+    private final String[] activityIds;
+    private final String[] steps;
+    private final String[] details;
+    private int next;
+    private int size;
+    
+    TraceBuffer(String thread, int capacity) {
+        this.thread = thread;
+        this.sequences = new long[capacity];
+        this.times = new long[capacity];
+        this.traceIds = new long[capacity];
+        this.playerIds = new UUID[capacity];
+        this.activityIds = new String[capacity];
+        this.steps = new String[capacity];
+        this.details = new String[capacity];
+    }
+    
+    int capacity() {
+        return this.sequences.length;
+    }
+    
+    synchronized int size() {
+        return this.size;
+    }
+    
+    synchronized void add(long sequence, long traceId, UUID playerId, String activityId, String step, String detail) {
+        int index = this.next;
+        this.sequences[index] = sequence;
+        this.times[index] = System.currentTimeMillis();
+        this.traceIds[index] = traceId;
+        this.playerIds[index] = playerId;
+        this.activityIds[index] = activityId;
+        this.steps[index] = step;
+        this.details[index] = detail;
+        this.next = index + 1 == this.sequences.length ? 0 : index + 1;
+        if (this.size < this.sequences.length) {
+            this.size++;
+        }
+    }
+    
+    synchronized void collect(UUID playerId, List<TraceRecord> records) {
+        for (int index = 0; index < this.size; index++) {
+            if (playerId.equals(this.playerIds[index])) {
+                records.add(new TraceRecord(this.sequences[index], this.times[index], this.traceIds[index], this.playerIds[index], this.activityIds[index], this.steps[index], this.details[index], this.thread));
+            }
+        }
+    }
+}
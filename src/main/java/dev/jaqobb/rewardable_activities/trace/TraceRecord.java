@@ -0,0 +1,6 @@
+package dev.jaqobb.rewardable_activities.trace;
+
+import java.util.UUID;
+
+public record TraceRecord(long sequence, long time, long traceId, UUID playerId, String activityId, String step, String detail, String thread) {
+}
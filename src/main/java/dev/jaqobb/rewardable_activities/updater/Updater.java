@@ -17,8 +17,8 @@ public class Updater implements Runnable {
     private final RewardableActivitiesPlugin plugin;
     private final int pluginId;
     private final String currentVersion;
-    private String latestVersion;
-    private Integer versionDifference;
+    private volatile String latestVersion;
+    private volatile Integer versionDifference;
     
     public Updater(RewardableActivitiesPlugin plugin, int pluginId) {
         this.plugin = plugin;
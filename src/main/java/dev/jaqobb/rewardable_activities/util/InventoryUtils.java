@@ -0,0 +1,59 @@
+package dev.jaqobb.rewardable_activities.util;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+public final class InventoryUtils {
+    
+    private InventoryUtils() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static boolean isEmpty(ItemStack item) {
+        return item == null || item.getType().isAir() || item.getAmount() < 1;
+    }
+    
+    public static int getResultTakes(InventoryClickEvent event, ItemStack result, int maximumTakes) {
+        if (maximumTakes < 1 || isEmpty(result)) {
+            return 0;
+        }
+        switch (event.getAction()) {
+            case PICKUP_ALL, PICKUP_SOME, PICKUP_HALF, PICKUP_ONE -> {
+                ItemStack cursor = event.getCursor();
+                if (isEmpty(cursor)) {
+                    return 1;
+                }
+                return cursor.isSimilar(result) && cursor.getAmount() + result.getAmount() <= result.getMaxStackSize() ? 1 : 0;
+            }
+            case MOVE_TO_OTHER_INVENTORY -> {
+                return Math.min(maximumTakes, getSpace(event.getWhoClicked().getInventory(), result) / result.getAmount());
+            }
+            case HOTBAR_SWAP, HOTBAR_MOVE_AND_READD -> {
+                PlayerInventory inventory = event.getWhoClicked().getInventory();
+                int hotbarButton = event.getHotbarButton();
+                return isEmpty(hotbarButton == -1 ? inventory.getItemInOffHand() : inventory.getItem(hotbarButton)) ? 1 : 0;
+            }
+            case DROP_ALL_SLOT, DROP_ONE_SLOT -> {
+                return 1;
+            }
+            default -> {
+                return 0;
+            }
+        }
+    }
+    
+    public static int getSpace(Inventory inventory, ItemStack item) {
+        int maximumStackSize = item.getMaxStackSize();
+        int space = 0;
+        for (ItemStack content : inventory.getStorageContents()) {
+            if (isEmpty(content)) {
+                space += maximumStackSize;
+            } else if (content.isSimilar(item)) {
+                space += Math.max(0, maximumStackSize - content.getAmount());
+            }
+        }
+        return space;
+    }
+}
@@ -0,0 +1,148 @@
+package dev.jaqobb.rewardable_activities.util;
+
+import dev.jaqobb.rewardable_activities.diagnostics.MemoryFootprint;
+import java.util.Arrays;
+
+public final class LongSlotMap {
+    
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    private final int minimumCapacity;
+    private int[] table;
+    private long[] keys;
+    private int size;
+    
+    public LongSlotMap() {
+        this(MINIMUM_CAPACITY >>> 1);
+    }
+    
+    public LongSlotMap(int expectedSize) {
+        this.minimumCapacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY >>> 1, expectedSize) * 2 - 1) << 1;
+        this.table = new int[this.minimumCapacity];
+        this.keys = new long[this.minimumCapacity >>> 1];
+    }
+    
+    public int size() {
+        return this.size;
+    }
+    
+    public int capacity() {
+        return this.keys.length;
+    }
+    
+    public long getKey(int slot) {
+        return this.keys[slot];
+    }
+    
+    public long getEstimatedBytes() {
+        return MemoryFootprint.object(2L * MemoryFootprint.REFERENCE_BYTES + 8L) + MemoryFootprint.array(this.table.length, 4L) + MemoryFootprint.array(this.keys.length, 8L);
+    }
+    
+    public int get(long key) {
+        int mask = this.table.length - 1;
+        int index = hash(key, mask);
+        int slot;
+        while ((slot = this.table[index]) != 0) {
+            if (this.keys[slot - 1] == key) {
+                return slot - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+    
+    public int put(long key) {
+        int mask = this.table.length - 1;
+        int index = hash(key, mask);
+        int slot;
+        while ((slot = this.table[index]) != 0) {
+            if (this.keys[slot - 1] == key) {
+                return slot - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        if (this.size == this.keys.length) {
+            this.resize(this.table.length << 1);
+            mask = this.table.length - 1;
+            index = hash(key, mask);
+            while (this.table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+        }
+        slot = this.size++;
+        this.keys[slot] = key;
+        this.table[index] = slot + 1;
+        return slot;
+    }
+    
+    public int remove(long key) {
+        int mask = this.table.length - 1;
+        int index = hash(key, mask);
+        int slot;
+        while ((slot = this.table[index]) != 0 && this.keys[slot - 1] != key) {
+            index = (index + 1) & mask;
+        }
+        if (slot == 0) {
+            return -1;
+        }
+        this.delete(index, mask);
+        slot--;
+        int last = --this.size;
+        if (slot != last) {
+            long lastKey = this.keys[last];
+            index = hash(lastKey, mask);
+            while (this.table[index] != last + 1) {
+                index = (index + 1) & mask;
+            }
+            this.table[index] = slot + 1;
+            this.keys[slot] = lastKey;
+        }
+        if (this.table.length > this.minimumCapacity && this.size * 8 < this.table.length) {
+            this.resize(this.table.length >>> 1);
+        }
+        return slot;
+    }
+    
+    public void clear() {
+        this.table = new int[this.minimumCapacity];
+        this.keys = new long[this.minimumCapacity >>> 1];
+        this.size = 0;
+    }
+    
+    private void delete(int hole, int mask) {
+        this.table[hole] = 0;
+        int next = hole;
+        while (true) {
+            next = (next + 1) & mask;
+            int slot = this.table[next];
+            if (slot == 0) {
+                return;
+            }
+            int home = hash(this.keys[slot - 1], mask);
+            boolean movable = next > hole ? home <= hole || home > next : home <= hole && home > next;
+            if (movable) {
+                this.table[hole] = slot;
+                this.table[next] = 0;
+                hole = next;
+            }
+        }
+    }
+    
+    private void resize(int capacity) {
+        this.table = new int[capacity];
+        this.keys = Arrays.copyOf(this.keys, capacity >>> 1);
+        int mask = capacity - 1;
+        for (int slot = 0; slot < this.size; slot++) {
+            int index = hash(this.keys[slot], mask);
+            while (this.table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            this.table[index] = slot + 1;
+        }
+    }
+    
+    private static int hash(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
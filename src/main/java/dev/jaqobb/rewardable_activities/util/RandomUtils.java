@@ -1,20 +1,79 @@
 package dev.jaqobb.rewardable_activities.util;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public final class RandomUtils {
     
-    private static final Random RANDOM = new Random();
+    private static final double BINOMIAL_INVERSION_LIMIT = 10.0D;
+    private static final int UNIFORM_SUM_LOOP_LIMIT = 16;
     
     private RandomUtils() {
         throw new UnsupportedOperationException("Cannot create instance of this class");
     }
     
     public static double getRandomDouble(double minimum, double maximum) {
-        return (RANDOM.nextDouble() * (maximum - minimum)) + minimum;
+        return getRandomDouble(ThreadLocalRandom.current(), minimum, maximum);
+    }
+    
+    public static double getRandomDouble(RandomGenerator random, double minimum, double maximum) {
+        return (random.nextDouble() * (maximum - minimum)) + minimum;
+    }
+    
+    public static double getRandomDoubleSum(double minimum, double maximum, int count) {
+        return getRandomDoubleSum(ThreadLocalRandom.current(), minimum, maximum, count);
+    }
+    
+    public static double getRandomDoubleSum(RandomGenerator random, double minimum, double maximum, int count) {
+        if (count <= 0) {
+            return 0.0D;
+        }
+        if (count <= UNIFORM_SUM_LOOP_LIMIT) {
+            double sum = 0.0D;
+            for (int index = 0; index < count; index++) {
+                sum += getRandomDouble(random, minimum, maximum);
+            }
+            return sum;
+        }
+        double mean = count * (minimum + maximum) / 2.0D;
+        double deviation = (maximum - minimum) * Math.sqrt(count / 12.0D);
+        double sum = mean + random.nextGaussian() * deviation;
+        return Math.max(count * minimum, Math.min(count * maximum, sum));
     }
     
     public static boolean chance(double chance) {
         return getRandomDouble(0.0D, 100.0D) <= chance;
     }
+    
+    public static int getBinomial(int trials, double probability) {
+        return getBinomial(ThreadLocalRandom.current(), trials, probability);
+    }
+    
+    public static int getBinomial(RandomGenerator random, int trials, double probability) {
+        if (trials <= 0 || probability <= 0.0D) {
+            return 0;
+        }
+        if (probability >= 1.0D) {
+            return trials;
+        }
+        if (probability > 0.5D) {
+            return trials - getBinomial(random, trials, 1.0D - probability);
+        }
+        double mean = trials * probability;
+        if (mean < BINOMIAL_INVERSION_LIMIT) {
+            double logFailure = Math.log1p(-probability);
+            int successes = 0;
+            long position = 0L;
+            while (true) {
+                position += (long) (Math.log(1.0D - random.nextDouble()) / logFailure) + 1L;
+                if (position > trials) {
+                    return successes;
+                }
+                successes++;
+            }
+        }
+        double deviation = Math.sqrt(mean * (1.0D - probability));
+        long successes = Math.round(mean + random.nextGaussian() * deviation);
+        return (int) Math.max(0L, Math.min(trials, successes));
+    }
 }
@@ -0,0 +1,36 @@
+package dev.jaqobb.rewardable_activities.util;
+
+import com.cryptomorin.xseries.XEntityType;
+import com.cryptomorin.xseries.XMaterial;
+import org.bukkit.Material;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+
+public final class XSeriesUtils {
+    
+    private static final XMaterial[] MATERIALS = new XMaterial[Material.values().length];
+    private static final XEntityType[] ENTITY_TYPES = new XEntityType[EntityType.values().length];
+    
+    private XSeriesUtils() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    public static XMaterial getMaterial(Material material) {
+        XMaterial xMaterial = MATERIALS[material.ordinal()];
+        if (xMaterial == null) {
+            xMaterial = XMaterial.matchXMaterial(material);
+            MATERIALS[material.ordinal()] = xMaterial;
+        }
+        return xMaterial;
+    }
+    
+    public static XEntityType getEntityType(Entity entity) {
+        EntityType entityType = entity.getType();
+        XEntityType xEntityType = ENTITY_TYPES[entityType.ordinal()];
+        if (xEntityType == null) {
+            xEntityType = XEntityType.of(entity);
+            ENTITY_TYPES[entityType.ordinal()] = xEntityType;
+        }
+        return xEntityType;
+    }
+}
@@ -0,0 +1,46 @@
+package dev.jaqobb.rewardable_activities;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+final class AllocationMeter {
+    
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+    
+    private AllocationMeter() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    static boolean isSupported() {
+        return THREAD_MX_BEAN != null;
+    }
+    
+    static double measure(Runnable task, int warmupIterations, int iterations, int rounds) {
+        for (int iteration = 0; iteration < warmupIterations; iteration++) {
+            task.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        double lowest = Double.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long start = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                task.run();
+            }
+            long end = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            long overhead = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - end;
+            lowest = Math.min(lowest, Math.max(0L, end - start - overhead) / (double) iterations);
+        }
+        return lowest;
+    }
+    
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean) || !sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return sunThreadMXBean;
+    }
+}
@@ -0,0 +1,132 @@
+package dev.jaqobb.rewardable_activities;
+
+import dev.jaqobb.rewardable_activities.listener.block.BlockFormListener;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.block.BlockFormEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockFormListenerTest {
+    
+    private static RewardableActivitiesPlugin plugin;
+    private static BlockFormListener listener;
+    
+    private World world;
+    private Map<List<Integer>, Material> types;
+    
+    @BeforeAll
+    static void setUp(@TempDir Path dataFolder) throws IOException {
+        plugin = TestServer.createPlugin(dataFolder);
+        listener = new BlockFormListener(plugin);
+    }
+    
+    @BeforeEach
+    void createWorld() {
+        this.world = TestServer.createWorld();
+        this.types = new HashMap<>();
+    }
+    
+    @Test
+    void cobblestoneFormedNextToOwnedLavaSourceIsOwned() {
+        this.setOwned(this.setBlock(Material.LAVA, -1, 64, 0));
+        this.setBlock(Material.WATER, 1, 64, 0);
+        Block block = this.setBlock(Material.LAVA, 0, 64, 0);
+        this.form(block, Material.COBBLESTONE);
+        assertTrue(this.isOwned(block));
+    }
+    
+    @Test
+    void stoneFormedBelowOwnedLavaSourceIsOwned() {
+        this.setOwned(this.setBlock(Material.LAVA, 0, 65, 0));
+        Block block = this.setBlock(Material.WATER, 0, 64, 0);
+        this.form(block, Material.STONE);
+        assertTrue(this.isOwned(block));
+    }
+    
+    @Test
+    void obsidianFormedFromOwnedLavaSourceStaysOwned() {
+        Block block = this.setOwned(this.setBlock(Material.LAVA, 0, 64, 0));
+        this.setBlock(Material.WATER, 0, 65, 0);
+        this.form(block, Material.OBSIDIAN);
+        assertTrue(this.isOwned(block));
+    }
+    
+    @Test
+    void cobblestoneFormedNextToNotOwnedLiquidsIsNotOwned() {
+        this.setOwned(this.setBlock(Material.LAVA, 8, 64, 8));
+        this.setBlock(Material.LAVA, -1, 64, 0);
+        this.setBlock(Material.WATER, 1, 64, 0);
+        Block block = this.setBlock(Material.LAVA, 0, 64, 0);
+        this.form(block, Material.COBBLESTONE);
+        assertFalse(this.isOwned(block));
+    }
+    
+    @Test
+    void cobblestoneFormedNextToOwnedSolidBlockIsNotOwned() {
+        this.setOwned(this.setBlock(Material.STONE, 0, 63, 0));
+        this.setBlock(Material.LAVA, -1, 64, 0);
+        this.setBlock(Material.WATER, 1, 64, 0);
+        Block block = this.setBlock(Material.LAVA, 0, 64, 0);
+        this.form(block, Material.COBBLESTONE);
+        assertFalse(this.isOwned(block));
+    }
+    
+    @Test
+    void snowFormedNextToOwnedWaterSourceIsNotOwned() {
+        this.setOwned(this.setBlock(Material.WATER, 0, 63, 0));
+        Block block = this.setBlock(Material.AIR, 0, 64, 0);
+        this.form(block, Material.SNOW);
+        assertFalse(this.isOwned(block));
+    }
+    
+    private Block setBlock(Material type, int x, int y, int z) {
+        this.types.put(List.of(x, y, z), type);
+        return this.getBlock(x, y, z);
+    }
+    
+    private Block setOwned(Block block) {
+        plugin.getBlockOwnershipStore().setOwned(block, true);
+        return block;
+    }
+    
+    private boolean isOwned(Block block) {
+        return plugin.getBlockOwnershipStore().isOwned(block);
+    }
+    
+    private void form(Block block, Material type) {
+        BlockState newState = Stubs.of(BlockState.class)
+            .answer("getType", type)
+            .answer("getBlock", block)
+            .build();
+        listener.onBlockForm(new BlockFormEvent(block, newState));
+    }
+    
+    private Block getBlock(int x, int y, int z) {
+        Material type = this.types.getOrDefault(List.of(x, y, z), Material.AIR);
+        return Stubs.of(Block.class)
+            .answer("getType", type)
+            .answer("isLiquid", type == Material.WATER || type == Material.LAVA)
+            .answer("getWorld", this.world)
+            .answer("getX", x)
+            .answer("getY", y)
+            .answer("getZ", z)
+            .answer("getRelative", arguments -> {
+                BlockFace face = (BlockFace) arguments[0];
+                return this.getBlock(x + face.getModX(), y + face.getModY(), z + face.getModZ());
+            })
+            .build();
+    }
+}
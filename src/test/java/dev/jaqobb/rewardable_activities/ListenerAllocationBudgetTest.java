@@ -0,0 +1,215 @@
+package dev.jaqobb.rewardable_activities;
+
+import dev.jaqobb.rewardable_activities.listener.block.BlockBreakListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockExplodeListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockPistonExtendListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockPistonRetractListener;
+import dev.jaqobb.rewardable_activities.listener.block.BlockPlaceListener;
+import dev.jaqobb.rewardable_activities.listener.entity.EntityDamageByEntityListener;
+import dev.jaqobb.rewardable_activities.listener.entity.EntityExplodeListener;
+import dev.jaqobb.rewardable_activities.listener.player.PlayerFishListener;
+import org.bukkit.ExplosionResult;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Creeper;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.FishHook;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Skeleton;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerFishEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListenerAllocationBudgetTest {
+    
+    private static final int WARMUP_ITERATIONS = 50000;
+    private static final int ITERATIONS = 20000;
+    private static final int ROUNDS = 5;
+    private static final long LOOKUP_BUDGET = 0L;
+    private static final long SELECTION_BUDGET = 256L;
+    private static final int EXPLOSION_SIZE = 64;
+    
+    private static RewardableActivitiesPlugin plugin;
+    private static Player player;
+    
+    @BeforeAll
+    static void setUp(@TempDir Path dataFolder) throws IOException {
+        Assumptions.assumeTrue(AllocationMeter.isSupported(), "Allocation measurement is not supported by this JVM");
+        plugin = TestServer.createPlugin(dataFolder);
+        player = Stubs.of(Player.class)
+            .answer("getUniqueId", UUID.randomUUID())
+            .answer("getName", "Player")
+            .build();
+    }
+    
+    @Test
+    void blockBreakOfNotConfiguredBlock() {
+        BlockBreakListener listener = new BlockBreakListener(plugin);
+        BlockBreakEvent event = new BlockBreakEvent(createBlock(TestServer.createWorld(), Material.DIRT, 0, 64, 0), player);
+        assertWithinBudget("block break of not configured block", LOOKUP_BUDGET, () -> listener.onBlockBreak(event));
+    }
+    
+    @Test
+    void blockBreakOfConfiguredBlock() {
+        BlockBreakListener listener = new BlockBreakListener(plugin);
+        BlockBreakEvent event = new BlockBreakEvent(createBlock(TestServer.createWorld(), Material.STONE, 0, 64, 0), player);
+        assertWithinBudget("block break of configured block", SELECTION_BUDGET, () -> listener.onBlockBreak(event));
+    }
+    
+    @Test
+    void blockPlaceOfNotConfiguredBlock() {
+        BlockPlaceListener listener = new BlockPlaceListener(plugin);
+        BlockPlaceEvent event = createBlockPlaceEvent(createBlock(TestServer.createWorld(), Material.DIRT, 0, 64, 0));
+        assertWithinBudget("block place of not configured block", LOOKUP_BUDGET, () -> listener.onBlockPlace(event));
+    }
+    
+    @Test
+    void blockPlaceOfConfiguredBlock() {
+        BlockPlaceListener listener = new BlockPlaceListener(plugin);
+        BlockPlaceEvent event = createBlockPlaceEvent(createBlock(TestServer.createWorld(), Material.STONE, 0, 64, 0));
+        assertWithinBudget("block place of configured block", SELECTION_BUDGET, () -> listener.onBlockPlace(event));
+    }
+    
+    @Test
+    void entityDamageOfNotConfiguredEntity() {
+        EntityDamageByEntityListener listener = new EntityDamageByEntityListener(plugin);
+        EntityDamageByEntityEvent event = createEntityDamageByEntityEvent(createLivingEntity(Skeleton.class, EntityType.SKELETON, TestServer.createWorld(), 1));
+        assertWithinBudget("entity damage of not configured entity", LOOKUP_BUDGET, () -> listener.onEntityDamageByEntity(event));
+    }
+    
+    @Test
+    void entityDamageOfConfiguredEntity() {
+        EntityDamageByEntityListener listener = new EntityDamageByEntityListener(plugin);
+        EntityDamageByEntityEvent event = createEntityDamageByEntityEvent(createLivingEntity(Zombie.class, EntityType.ZOMBIE, TestServer.createWorld(), 2));
+        assertWithinBudget("entity damage of configured entity", LOOKUP_BUDGET, () -> listener.onEntityDamageByEntity(event));
+    }
+    
+    @Test
+    void fishingOfNotConfiguredItem() {
+        PlayerFishListener listener = new PlayerFishListener(plugin);
+        PlayerFishEvent event = createPlayerFishEvent(TestServer.createWorld(), Material.SALMON);
+        assertWithinBudget("fishing of not configured item", LOOKUP_BUDGET, () -> listener.onPlayerFish(event));
+    }
+    
+    @Test
+    void fishingOfConfiguredItem() {
+        PlayerFishListener listener = new PlayerFishListener(plugin);
+        PlayerFishEvent event = createPlayerFishEvent(TestServer.createWorld(), Material.COD);
+        assertWithinBudget("fishing of configured item", SELECTION_BUDGET, () -> listener.onPlayerFish(event));
+    }
+    
+    @Test
+    void pistonExtendOfNotOwnedBlocks() {
+        BlockPistonExtendListener listener = new BlockPistonExtendListener(plugin);
+        World world = TestServer.createWorld();
+        BlockPistonExtendEvent event = new BlockPistonExtendEvent(createBlock(world, Material.PISTON, 0, 64, 0), createBlocks(world, 12), BlockFace.UP);
+        assertWithinBudget("piston extend of not owned blocks", LOOKUP_BUDGET, () -> listener.onBlockPistonExtend(event));
+    }
+    
+    @Test
+    void pistonRetractOfNotOwnedBlocks() {
+        BlockPistonRetractListener listener = new BlockPistonRetractListener(plugin);
+        World world = TestServer.createWorld();
+        BlockPistonRetractEvent event = new BlockPistonRetractEvent(createBlock(world, Material.STICKY_PISTON, 0, 64, 0), createBlocks(world, 1), BlockFace.UP);
+        assertWithinBudget("piston retract of not owned blocks", LOOKUP_BUDGET, () -> listener.onBlockPistonRetract(event));
+    }
+    
+    @Test
+    void blockExplosionInWorldWithoutOwnedBlocks() {
+        BlockExplodeListener listener = new BlockExplodeListener(plugin);
+        World world = TestServer.createWorld();
+        BlockExplodeEvent event = new BlockExplodeEvent(createBlock(world, Material.RESPAWN_ANCHOR, 0, 64, 0), null, createBlocks(world, EXPLOSION_SIZE), 1.0F, ExplosionResult.DESTROY);
+        assertWithinBudget("block explosion in world without owned blocks", LOOKUP_BUDGET, () -> listener.onBlockExplode(event));
+    }
+    
+    @Test
+    void entityExplosionInWorldWithoutOwnedBlocks() {
+        EntityExplodeListener listener = new EntityExplodeListener(plugin);
+        World world = TestServer.createWorld();
+        Location location = new Location(world, 0.0D, 64.0D, 0.0D);
+        EntityExplodeEvent event = new EntityExplodeEvent(createLivingEntity(Creeper.class, EntityType.CREEPER, world, 3), location, createBlocks(world, EXPLOSION_SIZE), 1.0F, ExplosionResult.DESTROY);
+        assertWithinBudget("entity explosion in world without owned blocks", LOOKUP_BUDGET, () -> listener.onEntityExplode(event));
+    }
+    
+    private static void assertWithinBudget(String path, long budget, Runnable event) {
+        double bytesPerEvent = AllocationMeter.measure(event, WARMUP_ITERATIONS, ITERATIONS, ROUNDS);
+        assertTrue(bytesPerEvent < budget + 1.0D, () -> path + " allocated " + String.format("%.1f", bytesPerEvent) + " B per event, the budget is " + budget + " B");
+    }
+    
+    private static Block createBlock(World world, Material type, int x, int y, int z) {
+        return Stubs.of(Block.class)
+            .answer("getType", type)
+            .answer("getWorld", world)
+            .answer("getX", x)
+            .answer("getY", y)
+            .answer("getZ", z)
+            .build();
+    }
+    
+    private static List<Block> createBlocks(World world, int amount) {
+        List<Block> blocks = new ArrayList<>(amount);
+        for (int index = 0; index < amount; index++) {
+            blocks.add(createBlock(world, Material.STONE, index % 4, 60 + index / 16, index / 4 % 4));
+        }
+        return blocks;
+    }
+    
+    private static <T extends LivingEntity> T createLivingEntity(Class<T> type, EntityType entityType, World world, int entityId) {
+        return Stubs.of(type)
+            .answer("getType", entityType)
+            .answer("getWorld", world)
+            .answer("getEntityId", entityId)
+            .answer("getUniqueId", UUID.randomUUID())
+            .answer("getHealth", 20.0D)
+            .build();
+    }
+    
+    private static BlockPlaceEvent createBlockPlaceEvent(Block block) {
+        return new BlockPlaceEvent(block, null, block, null, player, true, EquipmentSlot.HAND);
+    }
+    
+    private static EntityDamageByEntityEvent createEntityDamageByEntityEvent(LivingEntity victim) {
+        DamageSource damageSource = Stubs.of(DamageSource.class)
+            .answer("getCausingEntity", player)
+            .answer("getDirectEntity", player)
+            .build();
+        return new EntityDamageByEntityEvent(player, victim, EntityDamageEvent.DamageCause.ENTITY_ATTACK, damageSource, 4.0D);
+    }
+    
+    private static PlayerFishEvent createPlayerFishEvent(World world, Material type) {
+        ItemStack itemStack = new ItemStack(type);
+        Location location = new Location(world, 0.0D, 62.0D, 0.0D);
+        Item caught = Stubs.of(Item.class)
+            .answer("getItemStack", itemStack)
+            .answer("getLocation", location)
+            .answer("getWorld", world)
+            .build();
+        FishHook hook = Stubs.of(FishHook.class).build();
+        return new PlayerFishEvent(player, caught, hook, PlayerFishEvent.State.CAUGHT_FISH);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.jaqobb.rewardable_activities;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+final class Stubs {
+    
+    private static final Double DOUBLE_ZERO = 0.0D;
+    private static final Float FLOAT_ZERO = 0.0F;
+    
+    private Stubs() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+    
+    private static Object getDefaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == double.class) {
+            return DOUBLE_ZERO;
+        }
+        if (type == float.class) {
+            return FLOAT_ZERO;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return 0;
+    }
+    
+    @FunctionalInterface
+    interface Answer {
+        
+        Object answer(Object[] arguments);
+    }
+    
+    static final class Builder<T> {
+        
+        private final Class<T> type;
+        private final Map<String, Object> answers;
+        
+        private Builder(Class<T> type) {
+            this.type = type;
+            this.answers = new HashMap<>(16);
+        }
+        
+        Builder<T> answer(String method, Object value) {
+            this.answers.put(method, value);
+            return this;
+        }
+        
+        Builder<T> answer(String method, Answer answer) {
+            this.answers.put(method, answer);
+            return this;
+        }
+        
+        T build() {
+            Handler handler = new Handler(this.type.getSimpleName() + " stub", Map.copyOf(this.answers));
+            return this.type.cast(Proxy.newProxyInstance(this.type.getClassLoader(), new Class<?>[] {this.type}, handler));
+        }
+    }
+    
+    private record Handler(String name, Map<String, Object> answers) implements InvocationHandler {
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            Object answer = this.answers.get(method.getName());
+            if (answer instanceof Answer dynamicAnswer) {
+                return dynamicAnswer.answer(arguments);
+            }
+            if (answer != null) {
+                return answer;
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == arguments[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> this.name;
+                default -> getDefaultValue(method.getReturnType());
+            };
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.jaqobb.rewardable_activities;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+final class TestServer {
+    
+    private TestServer() {
+        throw new UnsupportedOperationException("Cannot create instance of this class");
+    }
+    
+    static RewardableActivitiesPlugin createPlugin(Path dataFolder) throws IOException {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(createServer());
+        }
+        try (InputStream config = TestServer.class.getResourceAsStream("/test-config.yml")) {
+            Files.copy(config, dataFolder.resolve("config.yml"));
+        }
+        PluginDescriptionFile description = new PluginDescriptionFile("RewardableActivities", "test", RewardableActivitiesPlugin.class.getName());
+        RewardableActivitiesPlugin plugin = new RewardableActivitiesPlugin(new JavaPluginLoader(Bukkit.getServer()), description, dataFolder.toFile(), dataFolder.resolve("RewardableActivities.jar").toFile());
+        plugin.onLoad();
+        return plugin;
+    }
+    
+    static World createWorld() {
+        UUID uniqueId = UUID.randomUUID();
+        return Stubs.of(World.class)
+            .answer("getUID", uniqueId)
+            .answer("getName", "world-" + uniqueId)
+            .build();
+    }
+    
+    private static Server createServer() {
+        Logger logger = Logger.getLogger("RewardableActivitiesTest");
+        PluginManager pluginManager = Stubs.of(PluginManager.class).build();
+        Registry<?> registry = Stubs.of(Registry.class)
+            .answer("iterator", arguments -> Collections.emptyIterator())
+            .answer("stream", arguments -> Stream.empty())
+            .build();
+        return Stubs.of(Server.class)
+            .answer("getName", "Stub")
+            .answer("getVersion", "1.21.3-R0.1-SNAPSHOT (MC: 1.21.3)")
+            .answer("getBukkitVersion", "1.21.3-R0.1-SNAPSHOT")
+            .answer("getLogger", logger)
+            .answer("getPluginManager", pluginManager)
+            .answer("getRegistry", registry)
+            .answer("getOnlinePlayers", List.of())
+            .build();
+    }
+}
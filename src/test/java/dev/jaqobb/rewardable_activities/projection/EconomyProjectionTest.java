@@ -0,0 +1,43 @@
+package dev.jaqobb.rewardable_activities.projection;
+
+import dev.jaqobb.rewardable_activities.data.RewardableActivityReward;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EconomyProjectionTest {
+    
+    private static final int HOURS = 64;
+    
+    @Test
+    void activityWithoutThresholdDrawsOncePerAction() {
+        EconomyProjection projection = new EconomyProjection(List.of(createEntry(3600, 1)), HOURS, 1L);
+        assertEquals(3600L * HOURS, projection.getDraws());
+        EconomyProjection.Result result = projection.run(2).get(0);
+        assertEquals(3600.0D, result.mean());
+        assertEquals(3600.0D, result.percentile99());
+    }
+    
+    @Test
+    void activityWithThresholdDrawsOncePerThresholdCrossing() {
+        EconomyProjection projection = new EconomyProjection(List.of(createEntry(3600, 64)), HOURS, 1L);
+        assertEquals(3600L, projection.getDraws());
+        EconomyProjection.Result result = projection.run(2).get(0);
+        assertEquals(56.25D, result.mean());
+        assertEquals(56.0D, result.median());
+        assertEquals(57.0D, result.percentile99());
+    }
+    
+    @Test
+    void thresholdRemainderIsKeptBetweenHours() {
+        EconomyProjection projection = new EconomyProjection(List.of(createEntry(10, 64)), HOURS, 1L);
+        assertEquals(10L, projection.getDraws());
+        EconomyProjection.Result total = projection.run(2).get(1);
+        assertEquals(10.0D / HOURS, total.mean());
+    }
+    
+    private static EconomyProjection.Entry createEntry(int perHour, int threshold) {
+        RewardableActivityReward reward = new RewardableActivityReward("block.break.stone", 0, "default", 100.0D, 1.0D, 1.0D, List.of(), List.of(), null, threshold);
+        return new EconomyProjection.Entry("block.break.stone", List.of(reward), perHour, threshold);
+    }
+}
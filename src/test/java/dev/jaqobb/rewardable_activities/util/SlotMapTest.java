@@ -0,0 +1,132 @@
+package dev.jaqobb.rewardable_activities.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlotMapTest {
+    
+    private static final int OPERATIONS = 200000;
+    
+    @Test
+    void longSlotMapMatchesHashMap() {
+        SplittableRandom random = new SplittableRandom(1L);
+        LongSlotMap map = new LongSlotMap();
+        long[] values = new long[map.capacity()];
+        Map<Long, Long> expected = new HashMap<>();
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            long key = (random.nextInt(512) - 256L) << (random.nextBoolean() ? 0 : 32);
+            if (random.nextInt(3) == 0) {
+                int slot = map.remove(key);
+                assertEquals(expected.remove(key) != null, slot != -1);
+                if (slot != -1) {
+                    values[slot] = values[map.size()];
+                    values[map.size()] = 0L;
+                }
+            } else {
+                int slot = map.put(key);
+                if (slot >= values.length) {
+                    values = Arrays.copyOf(values, map.capacity());
+                }
+                values[slot] = operation;
+                expected.put(key, (long) operation);
+            }
+            if (values.length > map.capacity()) {
+                values = Arrays.copyOf(values, map.capacity());
+            }
+            if (operation % 1000 == 0) {
+                assertLongSlotMap(expected, map, values);
+            }
+        }
+        assertLongSlotMap(expected, map, values);
+        for (Long key : Map.copyOf(expected).keySet()) {
+            map.remove(key);
+            expected.remove(key);
+        }
+        assertLongSlotMap(expected, map, values);
+        assertEquals(8, map.capacity());
+    }
+    
+    @Test
+    void intSlotMapMatchesHashMap() {
+        SplittableRandom random = new SplittableRandom(2L);
+        IntSlotMap map = new IntSlotMap();
+        int[] values = new int[map.capacity()];
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            int key = (random.nextInt(512) - 256) << (random.nextBoolean() ? 0 : 16);
+            if (random.nextInt(3) == 0) {
+                int slot = map.remove(key);
+                assertEquals(expected.remove(key) != null, slot != -1);
+                if (slot != -1) {
+                    values[slot] = values[map.size()];
+                    values[map.size()] = 0;
+                }
+            } else {
+                int slot = map.put(key);
+                if (slot >= values.length) {
+                    values = Arrays.copyOf(values, map.capacity());
+                }
+                values[slot] = operation;
+                expected.put(key, operation);
+            }
+            if (values.length > map.capacity()) {
+                values = Arrays.copyOf(values, map.capacity());
+            }
+            if (operation % 1000 == 0) {
+                assertIntSlotMap(expected, map, values);
+            }
+        }
+        assertIntSlotMap(expected, map, values);
+    }
+    
+    @Test
+    void removingKeysWithTheSameHomeKeepsTheRestReachable() {
+        LongSlotMap map = new LongSlotMap(64);
+        long[] keys = new long[24];
+        int found = 0;
+        for (long key = 0L; found < keys.length; key++) {
+            if (home(key, 127) == 120) {
+                keys[found++] = key;
+            }
+        }
+        for (long key : keys) {
+            map.put(key);
+        }
+        for (int index = 0; index < keys.length; index += 2) {
+            map.remove(keys[index]);
+        }
+        for (int index = 0; index < keys.length; index++) {
+            assertEquals(index % 2 == 1, map.get(keys[index]) != -1);
+        }
+        for (int slot = 0; slot < map.size(); slot++) {
+            assertEquals(slot, map.get(map.getKey(slot)));
+        }
+    }
+    
+    private static int home(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    private static void assertLongSlotMap(Map<Long, Long> expected, LongSlotMap map, long[] values) {
+        assertEquals(expected.size(), map.size());
+        for (int slot = 0; slot < map.size(); slot++) {
+            long key = map.getKey(slot);
+            assertEquals(slot, map.get(key));
+            assertEquals(expected.get(key), values[slot]);
+        }
+    }
+    
+    private static void assertIntSlotMap(Map<Integer, Integer> expected, IntSlotMap map, int[] values) {
+        assertEquals(expected.size(), map.size());
+        for (int slot = 0; slot < map.size(); slot++) {
+            int key = map.getKey(slot);
+            assertEquals(slot, map.get(key));
+            assertEquals(expected.get(key), values[slot]);
+        }
+    }
+}